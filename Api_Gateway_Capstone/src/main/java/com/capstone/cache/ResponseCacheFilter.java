@@ -0,0 +1,352 @@
+package com.capstone.cache;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.capstone.security.IdentityHeader;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Serves repeated GETs on the routes in gateway.response-cache.routes from memory instead of forwarding them.
+// Entries are keyed by route, path and query, the caller's roles and whether the body is gzipped, and are bounded
+// by total bytes rather than count. Freshness follows the service's Cache-Control (s-maxage, then max-age, else
+// gateway.response-cache.ttl-seconds); no-store, no-cache and private responses and anything with Set-Cookie are
+// never stored. A matching If-None-Match is answered with 304, using the service's ETag or one computed from the body.
+// A PUT, POST, PATCH or DELETE through a cached route drops every entry of that route; writes that bypass this
+// gateway instance are only picked up once the entries expire, so keep the default TTL short.
+// Only requests carrying a verified X-Auth-Identity are cached, so the service has already had its say on access.
+// Lookups are counted in gateway.response.cache.requests by route and result (hit, not_modified, miss, bypass).
+@Component
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    private static final Set<HttpMethod> WRITES = Set.of(HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH, HttpMethod.DELETE);
+
+    // Hop-by-hop and per-response headers that are not replayed from the cache
+    private static final Set<String> UNCACHED_HEADERS = Set.of(HttpHeaders.CONNECTION, HttpHeaders.TRANSFER_ENCODING,
+            "Keep-Alive", HttpHeaders.CONTENT_LENGTH, HttpHeaders.DATE, HttpHeaders.AGE);
+
+    @Autowired
+    private IdentityHeader identityHeader;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${gateway.response-cache.routes:}")
+    private List<String> routes = List.of();
+
+    // Upper bound on the bytes held by all entries together, bodies and headers
+    @Value("${gateway.response-cache.maximum-bytes:67108864}")
+    private long maximumBytes = 67108864;
+
+    // Larger responses are streamed through without being copied
+    @Value("${gateway.response-cache.maximum-entry-bytes:1048576}")
+    private int maximumEntryBytes = 1048576;
+
+    // Freshness of a response whose Cache-Control does not give one
+    @Value("${gateway.response-cache.ttl-seconds:30}")
+    private long ttlSeconds = 30;
+
+    private Cache<CacheKey, CachedResponse> cache;
+
+    // Bumped by every write through a route; a response fetched across a write is not stored
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((CacheKey key, CachedResponse value) -> key.weight() + value.weight())
+                .expireAfter(new CachedResponseExpiry())
+                .build();
+        Gauge.builder("gateway.response.cache.size", cache, c -> c.policy().eviction()
+                        .map(eviction -> eviction.weightedSize().orElse(0))
+                        .orElse(0L))
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null || !routes.contains(route.getId())) {
+            return chain.filter(exchange);
+        }
+        String routeId = route.getId();
+        ServerHttpRequest request = exchange.getRequest();
+        if (WRITES.contains(request.getMethod())) {
+            // Dropped before and after, so a GET racing the write neither serves nor stores the old state
+            invalidate(routeId);
+            return chain.filter(exchange).doFinally(signal -> invalidate(routeId));
+        }
+        if (request.getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+        IdentityHeader.Identity identity = identityHeader.verify(request.getHeaders().getFirst(IdentityHeader.NAME));
+        String requestCacheControl = String.valueOf(request.getHeaders().getCacheControl()).toLowerCase();
+        if (identity == null || requestCacheControl.contains("no-store")) {
+            count(routeId, "bypass");
+            return chain.filter(exchange);
+        }
+
+        CacheKey key = new CacheKey(routeId, request.getURI().getRawPath(), request.getURI().getRawQuery(),
+                identity.roles().stream().sorted().collect(Collectors.joining(",")), acceptsGzip(request));
+        // no-cache from the caller skips the lookup but still refreshes the entry
+        CachedResponse cached = requestCacheControl.contains("no-cache") ? null : cache.getIfPresent(key);
+        if (cached != null) {
+            return replay(exchange, cached);
+        }
+        count(routeId, "miss");
+        long generation = generation(routeId).get();
+        return chain.filter(exchange.mutate().response(new CapturingResponse(exchange.getResponse(), key, generation)).build());
+    }
+
+    // After JwtVerificationFilter, whose identity header carries the roles, and before the response is written
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+
+    private Mono<Void> replay(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().putAll(cached.headers());
+        response.getHeaders().set(HttpHeaders.AGE, String.valueOf(
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - cached.storedAt())));
+        // Weak comparison, as RFC 9110 asks for If-None-Match
+        boolean notModified = exchange.getRequest().getHeaders().getIfNoneMatch().stream()
+                .anyMatch(tag -> tag.equals("*") || opaque(tag).equals(opaque(cached.etag())));
+        if (notModified) {
+            count(cached.route(), "not_modified");
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+        count(cached.route(), "hit");
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    private void store(CacheKey key, long generation, HttpHeaders headers, byte[] body) {
+        if (headers.containsKey(HttpHeaders.SET_COOKIE)) {
+            return;
+        }
+        long freshNanos = freshness(headers.getCacheControl());
+        if (freshNanos <= 0 || generation(key.route()).get() != generation) {
+            return;
+        }
+        HttpHeaders stored = new HttpHeaders();
+        headers.forEach((name, values) -> {
+            if (UNCACHED_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+                stored.put(name, List.copyOf(values));
+            }
+        });
+        String etag = headers.getETag();
+        if (etag == null) {
+            etag = "\"" + digest(body) + "\"";
+            stored.setETag(etag);
+        }
+        cache.put(key, new CachedResponse(key.route(), HttpHeaders.readOnlyHttpHeaders(stored), body, etag,
+                System.nanoTime(), freshNanos));
+    }
+
+    // Zero means the response must not be stored
+    private long freshness(String cacheControl) {
+        long seconds = ttlSeconds;
+        if (cacheControl != null) {
+            String directives = cacheControl.toLowerCase();
+            if (directives.contains("no-store") || directives.contains("no-cache") || directives.contains("private")) {
+                return 0;
+            }
+            Long maxAge = directive(directives, "s-maxage");
+            if (maxAge == null) {
+                maxAge = directive(directives, "max-age");
+            }
+            if (maxAge != null) {
+                seconds = maxAge;
+            }
+        }
+        return TimeUnit.SECONDS.toNanos(Math.max(0, seconds));
+    }
+
+    private static Long directive(String directives, String name) {
+        for (String directive : directives.split(",")) {
+            String[] parts = directive.trim().split("=", 2);
+            if (parts.length == 2 && parts[0].equals(name)) {
+                try {
+                    return Long.parseLong(parts[1].trim().replace("\"", ""));
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void invalidate(String route) {
+        generation(route).incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> key.route().equals(route));
+    }
+
+    private AtomicLong generation(String route) {
+        return generations.computeIfAbsent(route, id -> new AtomicLong());
+    }
+
+    private void count(String route, String result) {
+        Counter.builder("gateway.response.cache.requests")
+                .tag("route", route)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String opaque(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    // The gateway forwards Accept-Encoding, so a service with server.compression on answers gzip to some callers only
+    private static boolean acceptsGzip(ServerHttpRequest request) {
+        return request.getHeaders().getOrEmpty(HttpHeaders.ACCEPT_ENCODING).stream()
+                .anyMatch(value -> value.toLowerCase().contains("gzip"));
+    }
+
+    private static String digest(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            // Every JRE is required to provide SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Passes the body through as it streams and keeps a copy, up to maximumEntryBytes, to store once it completes
+    private class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final CacheKey key;
+
+        private final long generation;
+
+        CapturingResponse(ServerHttpResponse delegate, CacheKey key, long generation) {
+            super(delegate);
+            this.key = key;
+            this.generation = generation;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            long contentLength = getHeaders().getContentLength();
+            if (!HttpStatus.OK.equals(getStatusCode()) || contentLength > maximumEntryBytes) {
+                return super.writeWith(body);
+            }
+            List<byte[]> chunks = new ArrayList<>();
+            long[] size = { 0 };
+            Flux<? extends DataBuffer> copying = Flux.from(body)
+                    .doOnNext(buffer -> {
+                        int length = buffer.readableByteCount();
+                        size[0] += length;
+                        if (size[0] <= maximumEntryBytes) {
+                            byte[] chunk = new byte[length];
+                            buffer.toByteBuffer(buffer.readPosition(), ByteBuffer.wrap(chunk), 0, length);
+                            chunks.add(chunk);
+                        } else {
+                            chunks.clear();
+                        }
+                    })
+                    .doOnComplete(() -> {
+                        if (size[0] <= maximumEntryBytes) {
+                            store(key, generation, getHeaders(), concat(chunks, (int) size[0]));
+                        }
+                    });
+            return super.writeWith(copying);
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            // Streamed responses are not cached
+            return super.writeAndFlushWith(body);
+        }
+
+        private static byte[] concat(List<byte[]> chunks, int size) {
+            byte[] body = new byte[size];
+            int offset = 0;
+            for (byte[] chunk : chunks) {
+                System.arraycopy(chunk, 0, body, offset, chunk.length);
+                offset += chunk.length;
+            }
+            return body;
+        }
+    }
+
+    private record CacheKey(String route, String path, String query, String roles, boolean gzip) {
+
+        int weight() {
+            return 2 * (route.length() + path.length() + (query == null ? 0 : query.length()) + roles.length()) + 64;
+        }
+    }
+
+    // storedAt and freshNanos are System.nanoTime based, like Caffeine's own clock
+    private record CachedResponse(String route, HttpHeaders headers, byte[] body, String etag, long storedAt,
+            long freshNanos) {
+
+        int weight() {
+            int headerBytes = headers.entrySet().stream()
+                    .mapToInt(header -> header.getKey().length()
+                            + header.getValue().stream().mapToInt(String::length).sum())
+                    .sum();
+            return body.length + 2 * headerBytes + 128;
+        }
+    }
+
+    private static class CachedResponseExpiry implements Expiry<CacheKey, CachedResponse> {
+
+        @Override
+        public long expireAfterCreate(CacheKey key, CachedResponse value, long currentTime) {
+            return value.freshNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(CacheKey key, CachedResponse value, long currentTime, long currentDuration) {
+            return value.freshNanos();
+        }
+
+        @Override
+        public long expireAfterRead(CacheKey key, CachedResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
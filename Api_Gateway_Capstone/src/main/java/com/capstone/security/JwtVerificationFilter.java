@@ -0,0 +1,152 @@
+package com.capstone.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import reactor.core.publisher.Mono;
+
+// Verifies the bearer token once at the edge and forwards a signed X-Auth-Identity header,
+// so the services behind the gateway do not each repeat the JWT verification.
+// Verified tokens are cached by digest until they expire. Any identity header sent by the client is dropped.
+@Component
+public class JwtVerificationFilter implements GlobalFilter, Ordered {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtVerificationFilter.class);
+
+    private static final String BEARER = "Bearer ";
+
+    @Autowired
+    private IdentityHeader identityHeader;
+
+    // Same base64 HS512 key as jwt.secret in the services that issue tokens
+    @Value("${jwt.secret:}")
+    private String jwtSecret = "";
+
+    @Value("${gateway.jwt-cache.maximum-size:10000}")
+    private long maximumSize = 10000;
+
+    private JwtParser parser;
+
+    private Cache<String, VerifiedToken> cache;
+
+    @PostConstruct
+    public void init() {
+        if (jwtSecret != null && !jwtSecret.isBlank()) {
+            parser = Jwts.parserBuilder()
+                    .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret.trim())))
+                    .build();
+        }
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new VerifiedTokenExpiry())
+                .build();
+        if (parser == null || !identityHeader.isEnabled()) {
+            logger.info("jwt.secret or gateway.identity.secret not set, bearer tokens are passed through unverified");
+        }
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String authorization = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        String identity = null;
+        if (parser != null && identityHeader.isEnabled() && authorization != null && authorization.startsWith(BEARER)) {
+            String token = authorization.substring(BEARER.length());
+            try {
+                identity = cache.get(digest(token), key -> verify(token)).identity();
+            } catch (JwtException | IllegalArgumentException e) {
+                logger.info("Rejected bearer token: {}", e.getMessage());
+                exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+                return exchange.getResponse().setComplete();
+            }
+        }
+        String forwarded = identity;
+        ServerWebExchange mutated = exchange.mutate()
+                .request(request -> request.headers(headers -> {
+                    headers.remove(IdentityHeader.NAME);
+                    if (forwarded != null) {
+                        headers.set(IdentityHeader.NAME, forwarded);
+                    }
+                }))
+                .build();
+        return chain.filter(mutated);
+    }
+
+    // Before routing, so the header is in place when the request is forwarded
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private VerifiedToken verify(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        if (claims.getSubject() == null || claims.getExpiration() == null) {
+            throw new IllegalArgumentException("Token has no subject or expiration");
+        }
+        List<?> roles = claims.get("roles", List.class);
+        List<String> roleNames = roles == null
+                ? List.of()
+                : roles.stream().map(String::valueOf).collect(Collectors.toList());
+        long expiresAt = claims.getExpiration().getTime() / 1000;
+        return new VerifiedToken(identityHeader.sign(claims.getSubject(), roleNames, expiresAt), expiresAt);
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // Every JRE is required to provide SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(String identity, long expiresAt) {
+    }
+
+    private static class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.expiresAt() * 1000 - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.capstone;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+class InternalRouteTest {
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Test
+	void internalEndpointsAreNotRouted() {
+		webTestClient.delete().uri("/employee-capstone/internal/cache/departments")
+				.exchange()
+				.expectStatus().isNotFound();
+		webTestClient.delete().uri("/employee-capstone/internal/cache/departments/VG-001")
+				.exchange()
+				.expectStatus().isNotFound();
+	}
+
+}
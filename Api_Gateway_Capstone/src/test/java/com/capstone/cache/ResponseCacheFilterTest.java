@@ -0,0 +1,144 @@
+package com.capstone.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.capstone.security.IdentityHeader;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+public class ResponseCacheFilterTest {
+
+    private static final String ROUTE = "department-capstone";
+
+    private ResponseCacheFilter filter;
+
+    private IdentityHeader identityHeader;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private final AtomicInteger forwarded = new AtomicInteger();
+
+    @BeforeEach
+    public void setup() {
+        identityHeader = new IdentityHeader();
+        ReflectionTestUtils.setField(identityHeader, "identitySecret",
+                Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8)));
+        identityHeader.init();
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ResponseCacheFilter();
+        ReflectionTestUtils.setField(filter, "identityHeader", identityHeader);
+        ReflectionTestUtils.setField(filter, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(filter, "routes", List.of(ROUTE));
+        filter.init();
+    }
+
+    @Test
+    @DisplayName("Test for serving a repeated GET from the cache and answering If-None-Match with 304...")
+    public void givenCachedResponse_whenGetAgain_thenServeWithoutForwarding() {
+        MockServerWebExchange first = get("/department-capstone/departments/1", "ROLE_ADMIN");
+        filter.filter(first, chain("{\"id\":1}", null)).block();
+        MockServerWebExchange second = get("/department-capstone/departments/1", "ROLE_ADMIN");
+        filter.filter(second, chain("{\"id\":2}", null)).block();
+
+        assertThat(forwarded.get()).isEqualTo(1);
+        assertThat(second.getResponse().getBodyAsString().block()).isEqualTo("{\"id\":1}");
+        // The service sent no ETag, so the cached copy carries one computed from the body
+        String etag = second.getResponse().getHeaders().getETag();
+        assertThat(etag).isNotNull();
+
+        MockServerWebExchange revalidated = exchange(MockServerHttpRequest.get("/department-capstone/departments/1")
+                .header(IdentityHeader.NAME, identity("ROLE_ADMIN"))
+                .header(HttpHeaders.IF_NONE_MATCH, etag));
+        filter.filter(revalidated, chain("{\"id\":3}", null)).block();
+
+        assertThat(revalidated.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(forwarded.get()).isEqualTo(1);
+        assertThat(count("hit")).isEqualTo(1.0);
+        assertThat(count("not_modified")).isEqualTo(1.0);
+        assertThat(count("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Test for keeping separate entries per role and not caching no-store or unauthenticated requests...")
+    public void givenDifferentRolesOrNoStore_whenGet_thenForwardEachTime() {
+        filter.filter(get("/department-capstone/departments", "ROLE_ADMIN"), chain("[1]", null)).block();
+        filter.filter(get("/department-capstone/departments", "ROLE_USER"), chain("[2]", null)).block();
+        filter.filter(get("/department-capstone/departments/2", "ROLE_ADMIN"), chain("{}", "no-store")).block();
+        filter.filter(get("/department-capstone/departments/2", "ROLE_ADMIN"), chain("{}", "no-store")).block();
+        filter.filter(exchange(MockServerHttpRequest.get("/department-capstone/departments")), chain("[3]", null)).block();
+
+        assertThat(forwarded.get()).isEqualTo(5);
+        assertThat(count("bypass")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Test for dropping the route's entries when a write goes through it...")
+    public void givenCachedResponse_whenPutThroughRoute_thenForwardNextGet() {
+        filter.filter(get("/department-capstone/departments/1", "ROLE_ADMIN"), chain("{\"name\":\"Old\"}", null)).block();
+        filter.filter(exchange(MockServerHttpRequest.put("/department-capstone/departments/1")
+                .header(IdentityHeader.NAME, identity("ROLE_ADMIN"))), chain("{\"name\":\"New\"}", null)).block();
+        MockServerWebExchange after = get("/department-capstone/departments/1", "ROLE_ADMIN");
+        filter.filter(after, chain("{\"name\":\"New\"}", null)).block();
+
+        assertThat(forwarded.get()).isEqualTo(3);
+        assertThat(after.getResponse().getBodyAsString().block()).isEqualTo("{\"name\":\"New\"}");
+    }
+
+    // Stands in for the service behind the route
+    private GatewayFilterChain chain(String body, String cacheControl) {
+        return exchange -> {
+            forwarded.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            if (cacheControl != null) {
+                response.getHeaders().setCacheControl(cacheControl);
+            }
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8))));
+        };
+    }
+
+    private MockServerWebExchange get(String path, String role) {
+        return exchange(MockServerHttpRequest.get(path).header(IdentityHeader.NAME, identity(role)));
+    }
+
+    private MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+                .id(ROUTE)
+                .uri("lb://" + ROUTE)
+                .predicate(e -> true)
+                .build());
+        return exchange;
+    }
+
+    private String identity(String role) {
+        return identityHeader.sign("user", List.of(role), System.currentTimeMillis() / 1000 + 300);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("gateway.response.cache.requests").tag("route", ROUTE).tag("result", result)
+                .counter().count();
+    }
+
+}
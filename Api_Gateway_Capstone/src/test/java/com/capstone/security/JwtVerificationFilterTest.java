@@ -0,0 +1,139 @@
+package com.capstone.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.crypto.SecretKey;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import reactor.core.publisher.Mono;
+
+public class JwtVerificationFilterTest {
+
+    // Same key and value as IdentityHeaderTest in Auth_Capstone and Employee_Capstone; the three copies of
+    // IdentityHeader must keep producing and accepting exactly this header
+    private static final String IDENTITY_KEY = "gateway-identity-test-key-0123456789";
+
+    private static final String SIGNED_IDENTITY = "TmlraXRhQGdtYWlsLmNvbQpST0xFX0FETUlOCjQxMDI0NDQ4MDA.-zvCHXruc6WevSiYFsOIT9zEqn7blmwHLx9FW011w_w";
+
+    private SecretKey jwtKey = Keys.secretKeyFor(SignatureAlgorithm.HS512);
+
+    private IdentityHeader identityHeader;
+
+    private JwtVerificationFilter filter;
+
+    private final AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+
+    @BeforeEach
+    public void setup() {
+        identityHeader = new IdentityHeader();
+        ReflectionTestUtils.setField(identityHeader, "identitySecret",
+                Base64.getEncoder().encodeToString(IDENTITY_KEY.getBytes(StandardCharsets.UTF_8)));
+        identityHeader.init();
+        filter = new JwtVerificationFilter();
+        ReflectionTestUtils.setField(filter, "identityHeader", identityHeader);
+        ReflectionTestUtils.setField(filter, "jwtSecret", Base64.getEncoder().encodeToString(jwtKey.getEncoded()));
+        filter.init();
+    }
+
+    @Test
+    @DisplayName("Test for forwarding a valid token as a signed identity header...")
+    public void givenValidToken_whenFilter_thenForwardSignedIdentity() {
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/employee-capstone/api/employees")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token(jwtKey, 60_000)));
+
+        filter.filter(exchange, chain()).block();
+
+        assertThat(forwarded.get()).isNotNull();
+        IdentityHeader.Identity identity = identityHeader.verify(
+                forwarded.get().getRequest().getHeaders().getFirst(IdentityHeader.NAME));
+        assertThat(identity).isNotNull();
+        assertThat(identity.username()).isEqualTo("Nikita@gmail.com");
+        assertThat(identity.roles()).containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("Test for signing the identity in the format the services verify...")
+    public void givenKnownIdentity_whenSign_thenMatchSharedFormat() {
+        assertThat(identityHeader.sign("Nikita@gmail.com", List.of("ROLE_ADMIN"), 4102444800L)).isEqualTo(SIGNED_IDENTITY);
+    }
+
+    @Test
+    @DisplayName("Test for dropping an identity header sent by the client...")
+    public void givenForgedIdentityHeader_whenFilter_thenStripIt() {
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/employee-capstone/api/employees")
+                .header(IdentityHeader.NAME, SIGNED_IDENTITY));
+
+        filter.filter(exchange, chain()).block();
+
+        assertThat(forwarded.get()).isNotNull();
+        assertThat(forwarded.get().getRequest().getHeaders().containsKey(IdentityHeader.NAME)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Test for answering 401 to a token signed with another key...")
+    public void givenForeignToken_whenFilter_thenUnauthorized() {
+        assertUnauthorized(token(Keys.secretKeyFor(SignatureAlgorithm.HS512), 60_000));
+    }
+
+    @Test
+    @DisplayName("Test for answering 401 to an expired token...")
+    public void givenExpiredToken_whenFilter_thenUnauthorized() {
+        assertUnauthorized(token(jwtKey, -60_000));
+    }
+
+    @Test
+    @DisplayName("Test for answering 401 to a malformed token...")
+    public void givenMalformedToken_whenFilter_thenUnauthorized() {
+        assertUnauthorized("not-a-token");
+    }
+
+    private void assertUnauthorized(String token) {
+        MockServerWebExchange exchange = exchange(MockServerHttpRequest.get("/employee-capstone/api/employees")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .header(IdentityHeader.NAME, SIGNED_IDENTITY));
+
+        filter.filter(exchange, chain()).block();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(forwarded.get()).isNull();
+    }
+
+    private String token(SecretKey key, long validForMillis) {
+        return Jwts.builder()
+                .claim("roles", List.of("ROLE_ADMIN"))
+                .setSubject("Nikita@gmail.com")
+                .setExpiration(new Date(System.currentTimeMillis() + validForMillis))
+                .signWith(key)
+                .compact();
+    }
+
+    private GatewayFilterChain chain() {
+        return exchange -> {
+            forwarded.set(exchange);
+            return Mono.empty();
+        };
+    }
+
+    private MockServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request) {
+        return MockServerWebExchange.from(request.build());
+    }
+}
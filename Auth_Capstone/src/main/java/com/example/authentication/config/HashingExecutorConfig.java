@@ -0,0 +1,41 @@
+package com.example.authentication.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class HashingExecutorConfig {
+
+	// Bounded pool that runs every bcrypt hash and comparison off the servlet threads.
+	// A full queue rejects the task right away (TaskRejectedException, answered with 503),
+	// so a login burst cannot tie up the threads that serve the other endpoints.
+	@Bean(name = "passwordHashingExecutor")
+	public ThreadPoolTaskExecutor passwordHashingExecutor(
+			@Value("${auth.hashing.pool-size:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int poolSize,
+			@Value("${auth.hashing.queue-capacity:50}") int queueCapacity,
+			MeterRegistry meterRegistry) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("password-hashing-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.initialize();
+		Gauge.builder("auth.hashing.queue.depth", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+				.description("Password hashing tasks waiting for a thread")
+				.register(meterRegistry);
+		Gauge.builder("auth.hashing.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+				.description("Password hashing tasks running")
+				.register(meterRegistry);
+		return executor;
+	}
+
+}
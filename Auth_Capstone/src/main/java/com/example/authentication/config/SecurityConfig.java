@@ -1,6 +1,7 @@
 package com.example.authentication.config;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -14,7 +15,11 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import com.example.authentication.security.JwtAuthenticationEntryPoint;
+import com.example.authentication.security.BcryptCalibration;
 import com.example.authentication.security.JwtAuthenticationFilter;
+import com.example.authentication.security.TimedPasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 @EnableWebSecurity
@@ -26,6 +31,19 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationEntryPoint point;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Time one hash should take on this host; the bcrypt strength is chosen at startup to match it
+    @Value("${auth.bcrypt.target-ms:250}")
+    private long bcryptTargetMillis = 250;
+
+    @Value("${auth.bcrypt.min-strength:10}")
+    private int bcryptMinStrength = 10;
+
+    @Value("${auth.bcrypt.max-strength:16}")
+    private int bcryptMaxStrength = 16;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http.csrf(csrf -> csrf.disable())
@@ -50,8 +68,11 @@ public class SecurityConfig {
         
     }
     
+    // A stored hash made with a lower strength is upgraded on the next successful login (see UserDetailsServiceImpl.updatePassword);
+    // hashes at or above the current strength are never re-hashed, so lowering the strength does not downgrade them
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int strength = BcryptCalibration.strengthFor(bcryptTargetMillis, bcryptMinStrength, bcryptMaxStrength);
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(strength), meterRegistry);
     }
 }
@@ -1,13 +1,19 @@
 package com.example.authentication.controller;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -18,7 +24,9 @@ import com.example.authentication.dto.JwtResponse;
 import com.example.authentication.entity.User;
 import com.example.authentication.repository.UserRepository;
 import com.example.authentication.security.JwtUtil;
+import com.example.authentication.security.UserDetailsCache;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -41,7 +49,18 @@ public class AuthController {
     private UserRepository userRepository;
 
     @Autowired
-    private UserDetailsService userDetailsService; // Add this for loading user details
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    // bcrypt runs here instead of on the servlet thread; see HashingExecutorConfig
+    @Autowired
+    @Qualifier("passwordHashingExecutor")
+    private ThreadPoolTaskExecutor passwordHashingExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     @Operation(summary = "CREATE Register REST APIs",
     		description="CREATE Register REST APIs used to save register in a database")
@@ -49,11 +68,17 @@ public class AuthController {
     		responseCode="201",
     		description="HTTP Status 201 CREATED"
     		)
+    @ApiResponse(
+    		responseCode="503",
+    		description="HTTP Status 503 SERVICE UNAVAILABLE when the password hashing queue is full"
+    		)
     @PostMapping("/register")
-    public ResponseEntity<?> registerUser(@RequestBody @Valid User user) {
-        user.setPassword(new BCryptPasswordEncoder().encode(user.getPassword()));
-        userRepository.save(user);
-        return ResponseEntity.ok("User registered successfully");
+    public CompletableFuture<ResponseEntity<?>> registerUser(@RequestBody @Valid User user) {
+        try {
+            return CompletableFuture.<ResponseEntity<?>>supplyAsync(() -> register(user), passwordHashingExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(hashingQueueFull());
+        }
     }
 
     @Operation(summary = "CREATE Login REST APIs",
@@ -62,15 +87,35 @@ public class AuthController {
     		responseCode="201",
     		description="HTTP Status 201 CREATED"
     		)
+    @ApiResponse(
+    		responseCode="503",
+    		description="HTTP Status 503 SERVICE UNAVAILABLE when the password hashing queue is full"
+    		)
     @PostMapping("/login")
-    public ResponseEntity<?> authenticateUser(@RequestBody @Valid User user) {
+    public CompletableFuture<ResponseEntity<?>> authenticateUser(@RequestBody @Valid User user) {
+        try {
+            return CompletableFuture.<ResponseEntity<?>>supplyAsync(() -> login(user), passwordHashingExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(hashingQueueFull());
+        }
+    }
+
+    private ResponseEntity<?> register(User user) {
+        user.setPassword(passwordEncoder.encode(user.getPassword()));
+        userRepository.save(user);
+        // Drop a cached "unknown user" so the first token for this username is accepted right away
+        userDetailsCache.evict(user.getUsername());
+        return ResponseEntity.ok("User registered successfully");
+    }
+
+    private ResponseEntity<?> login(User user) {
         try {
             Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(user.getUsername(), user.getPassword())
             );
 
-            // Load user details
-            UserDetails userDetails = userDetailsService.loadUserByUsername(user.getUsername());
+            // The authentication manager already loaded the user; no second lookup needed
+            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
 
             // Generate JWT token
             String jwt = jwtUtil.generateToken(userDetails);
@@ -79,4 +124,12 @@ public class AuthController {
             return ResponseEntity.status(401).body("Invalid credentials");
         }
     }
+
+    // Fail fast instead of queueing without bound; clients retry after a short pause
+    private ResponseEntity<?> hashingQueueFull() {
+        meterRegistry.counter("auth.hashing.rejected").increment();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body("Too many requests, please retry shortly");
+    }
 }
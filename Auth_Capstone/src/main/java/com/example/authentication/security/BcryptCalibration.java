@@ -0,0 +1,33 @@
+package com.example.authentication.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+// Picks the bcrypt cost factor for this host at startup.
+// Each extra unit of cost doubles the hash time, so one timing at the minimum strength is enough to extrapolate.
+public final class BcryptCalibration {
+
+    private static final Logger logger = LoggerFactory.getLogger(BcryptCalibration.class);
+
+    private static final int SAMPLES = 3;
+
+    private BcryptCalibration() {
+    }
+
+    public static int strengthFor(long targetMillis, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        long fastestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration");
+            fastestNanos = Math.min(fastestNanos, System.nanoTime() - start);
+        }
+        double ratio = (targetMillis * 1_000_000.0) / Math.max(fastestNanos, 1);
+        int extra = ratio < 2 ? 0 : (int) Math.floor(Math.log(ratio) / Math.log(2));
+        int strength = Math.max(minStrength, Math.min(maxStrength, minStrength + extra));
+        logger.info("bcrypt strength {} selected: strength {} took {} ms, target {} ms",
+                strength, minStrength, fastestNanos / 1_000_000, targetMillis);
+        return strength;
+    }
+}
@@ -1,18 +1,21 @@
 package com.example.authentication.security;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import jakarta.servlet.FilterChain;
@@ -27,9 +30,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	    @Autowired
 	    private JwtUtil jwtUtil;
 
+	    @Autowired
+	    private IdentityHeader identityHeader;
+
 
 	    @Autowired
-	    private UserDetailsService userDetailsService;
+	    private UserDetailsCache userDetailsCache;
 
 
 	@Override
@@ -41,14 +47,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       //Bearer 2352345235sdfrsfgsdfsdf
         logger.info(" Header :  {}", requestHeader);
         String username = null;
-        String token = null;
+        Claims claims = null;
+        // Set when the API gateway already verified the token and forwarded the signed identity
+        IdentityHeader.Identity identity = this.identityHeader.verify(request.getHeader(IdentityHeader.NAME));
         
-        if (requestHeader != null && requestHeader.startsWith("Bearer")) {
+        if (identity != null) {
+            username = identity.username();
+        } else if (requestHeader != null && requestHeader.startsWith("Bearer")) {
             //looking good
-            token = requestHeader.substring(7);
+            String token = requestHeader.substring(7);
             try {
 
-                username = this.jwtUtil.getUsernameFromToken(token);
+                // Parsed and verified once here; validation below reuses the same claims
+                claims = this.jwtUtil.getAllClaimsFromToken(token);
+                username = claims.getSubject();
 
             } catch (IllegalArgumentException e) {
                 logger.info("Illegal Argument while fetching the username !!");
@@ -74,13 +86,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
 
-            //fetch user detail from username
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-            Boolean validateToken = this.jwtUtil.validateToken(token, userDetails);
+            //authorities come from the verified token; the short-lived user cache only catches deleted users and changed roles
+            UserDetails userDetails = this.userDetailsCache.get(username);
+            Collection<GrantedAuthority> authorities = identity != null
+                    ? identity.authorities()
+                    : this.jwtUtil.getAuthoritiesFromClaims(claims);
+            if (authorities == null && userDetails != null) {
+                authorities = new HashSet<>(userDetails.getAuthorities());
+            }
+            Boolean validateToken = userDetails != null
+                    && new HashSet<>(authorities).equals(new HashSet<>(userDetails.getAuthorities()))
+                    && (identity != null || this.jwtUtil.validateToken(claims, userDetails));
             if (validateToken) {
 
                 //set the authentication
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, authorities);
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
@@ -0,0 +1,65 @@
+package com.example.authentication.security;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+
+// Short-lived view of the users table for JwtAuthenticationFilter.
+// Tokens carry their own roles, so this is only consulted to notice deleted users and changed roles,
+// which take effect within the TTL instead of on every request hitting the database.
+@Component
+public class UserDetailsCache {
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Value("${auth.user-cache.maximum-size:10000}")
+    private long maximumSize = 10000;
+
+    @Value("${auth.user-cache.ttl-seconds:30}")
+    private long ttlSeconds = 30;
+
+    private Cache<String, Optional<UserDetails>> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    // Returns null for unknown users
+    public UserDetails get(String username) {
+        return cache.get(username, this::load).orElse(null);
+    }
+
+    public void evict(String username) {
+        cache.invalidate(username);
+    }
+
+    // Only the username and authorities are kept; the password hash never stays in memory
+    private Optional<UserDetails> load(String username) {
+        try {
+            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            return Optional.of(User.withUsername(userDetails.getUsername())
+                    .password("")
+                    .authorities(userDetails.getAuthorities())
+                    .build());
+        } catch (UsernameNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+}
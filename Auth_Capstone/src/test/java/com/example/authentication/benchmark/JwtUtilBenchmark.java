@@ -0,0 +1,77 @@
+package com.example.authentication.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.authentication.security.JwtUtil;
+
+import io.jsonwebtoken.Claims;
+
+// Token work done by JwtAuthenticationFilter and AuthController.login.
+// Run with: mvn -B -Pbenchmark -DskipTests test -Djmh.include=JwtUtilBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+	private JwtUtil jwtUtil;
+
+	// Same signing key, but a claims cache that keeps nothing
+	private JwtUtil uncachedJwtUtil;
+
+	private UserDetails userDetails;
+
+	private String token;
+
+	@Setup
+	public void setup() {
+		jwtUtil = new JwtUtil();
+		jwtUtil.init();
+		uncachedJwtUtil = new JwtUtil();
+		ReflectionTestUtils.setField(uncachedJwtUtil, "parser", ReflectionTestUtils.getField(jwtUtil, "parser"));
+		ReflectionTestUtils.setField(uncachedJwtUtil, "claimsCacheMaximumSize", 0L);
+		uncachedJwtUtil.init();
+		userDetails = User.withUsername("Nikita@gmail.com").password("Nikita").roles("ADMIN").build();
+		token = jwtUtil.generateToken(userDetails);
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return jwtUtil.generateToken(userDetails);
+	}
+
+	@Benchmark
+	public String getUsernameFromToken() {
+		return jwtUtil.getUsernameFromToken(token);
+	}
+
+	// Same sequence as the filter: parse once, then validate the already parsed claims
+	@Benchmark
+	public Boolean filterPath() {
+		Claims claims = jwtUtil.getAllClaimsFromToken(token);
+		return jwtUtil.validateToken(claims, userDetails);
+	}
+
+	// First request with a token, before its claims are cached
+	@Benchmark
+	public Boolean filterPathUncached() {
+		Claims claims = uncachedJwtUtil.getAllClaimsFromToken(token);
+		return uncachedJwtUtil.validateToken(claims, userDetails);
+	}
+}
@@ -0,0 +1,111 @@
+package com.example.authentication.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.authentication.entity.User;
+import com.example.authentication.repository.UserRepository;
+import com.example.authentication.security.UserDetailsCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class AuthControllerTest {
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
+    @Mock
+    private ThreadPoolTaskExecutor passwordHashingExecutor;
+
+    @InjectMocks
+    private AuthController authController;
+
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private User user = new User(null, "Nikita@gmail.com", "secret", "ADMIN");
+
+    @BeforeEach
+    public void setup() {
+        ReflectionTestUtils.setField(authController, "meterRegistry", meterRegistry);
+    }
+
+    private void rejectHashing() {
+        doThrow(new TaskRejectedException("queue full")).when(passwordHashingExecutor).execute(any(Runnable.class));
+    }
+
+    @Test
+    @DisplayName("Test for answering 503 when the hashing queue rejects a login...")
+    public void givenFullHashingQueue_whenLogin_thenServiceUnavailable() throws InterruptedException, ExecutionException {
+        rejectHashing();
+
+        ResponseEntity<?> response = authController.authenticateUser(user).get();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(meterRegistry.counter("auth.hashing.rejected").count()).isEqualTo(1.0);
+        verifyNoInteractions(authenticationManager);
+    }
+
+    @Test
+    @DisplayName("Test for answering 503 when the hashing queue rejects a registration...")
+    public void givenFullHashingQueue_whenRegister_thenServiceUnavailable() throws InterruptedException, ExecutionException {
+        rejectHashing();
+
+        ResponseEntity<?> response = authController.registerUser(user).get();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(meterRegistry.counter("auth.hashing.rejected").count()).isEqualTo(1.0);
+        verifyNoInteractions(passwordEncoder, userRepository);
+    }
+
+    @Test
+    @DisplayName("Test for evicting a cached unknown user on registration...")
+    public void givenNewUser_whenRegister_thenEvictCachedUser() throws InterruptedException, ExecutionException {
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(passwordHashingExecutor).execute(any(Runnable.class));
+        when(passwordEncoder.encode("secret")).thenReturn("$2a$10$hash");
+
+        ResponseEntity<?> response = authController.registerUser(user).get();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(userRepository).save(user);
+        verify(userDetailsCache).evict("Nikita@gmail.com");
+    }
+}
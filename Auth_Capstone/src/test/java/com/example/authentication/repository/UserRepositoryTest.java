@@ -0,0 +1,52 @@
+package com.example.authentication.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.authentication.entity.User;
+
+@DataJpaTest
+public class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Test for finding a user by username...")
+    public void givenSavedUser_whenFindByUsername_thenReturnUser() {
+        userRepository.save(new User(null, "Nikita@gmail.com", "$2a$10$hash", "ADMIN"));
+
+        User found = userRepository.findByUsername("Nikita@gmail.com");
+
+        assertThat(found).isNotNull();
+        assertThat(found.getRole()).isEqualTo("ADMIN");
+    }
+
+    @Test
+    @DisplayName("Test for rejecting a second user with the same username...")
+    public void givenDuplicateUsername_whenSave_thenReject() {
+        userRepository.saveAndFlush(new User(null, "Nikita@gmail.com", "$2a$10$hash", "ADMIN"));
+
+        assertThatThrownBy(() -> userRepository.saveAndFlush(new User(null, "Nikita@gmail.com", "$2a$10$other", "USER")))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("Test for looking users up by username through the unique index...")
+    public void givenUsernameLookup_whenExplain_thenUseUniqueIndex() {
+        // H2 prints the index it picks in the plan, or tableScan when there is none
+        assertThat(jdbcTemplate.queryForObject("EXPLAIN SELECT * FROM users WHERE username = 'Nikita@gmail.com'", String.class))
+            .containsIgnoringCase("uk_users_username")
+            .doesNotContain("tableScan");
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.authentication.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class BcryptCalibrationTest {
+
+    @Test
+    @DisplayName("Test for keeping the strength at the minimum when the target is below one hash...")
+    public void givenTargetBelowMinimumCost_whenStrengthFor_thenReturnMinimum() {
+        assertThat(BcryptCalibration.strengthFor(0, 4, 6)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Test for capping the strength at the maximum for a very long target...")
+    public void givenTargetAboveMaximumCost_whenStrengthFor_thenReturnMaximum() {
+        assertThat(BcryptCalibration.strengthFor(60_000, 4, 6)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Test for choosing a strength within the configured bounds...")
+    public void givenTypicalTarget_whenStrengthFor_thenStayWithinBounds() {
+        assertThat(BcryptCalibration.strengthFor(5, 4, 8)).isBetween(4, 8);
+    }
+}
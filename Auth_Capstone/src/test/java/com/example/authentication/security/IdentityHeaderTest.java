@@ -0,0 +1,31 @@
+package com.example.authentication.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class IdentityHeaderTest {
+
+    @Test
+    @DisplayName("Test for accepting the header format the API gateway signs...")
+    public void givenGatewaySignedIdentity_whenVerify_thenReturnIdentity() {
+        IdentityHeader identityHeader = new IdentityHeader();
+        ReflectionTestUtils.setField(identityHeader, "identitySecret",
+                Base64.getEncoder().encodeToString("gateway-identity-test-key-0123456789".getBytes()));
+        identityHeader.init();
+        // Same key and value as JwtVerificationFilterTest in Api_Gateway_Capstone; keep the copies of IdentityHeader in step
+        String value = "TmlraXRhQGdtYWlsLmNvbQpST0xFX0FETUlOCjQxMDI0NDQ4MDA.-zvCHXruc6WevSiYFsOIT9zEqn7blmwHLx9FW011w_w";
+
+        IdentityHeader.Identity identity = identityHeader.verify(value);
+
+        assertThat(identity).isNotNull();
+        assertThat(identity.username()).isEqualTo("Nikita@gmail.com");
+        assertThat(identity.authorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+        assertThat(identityHeader.sign("Nikita@gmail.com", List.of("ROLE_ADMIN"), 4102444800L)).isEqualTo(value);
+    }
+}
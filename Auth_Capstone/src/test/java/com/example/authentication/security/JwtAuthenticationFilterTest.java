@@ -0,0 +1,162 @@
+package com.example.authentication.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Date;
+
+import javax.crypto.SecretKey;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.ServletException;
+
+@ExtendWith(MockitoExtension.class)
+public class JwtAuthenticationFilterTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private SecretKey key = Keys.secretKeyFor(SignatureAlgorithm.HS512);
+
+    private JwtUtil jwtUtil = new JwtUtil();
+
+    private UserDetailsCache userDetailsCache = new UserDetailsCache();
+
+    private JwtAuthenticationFilter filter = new JwtAuthenticationFilter();
+
+    @BeforeEach
+    public void setup() {
+        ReflectionTestUtils.setField(jwtUtil, "sharedSecret", Base64.getEncoder().encodeToString(key.getEncoded()));
+        jwtUtil.init();
+        ReflectionTestUtils.setField(userDetailsCache, "userDetailsService", userDetailsService);
+        userDetailsCache.init();
+        // No gateway.identity.secret: the filter verifies the JWT itself
+        IdentityHeader identityHeader = new IdentityHeader();
+        identityHeader.init();
+        ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(filter, "identityHeader", identityHeader);
+        ReflectionTestUtils.setField(filter, "userDetailsCache", userDetailsCache);
+    }
+
+    @AfterEach
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private UserDetails user(String role) {
+        return User.withUsername("Nikita@gmail.com").password("$2a$10$hash").roles(role).build();
+    }
+
+    private Authentication filter(String token) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/auth/validate");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Test
+    @DisplayName("Test for authenticating with the roles carried by the token...")
+    public void givenTokenWithMatchingRoles_whenFilter_thenAuthenticate() throws ServletException, IOException {
+        when(userDetailsService.loadUserByUsername("Nikita@gmail.com")).thenReturn(user("ADMIN"));
+
+        Authentication authentication = filter(jwtUtil.generateToken(user("ADMIN")));
+
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("Test for rejecting a token whose roles no longer match the user...")
+    public void givenTokenWithChangedRoles_whenFilter_thenReject() throws ServletException, IOException {
+        when(userDetailsService.loadUserByUsername("Nikita@gmail.com")).thenReturn(user("USER"));
+
+        assertThat(filter(jwtUtil.generateToken(user("ADMIN")))).isNull();
+    }
+
+    @Test
+    @DisplayName("Test for rejecting the token of a deleted user...")
+    public void givenDeletedUser_whenFilter_thenReject() throws ServletException, IOException {
+        when(userDetailsService.loadUserByUsername("Nikita@gmail.com")).thenThrow(new UsernameNotFoundException("User not found"));
+
+        assertThat(filter(jwtUtil.generateToken(user("ADMIN")))).isNull();
+    }
+
+    @Test
+    @DisplayName("Test for falling back to the stored roles for a token without a roles claim...")
+    public void givenTokenWithoutRolesClaim_whenFilter_thenUseStoredRoles() throws ServletException, IOException {
+        when(userDetailsService.loadUserByUsername("Nikita@gmail.com")).thenReturn(user("ADMIN"));
+        String token = Jwts.builder()
+                .setSubject("Nikita@gmail.com")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(key)
+                .compact();
+
+        Authentication authentication = filter(token);
+
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("Test for rejecting a token signed with another key...")
+    public void givenForeignToken_whenFilter_thenReject() throws ServletException, IOException {
+        String token = Jwts.builder()
+                .setSubject("Nikita@gmail.com")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.secretKeyFor(SignatureAlgorithm.HS512))
+                .compact();
+
+        assertThat(filter(token)).isNull();
+    }
+
+    @Test
+    @DisplayName("Test for reading the roles claim of a generated token...")
+    public void givenGeneratedToken_whenGetAuthoritiesFromClaims_thenReturnRoles() {
+        String token = jwtUtil.generateToken(user("ADMIN"));
+
+        assertThat(jwtUtil.getAuthoritiesFromClaims(jwtUtil.getAllClaimsFromToken(token)))
+                .extracting("authority").containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("Test for serving a cached unknown user until it is evicted...")
+    public void givenCachedUnknownUser_whenEvict_thenLoadAgain() {
+        when(userDetailsService.loadUserByUsername("Nikita@gmail.com"))
+                .thenThrow(new UsernameNotFoundException("User not found"))
+                .thenReturn(user("ADMIN"));
+
+        assertThat(userDetailsCache.get("Nikita@gmail.com")).isNull();
+        assertThat(userDetailsCache.get("Nikita@gmail.com")).isNull();
+        userDetailsCache.evict("Nikita@gmail.com");
+        UserDetails loaded = userDetailsCache.get("Nikita@gmail.com");
+
+        assertThat(loaded).isNotNull();
+        assertThat(loaded.getPassword()).isEmpty();
+        verify(userDetailsService, times(2)).loadUserByUsername("Nikita@gmail.com");
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.authentication.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.example.authentication.entity.User;
+import com.example.authentication.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class UserDetailsServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserDetailsServiceImpl userDetailsService;
+
+    private DaoAuthenticationProvider provider;
+
+    // Wired the way Spring Security wires the single UserDetailsService / UserDetailsPasswordService bean
+    @BeforeEach
+    public void setup() {
+        provider = new DaoAuthenticationProvider(new BCryptPasswordEncoder(5));
+        provider.setUserDetailsService(userDetailsService);
+        provider.setUserDetailsPasswordService(userDetailsService);
+    }
+
+    private User storedUser(int strength) {
+        return new User(1L, "Nikita@gmail.com", new BCryptPasswordEncoder(strength).encode("secret"), "ADMIN");
+    }
+
+    @Test
+    @DisplayName("Test for upgrading a hash made with a lower strength on login...")
+    public void givenLowerStrengthHash_whenLogin_thenSaveUpgradedHash() {
+        User user = storedUser(4);
+        when(userRepository.findByUsername("Nikita@gmail.com")).thenReturn(user);
+
+        provider.authenticate(new UsernamePasswordAuthenticationToken("Nikita@gmail.com", "secret"));
+
+        ArgumentCaptor<User> saved = ArgumentCaptor.forClass(User.class);
+        verify(userRepository).save(saved.capture());
+        assertThat(saved.getValue().getPassword()).startsWith("$2a$05$");
+        assertThat(new BCryptPasswordEncoder().matches("secret", saved.getValue().getPassword())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test for leaving a hash made with a higher strength alone on login...")
+    public void givenHigherStrengthHash_whenLogin_thenKeepStoredHash() {
+        when(userRepository.findByUsername("Nikita@gmail.com")).thenReturn(storedUser(6));
+
+        provider.authenticate(new UsernamePasswordAuthenticationToken("Nikita@gmail.com", "secret"));
+
+        verify(userRepository, never()).save(any(User.class));
+    }
+}
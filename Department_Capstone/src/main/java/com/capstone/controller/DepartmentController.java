@@ -3,19 +3,25 @@ package com.capstone.controller;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.capstone.dto.DepartmentDto;
+import com.capstone.dto.PageResponseDto;
+import com.capstone.exception.VersionMismatch;
 import com.capstone.service.DepartmentService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -26,7 +32,7 @@ import jakarta.validation.Valid;
 @Tag(name=" CRUD REST APIs for Department resourse",
 description=" CRUD REST APIs- Create department,update department,get department,get all department,delete department")
 @RestController
-@CrossOrigin
+@CrossOrigin(exposedHeaders = HttpHeaders.ETAG)
 @RequestMapping("/departments")
 public class DepartmentController {
 
@@ -41,7 +47,7 @@ public class DepartmentController {
     		)
     @PostMapping
     public ResponseEntity<DepartmentDto> createDepartment(@RequestBody @Valid DepartmentDto departmentDto) {
-        return new ResponseEntity<>(departmentService.createDepartment(departmentDto), HttpStatus.CREATED);
+        return withETag(departmentService.createDepartment(departmentDto), HttpStatus.CREATED);
     }
 
     @Operation(summary = "GET ALL department REST APIs",
@@ -56,6 +62,21 @@ public class DepartmentController {
         return new ResponseEntity<>(departmentService.getAllDepartments(), HttpStatus.OK);
     }
 
+    @Operation(summary = "GET department page REST API",
+    		description="get department REST APIs used to get one sorted page of departments; count=false skips the total count")
+    
+    @ApiResponse(
+    		responseCode="200",
+    		description="HTTP Status 200 SUCCESS"
+    		)
+    @GetMapping("/page")
+    public ResponseEntity<PageResponseDto<DepartmentDto>> getDepartmentsPage(@RequestParam(defaultValue = "0") int page,
+    		@RequestParam(defaultValue = "20") int size,
+    		@RequestParam(defaultValue = "id") String sort,
+    		@RequestParam(defaultValue = "false") boolean count) {
+        return new ResponseEntity<>(departmentService.getDepartmentsPage(page, size, sort, count), HttpStatus.OK);
+    }
+
     @Operation(summary = "GET department by id REST API",
     		description="get department REST APIs used to get a specific department from a database")
     
@@ -63,9 +84,13 @@ public class DepartmentController {
     		responseCode="200",
     		description="HTTP Status 200 SUCCESS"
     		)
+    @ApiResponse(
+    		responseCode="304",
+    		description="HTTP Status 304 NOT MODIFIED, If-None-Match holds the current ETag"
+    		)
     @GetMapping("/{id}")
     public ResponseEntity<DepartmentDto> getDepartmentById(@PathVariable Long id) {
-        return new ResponseEntity<>(departmentService.getDepartmentById(id), HttpStatus.OK);
+        return withETag(departmentService.getDepartmentById(id), HttpStatus.OK);
     }
 
     @Operation(summary = "UPDATE department  REST API",
@@ -75,9 +100,36 @@ public class DepartmentController {
     		responseCode="200",
     		description="HTTP Status 200 SUCCESS"
     		)
+    @ApiResponse(
+    		responseCode="412",
+    		description="HTTP Status 412 PRECONDITION FAILED, If-Match does not hold the current ETag"
+    		)
     @PutMapping("/{id}")
-    public ResponseEntity<DepartmentDto> updateDepartment(@PathVariable Long id, @RequestBody @Valid DepartmentDto departmentDto) {
-        return new ResponseEntity<>(departmentService.updateDepartment(id, departmentDto), HttpStatus.OK);
+    public ResponseEntity<DepartmentDto> updateDepartment(@PathVariable Long id, @RequestBody @Valid DepartmentDto departmentDto,
+    		@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return withETag(departmentService.updateDepartment(id, departmentDto, version(ifMatch)), HttpStatus.OK);
+    }
+
+    @Operation(summary = "PATCH department REST API",
+    		description="PATCH department REST API is used to change only the fields sent, e.g. {\"name\":\"Finance\"}, without reading the department first")
+    
+    @ApiResponse(
+    		responseCode="204",
+    		description="HTTP Status 204 NO CONTENT, with the new ETag when If-Match was sent"
+    		)
+    @ApiResponse(
+    		responseCode="412",
+    		description="HTTP Status 412 PRECONDITION FAILED, If-Match does not hold the current ETag"
+    		)
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patchDepartment(@PathVariable Long id, @RequestBody DepartmentDto changes,
+    		@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long version = departmentService.patchDepartment(id, changes, version(ifMatch));
+        ResponseEntity.HeadersBuilder<?> response = ResponseEntity.noContent();
+        if (version != null) {
+            response.eTag("\"" + version + "\"");
+        }
+        return response.build();
     }
 
     @Operation(summary = "DELETE department REST API",
@@ -91,6 +143,18 @@ public class DepartmentController {
     public ResponseEntity<String> deleteDepartment(@PathVariable Long id) {
         return new ResponseEntity<>(departmentService.deleteDepartment(id), HttpStatus.OK);
     }
+
+    @Operation(summary = "DELETE departments by ids REST API",
+    		description="DELETE department REST API is used to DELETE every department matching a set of ids in one statement; 404 only when none matched")
+    
+    @ApiResponse(
+    		responseCode="200",
+    		description="HTTP Status 200 SUCCESS"
+    		)
+    @DeleteMapping
+    public ResponseEntity<String> deleteDepartments(@RequestParam("ids") List<Long> ids) {
+        return new ResponseEntity<>(departmentService.deleteDepartments(ids), HttpStatus.OK);
+    }
     
 
     
@@ -102,9 +166,46 @@ public class DepartmentController {
     		description="HTTP Status 200 SUCCESS"
     		)
     @GetMapping("code/{departmentCode}")
-	public DepartmentDto getDepartmentByCode(@PathVariable("departmentCode") String deptDto)
+	public ResponseEntity<DepartmentDto> getDepartmentByCode(@PathVariable("departmentCode") String deptDto)
 	{
-		return departmentService.getDepartmentByCode(deptDto);
+		return withETag(departmentService.getDepartmentByCode(deptDto), HttpStatus.OK);
 	}
     
+    @Operation(summary = "GET Departments by codes REST API",
+    		description="get Departments REST APIs used to get every Department matching a set of codes in one call")
+    
+    @ApiResponse(
+    		responseCode="200",
+    		description="HTTP Status 200 SUCCESS"
+    		)
+    @GetMapping("/batch")
+    public ResponseEntity<List<DepartmentDto>> getDepartmentsByCodes(@RequestParam("codes") List<String> codes) {
+        return new ResponseEntity<>(departmentService.getDepartmentsByCodes(codes), HttpStatus.OK);
+    }
+
+    // The ETag is the quoted version, so a GET whose If-None-Match still holds it is answered 304 by Spring
+    // without serialising the body
+    private static ResponseEntity<DepartmentDto> withETag(DepartmentDto departmentDto, HttpStatus status) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(status);
+        if (departmentDto != null && departmentDto.getVersion() != null) {
+            response.eTag("\"" + departmentDto.getVersion() + "\"");
+        }
+        return response.body(departmentDto);
+    }
+
+    // Version named by If-Match; null when the header is absent or "*", which only asks for the department to exist
+    private static Long version(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // Not one of our ETags
+            }
+        }
+        throw new VersionMismatch("If-Match " + ifMatch + " is not a current ETag of this department.");
+    }
 }
@@ -1,5 +1,7 @@
 package com.capstone.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Size;
@@ -27,4 +29,12 @@ public class DepartmentDto {
 	 @Schema(description = "Enter departmentCode")
     @NotEmpty(message = "Department code should not be empty")
     private String departmentCode;
+
+	 @Schema(description = "Version of the department, also sent as the ETag; send it back in If-Match to update", accessMode = Schema.AccessMode.READ_ONLY)
+	 @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
+    public DepartmentDto(Long id, String name, String description, String departmentCode) {
+        this(id, name, description, departmentCode, null);
+    }
 }
@@ -1,9 +1,14 @@
 package com.capstone.entity;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -11,9 +16,13 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
+// UPDATE statements list only the columns that changed, so renaming a department leaves its code column alone
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+// Created by db/migration/V2__add_department_code_unique_index.sql
+@Table(indexes = @Index(name = "uk_department_department_code", columnList = "department_code", unique = true))
 public class Department {
 
     @Id
@@ -27,4 +36,12 @@ public class Department {
     private String description;
     
     private String departmentCode;
+
+    // Incremented by Hibernate on every update and sent as the ETag; added by db/migration/V3__add_department_version.sql
+    @Version
+    private Long version;
+
+    public Department(Long id, String name, String description, String departmentCode) {
+        this(id, name, description, departmentCode, null);
+    }
 }
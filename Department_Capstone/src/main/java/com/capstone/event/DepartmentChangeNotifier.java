@@ -0,0 +1,56 @@
+package com.capstone.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.reactive.function.client.WebClient;
+
+// Tells every registered employee-capstone instance to drop its cached copy of a department once the change is committed.
+// The calls carry internal.cache.secret in X-Internal-Token; employee-capstone refuses them without it.
+@Component
+public class DepartmentChangeNotifier {
+
+	private Logger logger = LoggerFactory.getLogger(DepartmentChangeNotifier.class);
+
+	@Autowired
+	private DiscoveryClient discoveryClient;
+
+	@Autowired
+	private WebClient.Builder webClientBuilder;
+
+	@Value("${department.change-notification.enabled:true}")
+	private boolean enabled;
+
+	@Value("${department.change-notification.service-id:employee-capstone}")
+	private String serviceId;
+
+	@Value("${internal.cache.secret:}")
+	private String internalSecret;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onDepartmentChanged(DepartmentChangedEvent event) {
+		if (!enabled || internalSecret == null || internalSecret.isBlank()) {
+			return;
+		}
+		String path = event.getDepartmentCode() == null
+				? "/internal/cache/departments"
+				: "/internal/cache/departments/{departmentCode}";
+		for (ServiceInstance instance : discoveryClient.getInstances(serviceId)) {
+			webClientBuilder.build()
+					.delete()
+					.uri(instance.getUri() + path, event.getDepartmentCode())
+					.header("X-Internal-Token", internalSecret.trim())
+					.retrieve()
+					.toBodilessEntity()
+					.subscribe(response -> { },
+							e -> logger.warn("Could not invalidate department cache on {}: {}", instance.getUri(), e.getMessage()));
+		}
+	}
+
+}
@@ -0,0 +1,12 @@
+package com.capstone.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Published inside the department transaction; a null code means every department may have changed
+@Data @AllArgsConstructor
+public class DepartmentChangedEvent {
+
+	private String departmentCode;
+
+}
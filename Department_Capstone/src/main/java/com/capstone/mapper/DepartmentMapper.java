@@ -0,0 +1,28 @@
+package com.capstone.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+import com.capstone.dto.DepartmentDto;
+import com.capstone.entity.Department;
+
+// Implementation is generated by MapStruct at compile time: plain getter/setter calls, no reflection
+@Mapper(componentModel = "spring")
+public interface DepartmentMapper {
+
+	DepartmentDto toDto(Department entity);
+
+	// The version is Hibernate's to set; a new department starts without one
+	@Mapping(target = "version", ignore = true)
+	Department toEntity(DepartmentDto dto);
+
+	// Copies the editable fields onto a loaded department, leaving its id and version alone
+	@Mapping(target = "id", ignore = true)
+	@Mapping(target = "version", ignore = true)
+	void updateEntity(DepartmentDto dto, @MappingTarget Department entity);
+
+	List<DepartmentDto> toDtoList(List<Department> entities);
+}
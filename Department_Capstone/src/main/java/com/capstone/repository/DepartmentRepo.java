@@ -1,9 +1,33 @@
 package com.capstone.repository;
 
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import com.capstone.entity.Department;
 
-public interface DepartmentRepo extends JpaRepository<Department, Long> {
+// DepartmentRepoCustom backs the PATCH endpoint's field-level updates
+public interface DepartmentRepo extends JpaRepository<Department, Long>, DepartmentRepoCustom {
 	
 	public Department findByDepartmentCode(String departmentCode);
+	
+	public List<Department> findByDepartmentCodeIn(Collection<String> departmentCodes);
+	
+	// Slice instead of Page: the list endpoint skips the COUNT(*) unless the caller asks for totals
+	public Slice<Department> findAllBy(Pageable pageable);
+	
+	// One DELETE ... WHERE id = ?; unlike deleteById it does not load the department first, and the count tells if it existed
+	@Modifying
+	@Query("delete from Department d where d.id = :id")
+	public int deleteRowById(@Param("id") Long id);
+	
+	// One DELETE ... WHERE id IN (...) for the bulk delete endpoint
+	@Modifying
+	@Query("delete from Department d where d.id in :ids")
+	public int deleteRowsByIdIn(@Param("ids") Collection<Long> ids);
 }
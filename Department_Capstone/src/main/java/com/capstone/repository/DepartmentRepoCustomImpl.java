@@ -0,0 +1,36 @@
+package com.capstone.repository;
+
+import java.util.Map;
+
+import com.capstone.entity.Department;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+// Writes only the given columns without loading the department first. The bulk update bypasses the
+// persistence context, so callers must not hold a loaded copy of the same department in the transaction.
+public class DepartmentRepoCustomImpl implements DepartmentRepoCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int updateFields(Long id, Map<String, Object> fields, Long expectedVersion) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Department> update = cb.createCriteriaUpdate(Department.class);
+        Root<Department> department = update.from(Department.class);
+        fields.forEach((field, value) -> update.set(department.<Object>get(field), value));
+        // Bumped here because a bulk update does not go through Hibernate's @Version handling
+        update.set(department.<Long>get("version"), cb.sum(department.<Long>get("version"), 1L));
+        Predicate where = cb.equal(department.get("id"), id);
+        if (expectedVersion != null) {
+            where = cb.and(where, cb.equal(department.get("version"), expectedVersion));
+        }
+        update.where(where);
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
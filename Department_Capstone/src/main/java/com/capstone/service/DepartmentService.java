@@ -3,6 +3,7 @@ package com.capstone.service;
 import java.util.List;
 
 import com.capstone.dto.DepartmentDto;
+import com.capstone.dto.PageResponseDto;
 
 public interface DepartmentService {
 
@@ -10,11 +11,21 @@ public interface DepartmentService {
     
     List<DepartmentDto> getAllDepartments();
     
+    PageResponseDto<DepartmentDto> getDepartmentsPage(int page, int size, String sort, boolean count);
+    
     DepartmentDto getDepartmentById(Long id);
     
-    DepartmentDto updateDepartment(Long id, DepartmentDto departmentDto);
+    // expectedVersion comes from If-Match; null updates whatever version is current
+    DepartmentDto updateDepartment(Long id, DepartmentDto departmentDto, Long expectedVersion);
     
     DepartmentDto getDepartmentByCode(String code);
     
+    List<DepartmentDto> getDepartmentsByCodes(List<String> codes);
+    
+    // Changes only the non-null fields of changes; returns the new version when expectedVersion was given, else null
+    Long patchDepartment(Long id, DepartmentDto changes, Long expectedVersion);
+
     String deleteDepartment(Long id);
+    
+    String deleteDepartments(List<Long> ids);
 }
@@ -1,18 +1,33 @@
 package com.capstone.service;
 
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
-import org.modelmapper.ModelMapper;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.capstone.dto.DepartmentDto;
+import com.capstone.dto.PageResponseDto;
 import com.capstone.entity.Department;
+import com.capstone.event.DepartmentChangedEvent;
 import com.capstone.exception.IdNotFound;
+import com.capstone.exception.VersionMismatch;
+import com.capstone.mapper.DepartmentMapper;
 import com.capstone.repository.DepartmentRepo;
 
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
 @Service
 @Transactional
 public class DepartmentServiceImpl implements DepartmentService {
@@ -21,15 +36,36 @@ public class DepartmentServiceImpl implements DepartmentService {
     private DepartmentRepo repository;
     
     @Autowired
-    private ModelMapper mapper;
+    private DepartmentMapper mapper;
+
+    @Autowired
+    private Validator validator;
+
+    private static final List<String> SORTABLE_FIELDS = List.of("id", "name", "departmentCode");
+
+    // Fields a PATCH may change; id and version are never taken from the body
+    private static final List<String> PATCHABLE_FIELDS = List.of("name", "description", "departmentCode");
+
+    @Value("${department.page.max-size:500}")
+    private int maxPageSize;
+
+    @Value("${department.delete.max-ids:500}")
+    private int maxDeleteIds;
+
+    @Value("${department.batch.max-ids:500}")
+    private int maxBatchIds;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
 	@Override
 	public DepartmentDto createDepartment(DepartmentDto departmentDto) {
 		
-		Department department=mapper.map(departmentDto, Department.class);
+		Department department=mapper.toEntity(departmentDto);
 		Department savedDepartment =repository.save(department);
+		eventPublisher.publishEvent(new DepartmentChangedEvent(savedDepartment.getDepartmentCode()));
 
-		return mapper.map(savedDepartment, DepartmentDto.class);
+		return mapper.toDto(savedDepartment);
 
         
 	}
@@ -37,45 +73,118 @@ public class DepartmentServiceImpl implements DepartmentService {
 	@Override
 	public List<DepartmentDto> getAllDepartments() {
 	    List<Department> departments = repository.findAll();
-	    return departments.stream()
-	                      .map(department -> mapper.map(department, DepartmentDto.class))
-	                      .collect(Collectors.toList());
+	    return mapper.toDtoList(departments);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public PageResponseDto<DepartmentDto> getDepartmentsPage(int page, int size, String sort, boolean count) {
+		Pageable pageable = PageRequests.of(page, size, sort, maxPageSize, SORTABLE_FIELDS);
+		Slice<Department> departments = count ? repository.findAll(pageable) : repository.findAllBy(pageable);
+		return PageResponseDto.of(departments.map(mapper::toDto));
 	}
 
 	@Override
 	public DepartmentDto getDepartmentById(Long id) {
 	    Department department = repository.findById(id)
 	        .orElseThrow(() -> new IdNotFound("Department with ID " + id + " not found."));
-	    return mapper.map(department, DepartmentDto.class);
+	    return mapper.toDto(department);
 	}
 
 
 	@Override
-	public DepartmentDto updateDepartment(Long id, DepartmentDto departmentDto) {
-	    if (!repository.existsById(id)) {
+	public DepartmentDto updateDepartment(Long id, DepartmentDto departmentDto, Long expectedVersion) {
+	    Department department = repository.findById(id)
+	        .orElseThrow(() -> new IdNotFound("Department with ID " + id + " not found."));
+	    if (expectedVersion != null && !expectedVersion.equals(department.getVersion())) {
+	        throw new VersionMismatch("Department with ID " + id + " is at version " + department.getVersion()
+	                + ", not " + expectedVersion + ".");
+	    }
+	    mapper.updateEntity(departmentDto, department);
+	    // Flushed now so the version returned, and the ETag made from it, already count this update
+	    Department updatedDepartment = repository.saveAndFlush(department);
+	    // The previous code is not known here, so let the employee service drop all cached departments
+	    eventPublisher.publishEvent(new DepartmentChangedEvent(null));
+	    return mapper.toDto(updatedDepartment);
+	}
+
+
+	@Override
+	public Long patchDepartment(Long id, DepartmentDto changes, Long expectedVersion) {
+	    if (repository.updateFields(id, changedFields(changes), expectedVersion) == 0) {
+	        // Nothing matched: only now is it worth a second query to tell a missing department from a stale If-Match
+	        if (expectedVersion != null && repository.existsById(id)) {
+	            throw new VersionMismatch("Department with ID " + id + " is not at version " + expectedVersion + ".");
+	        }
 	        throw new IdNotFound("Department with ID " + id + " not found.");
 	    }
-	    Department department = mapper.map(departmentDto, Department.class);
-	    department.setId(id);
-	    Department updatedDepartment = repository.save(department);
-	    return mapper.map(updatedDepartment, DepartmentDto.class);
+	    // The code may have changed and the previous one is not known here, so drop all cached departments
+	    eventPublisher.publishEvent(new DepartmentChangedEvent(null));
+	    return expectedVersion != null ? expectedVersion + 1 : null;
 	}
 
+	// Non-null fields of the patch, each checked against the constraints it carries on DepartmentDto
+	private Map<String, Object> changedFields(DepartmentDto changes) {
+		BeanWrapper dto = new BeanWrapperImpl(changes);
+		Map<String, Object> fields = new LinkedHashMap<>();
+		for (String field : PATCHABLE_FIELDS) {
+			Object value = dto.getPropertyValue(field);
+			if (value == null) {
+				continue;
+			}
+			Set<ConstraintViolation<DepartmentDto>> violations = validator.validateProperty(changes, field);
+			if (!violations.isEmpty()) {
+				throw new IllegalArgumentException(violations.iterator().next().getMessage());
+			}
+			fields.put(field, value);
+		}
+		if (fields.isEmpty()) {
+			throw new IllegalArgumentException("The patch changes no fields. Patchable fields are " + PATCHABLE_FIELDS + ".");
+		}
+		return fields;
+	}
 
 	@Override
 	public String deleteDepartment(Long id) {
-	    if (!repository.existsById(id)) {
+	    if (repository.deleteRowById(id) == 0) {
 	        throw new IdNotFound("Department with ID " + id + " not found.");
 	    }
-	    repository.deleteById(id);
+	    eventPublisher.publishEvent(new DepartmentChangedEvent(null));
 	    return "Department successfully deleted with ID " + id;
 	}
 
+	@Override
+	public String deleteDepartments(List<Long> ids) {
+	    Set<Long> distinctIds = new LinkedHashSet<>(ids);
+	    if (distinctIds.isEmpty() || distinctIds.size() > maxDeleteIds) {
+	        throw new IllegalArgumentException("Between 1 and " + maxDeleteIds + " department IDs can be deleted at once.");
+	    }
+	    int deleted = repository.deleteRowsByIdIn(distinctIds);
+	    if (deleted == 0) {
+	        throw new IdNotFound("None of the departments with IDs " + distinctIds + " were found.");
+	    }
+	    // One event for the whole batch; the employee service drops all cached departments either way
+	    eventPublisher.publishEvent(new DepartmentChangedEvent(null));
+	    return deleted + " of " + distinctIds.size() + " departments successfully deleted";
+	}
+
 	@Override
 	public DepartmentDto getDepartmentByCode(String code) {
 		// TODO Auto-generated method stub
 		Department department = repository.findByDepartmentCode(code);
-		return mapper.map(department, DepartmentDto.class);
+		if (department == null) {
+			throw new IdNotFound("Department with code " + code + " not found.");
+		}
+		return mapper.toDto(department);
+	}
+
+	@Override
+	public List<DepartmentDto> getDepartmentsByCodes(List<String> codes) {
+		if (new LinkedHashSet<>(codes).size() > maxBatchIds) {
+			throw new IllegalArgumentException("At most " + maxBatchIds + " department codes can be fetched at once.");
+		}
+		List<Department> departments = repository.findByDepartmentCodeIn(codes);
+		return mapper.toDtoList(departments);
 	}
 
 }
@@ -0,0 +1,35 @@
+package com.capstone.service;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+// Builds the Pageable for the "/page" endpoints from the raw page, size and "field[,asc|desc]" sort parameters.
+// Only the service's sortable fields reach ORDER BY, and id breaks ties so page boundaries stay stable.
+final class PageRequests {
+
+	private PageRequests() {
+	}
+
+	static Pageable of(int page, int size, String sort, int maxPageSize, List<String> sortableFields) {
+		if (page < 0) {
+			throw new IllegalArgumentException("Page index must not be negative.");
+		}
+		if (size < 1 || size > maxPageSize) {
+			throw new IllegalArgumentException("Page size must be between 1 and " + maxPageSize + ".");
+		}
+		String[] parts = sort.split(",");
+		String property = parts[0].trim();
+		if (!sortableFields.contains(property)) {
+			throw new IllegalArgumentException("Cannot sort by '" + property + "'. Sortable fields are " + sortableFields + ".");
+		}
+		Sort.Direction direction = parts.length > 1 ? Sort.Direction.fromString(parts[1].trim()) : Sort.Direction.ASC;
+		Sort order = Sort.by(direction, property);
+		if (!"id".equals(property)) {
+			order = order.and(Sort.by("id"));
+		}
+		return PageRequest.of(page, size, order);
+	}
+}
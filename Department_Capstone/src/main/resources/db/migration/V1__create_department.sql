@@ -0,0 +1,8 @@
+-- Schema as previously generated by ddl-auto=update; existing databases are baselined at this version
+CREATE TABLE department (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255),
+    description VARCHAR(255),
+    department_code VARCHAR(255),
+    PRIMARY KEY (id)
+);
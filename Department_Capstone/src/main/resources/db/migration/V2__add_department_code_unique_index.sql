@@ -0,0 +1,2 @@
+-- findByDepartmentCode and findByDepartmentCodeIn look departments up by code, which must identify one department
+CREATE UNIQUE INDEX uk_department_department_code ON department (department_code);
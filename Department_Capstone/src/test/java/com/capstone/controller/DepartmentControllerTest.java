@@ -1,12 +1,17 @@
 package com.capstone.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.Arrays;
@@ -20,11 +25,15 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import com.capstone.dto.DepartmentDto;
+import com.capstone.dto.PageResponseDto;
+import com.capstone.exception.IdNotFound;
+import com.capstone.exception.VersionMismatch;
 import com.capstone.service.DepartmentService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -79,7 +88,7 @@ class DepartmentControllerTest {
 
     @Test
     void testUpdateDepartment() throws Exception {
-        when(departmentService.updateDepartment(any(Long.class), any(DepartmentDto.class))).thenReturn(departmentDto);
+        when(departmentService.updateDepartment(any(Long.class), any(DepartmentDto.class), isNull())).thenReturn(departmentDto);
 
         mockMvc.perform(put("/departments/1")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -88,6 +97,68 @@ class DepartmentControllerTest {
                 .andExpect(content().json(new ObjectMapper().writeValueAsString(departmentDto)));
     }
 
+    @Test
+    void testGetDepartmentById_NotModified() throws Exception {
+        departmentDto.setVersion(3L);
+        when(departmentService.getDepartmentById(1L)).thenReturn(departmentDto);
+
+        mockMvc.perform(get("/departments/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+
+        mockMvc.perform(get("/departments/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void testUpdateDepartment_IfMatch() throws Exception {
+        DepartmentDto updated = new DepartmentDto(1L, "HR", "Human Resources Department", "HR001");
+        updated.setVersion(4L);
+        when(departmentService.updateDepartment(eq(1L), any(DepartmentDto.class), eq(3L))).thenReturn(updated);
+        when(departmentService.updateDepartment(eq(1L), any(DepartmentDto.class), eq(2L)))
+                .thenThrow(new VersionMismatch("Department with ID 1 is at version 3, not 2."));
+
+        mockMvc.perform(put("/departments/1")
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(new ObjectMapper().writeValueAsString(departmentDto)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+
+        mockMvc.perform(put("/departments/1")
+                .header(HttpHeaders.IF_MATCH, "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(new ObjectMapper().writeValueAsString(departmentDto)))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(put("/departments/1")
+                .header(HttpHeaders.IF_MATCH, "W/\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(new ObjectMapper().writeValueAsString(departmentDto)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void testPatchDepartment() throws Exception {
+        when(departmentService.patchDepartment(eq(1L), any(DepartmentDto.class), eq(3L))).thenReturn(4L);
+        when(departmentService.patchDepartment(eq(2L), any(DepartmentDto.class), isNull()))
+                .thenThrow(new IdNotFound("Department with ID 2 not found."));
+
+        mockMvc.perform(patch("/departments/1")
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Human Resources\"}"))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+
+        mockMvc.perform(patch("/departments/2")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Human Resources\"}"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void testDeleteDepartment() throws Exception {
         when(departmentService.deleteDepartment(1L)).thenReturn("Department successfully deleted with ID 1");
@@ -98,6 +169,15 @@ class DepartmentControllerTest {
                 .andExpect(content().string("Department successfully deleted with ID 1"));
     }
 
+    @Test
+    void testDeleteDepartments() throws Exception {
+        when(departmentService.deleteDepartments(Arrays.asList(1L, 2L))).thenReturn("2 of 2 departments successfully deleted");
+
+        mockMvc.perform(delete("/departments").param("ids", "1", "2"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("2 of 2 departments successfully deleted"));
+    }
+
     @Test
     void testGetDepartmentByCode() throws Exception {
         when(departmentService.getDepartmentByCode("HR001")).thenReturn(departmentDto);
@@ -107,4 +187,38 @@ class DepartmentControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().json(new ObjectMapper().writeValueAsString(departmentDto)));
     }
+
+    @Test
+    void testGetDepartmentsByCodes() throws Exception {
+        List<DepartmentDto> departmentDtos = Arrays.asList(departmentDto);
+        when(departmentService.getDepartmentsByCodes(Arrays.asList("HR001", "IT001"))).thenReturn(departmentDtos);
+
+        mockMvc.perform(get("/departments/batch?codes=HR001,IT001")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().json(new ObjectMapper().writeValueAsString(departmentDtos)));
+    }
+
+    @Test
+    void testGetDepartmentsPage() throws Exception {
+        PageResponseDto<DepartmentDto> page = new PageResponseDto<>(Arrays.asList(departmentDto), 0, 20, false, null, null);
+        when(departmentService.getDepartmentsPage(0, 20, "name,desc", false)).thenReturn(page);
+
+        mockMvc.perform(get("/departments/page?sort=name,desc")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].departmentCode").value("HR001"))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    void testGetDepartmentsPage_BadSort() throws Exception {
+        when(departmentService.getDepartmentsPage(0, 20, "description", false))
+                .thenThrow(new IllegalArgumentException("Cannot sort by 'description'."));
+
+        mockMvc.perform(get("/departments/page?sort=description")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,32 @@
+package com.capstone.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.capstone.dto.DepartmentDto;
+import com.capstone.entity.Department;
+
+class DepartmentMapperTest {
+
+    private final DepartmentMapper mapper = new DepartmentMapperImpl();
+
+    @Test
+    void testToDtoAndBack() {
+        Department department = new Department(1L, "HR", "Human Resources Department", "HR001");
+
+        DepartmentDto departmentDto = mapper.toDto(department);
+
+        assertEquals(new DepartmentDto(1L, "HR", "Human Resources Department", "HR001"), departmentDto);
+        assertEquals(department, mapper.toEntity(departmentDto));
+    }
+
+    @Test
+    void testNullAndList() {
+        assertNull(mapper.toDto(null));
+        assertEquals(2, mapper.toDtoList(List.of(new Department(), new Department())).size());
+    }
+}
@@ -1,10 +1,17 @@
 package com.capstone.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import com.capstone.entity.Department;
 
@@ -14,6 +21,9 @@ public class DepartmentRepositoryTests {
     @Autowired
     private DepartmentRepo departmentRepo;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void givenDepartmentCode_whenFindByDepartmentCode_thenReturnDepartment() {
         // Given
@@ -28,4 +38,68 @@ public class DepartmentRepositoryTests {
         assertThat(foundDepartment).isNotNull();
         assertThat(foundDepartment.getDepartmentCode()).isEqualTo(departmentCode);
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenDepartmentCodes_whenFindByDepartmentCodeIn_thenReturnMatchingDepartments() {
+        // Given
+        departmentRepo.save(new Department(null, "Information Technology", "IT Department", "IT"));
+        departmentRepo.save(new Department(null, "Human Resources", "HR Department", "HR"));
+        departmentRepo.save(new Department(null, "Finance", "Finance Department", "FIN"));
+
+        // When
+        List<Department> foundDepartments = departmentRepo.findByDepartmentCodeIn(List.of("IT", "HR", "OPS"));
+
+        // Then
+        assertThat(foundDepartments).extracting(Department::getDepartmentCode).containsExactlyInAnyOrder("IT", "HR");
+    }
+
+    @Test
+    void givenDepartmentCodeLookups_whenExplain_thenUseUniqueIndex() {
+        // H2 prints the index it picks in the plan, or tableScan when there is none
+        assertThat(jdbcTemplate.queryForObject("EXPLAIN SELECT * FROM department WHERE department_code = 'IT'", String.class))
+            .containsIgnoringCase("uk_department_department_code")
+            .doesNotContain("tableScan");
+        assertThat(jdbcTemplate.queryForObject("EXPLAIN SELECT * FROM department WHERE department_code IN ('IT', 'HR')", String.class))
+            .containsIgnoringCase("uk_department_department_code")
+            .doesNotContain("tableScan");
+    }
+
+    @Test
+    void givenDuplicateDepartmentCode_whenSave_thenReject() {
+        departmentRepo.saveAndFlush(new Department(null, "Information Technology", "IT Department", "IT"));
+
+        assertThatThrownBy(() -> departmentRepo.saveAndFlush(new Department(null, "Infrastructure", "Infra Department", "IT")))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void givenUpdatedDepartment_whenSaveStaleCopy_thenRejectWithOptimisticLockFailure() {
+        Department department = departmentRepo.saveAndFlush(new Department(null, "Information Technology", "IT Department", "IT"));
+        assertThat(department.getVersion()).isEqualTo(0L);
+
+        department.setDescription("Information Technology Department");
+        department = departmentRepo.saveAndFlush(department);
+        assertThat(department.getVersion()).isEqualTo(1L);
+
+        // A client that read version 0 and writes it back after the update above
+        Department stale = new Department(department.getId(), "Infrastructure", "Infra Department", "IT");
+        stale.setVersion(0L);
+        assertThatThrownBy(() -> departmentRepo.saveAndFlush(stale))
+            .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    @Test
+    void givenDepartment_whenUpdateFields_thenWriteOnlyThoseColumns() {
+        Department department = departmentRepo.saveAndFlush(new Department(null, "Information Technology", "IT Department", "IT"));
+        // Changed behind the persistence context's back; a full-row write would put the old value back
+        jdbcTemplate.update("UPDATE department SET description = 'Changed elsewhere' WHERE id = ?", department.getId());
+
+        assertThat(departmentRepo.updateFields(department.getId(), Map.of("name", "Infrastructure"), 0L)).isEqualTo(1);
+        assertThat(departmentRepo.updateFields(department.getId(), Map.of("name", "Infrastructure"), 0L)).isZero();
+
+        assertThat(jdbcTemplate.queryForMap("SELECT name, description, version FROM department WHERE id = ?", department.getId()))
+            .containsEntry("NAME", "Infrastructure")
+            .containsEntry("DESCRIPTION", "Changed elsewhere")
+            .containsEntry("VERSION", 1L);
+    }
+}
@@ -2,12 +2,20 @@ package com.capstone.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -15,20 +23,40 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.modelmapper.ModelMapper;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.capstone.dto.DepartmentDto;
+import com.capstone.dto.PageResponseDto;
 import com.capstone.entity.Department;
+import com.capstone.event.DepartmentChangedEvent;
 import com.capstone.exception.IdNotFound;
+import com.capstone.exception.VersionMismatch;
+import com.capstone.mapper.DepartmentMapper;
 import com.capstone.repository.DepartmentRepo;
 
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
 class DepartmentServiceImplTest {
 
     @Mock
     private DepartmentRepo repository;
 
     @Mock
-    private ModelMapper mapper;
+    private DepartmentMapper mapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
 
     @InjectMocks
     private DepartmentServiceImpl departmentService;
@@ -45,13 +73,14 @@ class DepartmentServiceImplTest {
 
     @Test
     void testCreateDepartment() {
-        when(mapper.map(departmentDto, Department.class)).thenReturn(department);
+        when(mapper.toEntity(departmentDto)).thenReturn(department);
         when(repository.save(department)).thenReturn(department);
-        when(mapper.map(department, DepartmentDto.class)).thenReturn(departmentDto);
+        when(mapper.toDto(department)).thenReturn(departmentDto);
 
         DepartmentDto result = departmentService.createDepartment(departmentDto);
         assertNotNull(result);
         assertEquals(departmentDto.getName(), result.getName());
+        verify(eventPublisher).publishEvent(new DepartmentChangedEvent("HR001"));
     }
 
     @Test
@@ -60,7 +89,7 @@ class DepartmentServiceImplTest {
         List<DepartmentDto> departmentDtos = Arrays.asList(departmentDto);
 
         when(repository.findAll()).thenReturn(departments);
-        when(mapper.map(department, DepartmentDto.class)).thenReturn(departmentDto);
+        when(mapper.toDtoList(departments)).thenReturn(departmentDtos);
 
         List<DepartmentDto> result = departmentService.getAllDepartments();
         assertNotNull(result);
@@ -71,7 +100,7 @@ class DepartmentServiceImplTest {
     @Test
     void testGetDepartmentById() {
         when(repository.findById(1L)).thenReturn(Optional.of(department));
-        when(mapper.map(department, DepartmentDto.class)).thenReturn(departmentDto);
+        when(mapper.toDto(department)).thenReturn(departmentDto);
 
         DepartmentDto result = departmentService.getDepartmentById(1L);
         assertNotNull(result);
@@ -80,28 +109,104 @@ class DepartmentServiceImplTest {
 
     @Test
     void testUpdateDepartment() {
-        when(repository.existsById(1L)).thenReturn(true);
-        when(mapper.map(departmentDto, Department.class)).thenReturn(department);
-        when(repository.save(department)).thenReturn(department);
-        when(mapper.map(department, DepartmentDto.class)).thenReturn(departmentDto);
+        when(repository.findById(1L)).thenReturn(Optional.of(department));
+        when(repository.saveAndFlush(department)).thenReturn(department);
+        when(mapper.toDto(department)).thenReturn(departmentDto);
 
-        DepartmentDto result = departmentService.updateDepartment(1L, departmentDto);
+        DepartmentDto result = departmentService.updateDepartment(1L, departmentDto, null);
         assertNotNull(result);
         assertEquals(departmentDto.getName(), result.getName());
+        verify(mapper).updateEntity(departmentDto, department);
+    }
+
+    @Test
+    void testUpdateDepartment_VersionMismatch() {
+        department.setVersion(3L);
+        when(repository.findById(1L)).thenReturn(Optional.of(department));
+
+        assertThrows(VersionMismatch.class, () -> departmentService.updateDepartment(1L, departmentDto, 2L));
+        verify(repository, never()).saveAndFlush(any(Department.class));
+        verify(eventPublisher, never()).publishEvent(any(DepartmentChangedEvent.class));
+    }
+
+    @Test
+    void testPatchDepartment() {
+        DepartmentDto changes = new DepartmentDto();
+        changes.setName("Human Resources");
+        when(repository.updateFields(1L, Map.of("name", "Human Resources"), 3L)).thenReturn(1);
+
+        Long version = departmentService.patchDepartment(1L, changes, 3L);
+
+        assertEquals(4L, version);
+        verify(repository, never()).findById(anyLong());
+        verify(eventPublisher).publishEvent(any(DepartmentChangedEvent.class));
+    }
+
+    @Test
+    void testPatchDepartment_NoRowUpdated() {
+        DepartmentDto changes = new DepartmentDto();
+        changes.setName("Human Resources");
+        when(repository.updateFields(1L, Map.of("name", "Human Resources"), null)).thenReturn(0);
+        when(repository.updateFields(2L, Map.of("name", "Human Resources"), 3L)).thenReturn(0);
+        when(repository.existsById(2L)).thenReturn(true);
+
+        assertThrows(IdNotFound.class, () -> departmentService.patchDepartment(1L, changes, null));
+        assertThrows(VersionMismatch.class, () -> departmentService.patchDepartment(2L, changes, 3L));
+        verify(eventPublisher, never()).publishEvent(any(DepartmentChangedEvent.class));
+    }
+
+    @Test
+    void testPatchDepartment_Invalid() {
+        DepartmentDto longDescription = new DepartmentDto();
+        longDescription.setDescription("x".repeat(201));
+
+        assertThrows(IllegalArgumentException.class, () -> departmentService.patchDepartment(1L, longDescription, null));
+        assertThrows(IllegalArgumentException.class, () -> departmentService.patchDepartment(1L, new DepartmentDto(), null));
+        verify(repository, never()).updateFields(anyLong(), anyMap(), any());
     }
 
     @Test
     void testDeleteDepartment() {
-        when(repository.existsById(1L)).thenReturn(true);
+        when(repository.deleteRowById(1L)).thenReturn(1);
 
         String result = departmentService.deleteDepartment(1L);
         assertEquals("Department successfully deleted with ID 1", result);
+        verify(repository, never()).existsById(anyLong());
+        verify(eventPublisher).publishEvent(any(DepartmentChangedEvent.class));
+    }
+
+    @Test
+    void testDeleteDepartment_NotFound() {
+        when(repository.deleteRowById(1L)).thenReturn(0);
+
+        assertThrows(IdNotFound.class, () -> departmentService.deleteDepartment(1L));
+        verify(eventPublisher, never()).publishEvent(any(DepartmentChangedEvent.class));
+    }
+
+    @Test
+    void testDeleteDepartments() {
+        ReflectionTestUtils.setField(departmentService, "maxDeleteIds", 500);
+        when(repository.deleteRowsByIdIn(Set.of(1L, 2L, 3L))).thenReturn(2);
+        when(repository.deleteRowsByIdIn(Set.of(4L))).thenReturn(0);
+
+        assertEquals("2 of 3 departments successfully deleted", departmentService.deleteDepartments(List.of(1L, 2L, 3L, 2L)));
+        assertThrows(IdNotFound.class, () -> departmentService.deleteDepartments(List.of(4L)));
+        verify(eventPublisher).publishEvent(any(DepartmentChangedEvent.class));
+    }
+
+    @Test
+    void testDeleteDepartments_InvalidSize() {
+        ReflectionTestUtils.setField(departmentService, "maxDeleteIds", 2);
+
+        assertThrows(IllegalArgumentException.class, () -> departmentService.deleteDepartments(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> departmentService.deleteDepartments(List.of(1L, 2L, 3L)));
+        verify(repository, never()).deleteRowsByIdIn(any());
     }
 
     @Test
     void testGetDepartmentByCode() {
         when(repository.findByDepartmentCode("HR001")).thenReturn(department);
-        when(mapper.map(department, DepartmentDto.class)).thenReturn(departmentDto);
+        when(mapper.toDto(department)).thenReturn(departmentDto);
 
         DepartmentDto result = departmentService.getDepartmentByCode("HR001");
         assertNotNull(result);
@@ -114,4 +219,67 @@ class DepartmentServiceImplTest {
         
         assertThrows(IdNotFound.class, () -> departmentService.getDepartmentById(2L));
     }
+
+    @Test
+    void testGetDepartmentsByCodes() {
+        ReflectionTestUtils.setField(departmentService, "maxBatchIds", 500);
+        List<String> codes = Arrays.asList("HR001", "IT001");
+        when(repository.findByDepartmentCodeIn(codes)).thenReturn(Arrays.asList(department));
+        when(mapper.toDtoList(Arrays.asList(department))).thenReturn(Arrays.asList(departmentDto));
+
+        List<DepartmentDto> result = departmentService.getDepartmentsByCodes(codes);
+        assertEquals(1, result.size());
+        assertEquals(departmentDto.getDepartmentCode(), result.get(0).getDepartmentCode());
+    }
+
+    @Test
+    void testGetDepartmentsByCodes_TooMany() {
+        ReflectionTestUtils.setField(departmentService, "maxBatchIds", 2);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> departmentService.getDepartmentsByCodes(List.of("HR001", "IT001", "FN001")));
+        verify(repository, never()).findByDepartmentCodeIn(any());
+    }
+
+    @Test
+    void testGetDepartmentByCode_NotFound() {
+        when(repository.findByDepartmentCode("XX999")).thenReturn(null);
+
+        assertThrows(IdNotFound.class, () -> departmentService.getDepartmentByCode("XX999"));
+    }
+
+    @Test
+    void testGetDepartmentsPage_SliceMode() {
+        ReflectionTestUtils.setField(departmentService, "maxPageSize", 500);
+        Pageable pageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "name").and(Sort.by("id")));
+        when(repository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(department), pageable, true));
+        when(mapper.toDto(department)).thenReturn(departmentDto);
+
+        PageResponseDto<DepartmentDto> result = departmentService.getDepartmentsPage(0, 1, "name,desc", false);
+
+        assertEquals(List.of(departmentDto), result.getContent());
+        assertTrue(result.isHasNext());
+        assertNull(result.getTotalElements());
+        verify(repository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void testGetDepartmentsPage_CountMode() {
+        ReflectionTestUtils.setField(departmentService, "maxPageSize", 500);
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("id"));
+        when(repository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(department), pageable, 1));
+        when(mapper.toDto(department)).thenReturn(departmentDto);
+
+        PageResponseDto<DepartmentDto> result = departmentService.getDepartmentsPage(0, 20, "id", true);
+
+        assertEquals(1L, result.getTotalElements());
+        assertEquals(1, result.getTotalPages());
+    }
+
+    @Test
+    void testGetDepartmentsPage_RejectsUnknownSortField() {
+        ReflectionTestUtils.setField(departmentService, "maxPageSize", 500);
+
+        assertThrows(IllegalArgumentException.class, () -> departmentService.getDepartmentsPage(0, 20, "description", false));
+    }
 }
@@ -0,0 +1,72 @@
+package com.capstone.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.capstone.security.InternalToken;
+import com.capstone.service.DepartmentCache;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name="Internal REST APIs for the department cache",
+description="Invalidation hooks called by department-capstone when a department changes")
+@RestController
+@RequestMapping("/internal/cache/departments")
+public class DepartmentCacheController {
+
+    @Autowired
+    private DepartmentCache departmentCache;
+
+    @Autowired
+    private InternalToken internalToken;
+
+    @Operation(summary = "EVICT department REST API",
+    		description="EVICT department REST API drops one cached department code")
+    
+    @ApiResponse(
+    		responseCode="204",
+    		description="HTTP Status 204 NO CONTENT"
+    		)
+    @ApiResponse(
+    		responseCode="403",
+    		description="HTTP Status 403 FORBIDDEN without the internal cache token"
+    		)
+    @DeleteMapping("/{departmentCode}")
+    public ResponseEntity<Void> evictDepartment(@PathVariable("departmentCode") String departmentCode,
+            @RequestHeader(value = InternalToken.NAME, required = false) String token) {
+        if (!internalToken.matches(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        departmentCache.evict(departmentCode);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "EVICT all departments REST API",
+    		description="EVICT all departments REST API drops every cached department")
+    
+    @ApiResponse(
+    		responseCode="204",
+    		description="HTTP Status 204 NO CONTENT"
+    		)
+    @ApiResponse(
+    		responseCode="403",
+    		description="HTTP Status 403 FORBIDDEN without the internal cache token"
+    		)
+    @DeleteMapping
+    public ResponseEntity<Void> evictAllDepartments(@RequestHeader(value = InternalToken.NAME, required = false) String token) {
+        if (!internalToken.matches(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        departmentCache.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+
+}
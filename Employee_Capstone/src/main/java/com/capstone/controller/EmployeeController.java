@@ -1,26 +1,45 @@
 package com.capstone.controller;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.capstone.dto.AllApiResponnseDto;
 import com.capstone.dto.ApiResponseDto;
 import com.capstone.dto.EmployeeDto;
+import com.capstone.dto.EmployeeFilterDto;
+import com.capstone.dto.EmployeePageDto;
+import com.capstone.dto.EmployeeSearchDto;
+import com.capstone.dto.ImportResultDto;
 import com.capstone.dto.PerformanceApiResponseDto;
 import com.capstone.dto.TaskApiResponseDto;
+import com.capstone.exception.VersionMismatch;
+import com.capstone.service.EmployeeExportService;
+import com.capstone.service.EmployeeImportService;
 import com.capstone.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -30,7 +49,7 @@ import jakarta.validation.Valid;
 @Tag(name="CRUD REST APIs for employee resourse",
 description="CRUD REST APIs- Create employee,update employee,delete employee,get employee,getall employees")
 @RestController
-@CrossOrigin
+@CrossOrigin(exposedHeaders = HttpHeaders.ETAG)
 @RequestMapping("/api/employees")
 public class EmployeeController {
     
@@ -40,6 +59,15 @@ public class EmployeeController {
     @Autowired
     private ModelMapper map;
     
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private EmployeeImportService importService;
+    
+    @Autowired
+    private EmployeeExportService exportService;
+    
     @Operation(summary = "CREATE employee REST APIs",
     		description="CREATE employee REST APIs used to save employee in a database")
     
@@ -50,7 +78,21 @@ public class EmployeeController {
     @PostMapping
     public ResponseEntity<EmployeeDto> createEmployee(@RequestBody @Valid EmployeeDto employeeDto) {
         EmployeeDto createdEmployeeDto = service.createEmployee(employeeDto);
-        return new ResponseEntity<>(createdEmployeeDto, HttpStatus.CREATED);
+        return withETag(createdEmployeeDto, HttpStatus.CREATED);
+    }
+    
+    @Operation(summary = "IMPORT employees REST API",
+    		description="import employees REST APIs used to bulk load a CSV (header row of field names) or NDJSON upload; invalid rows are reported, not saved")
+    
+    @ApiResponse(
+    		responseCode="200",
+    		description="HTTP Status 200 SUCCESS"
+    		)
+    @PostMapping(value = "/import", consumes = { EmployeeImportService.CSV, EmployeeImportService.NDJSON })
+    public ResponseEntity<ImportResultDto> importEmployees(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+    		InputStream body) throws IOException {
+        ImportResultDto result = importService.importEmployees(body, contentType);
+        return new ResponseEntity<>(result, HttpStatus.OK);
     }
     
     @Operation(summary = "GET ALL employee REST APIs",
@@ -66,6 +108,88 @@ public class EmployeeController {
         return new ResponseEntity<>(employeesDto, HttpStatus.OK);
     }
     
+    @Operation(summary = "GET employees page REST API",
+    		description="get employees REST APIs used to walk all employees page by page with a cursor")
+    
+    @ApiResponse(
+    		responseCode="200",
+    		description="HTTP Status 200 SUCCESS"
+    		)
+    @GetMapping("/cursor")
+    public ResponseEntity<EmployeePageDto> getEmployeesPage(@RequestParam(required = false) String after,
+    		@RequestParam(defaultValue = "100") int size) {
+        EmployeePageDto employeePage = service.getEmployeesPage(after, size);
+        return new ResponseEntity<>(employeePage, HttpStatus.OK);
+    }
+    
+    @Operation(summary = "FILTER employees REST API",
+    		description="filter employees REST APIs used to find employees by job role, department code, salary range and name prefix, page by page with a cursor")
+    
+    @ApiResponse(
+    		responseCode="200",
+    		description="HTTP Status 200 SUCCESS"
+    		)
+    @GetMapping("/filter")
+    public ResponseEntity<EmployeePageDto> filterEmployees(EmployeeFilterDto filter,
+    		@RequestParam(required = false) String after, @RequestParam(defaultValue = "100") int size) {
+        EmployeePageDto employeePage = service.filterEmployees(filter, after, size);
+        return new ResponseEntity<>(employeePage, HttpStatus.OK);
+    }
+    
+    @Operation(summary = "SEARCH employees REST API",
+    		description="search employees REST APIs used for typeahead: ranked employees whose name or email has a word starting with q")
+    
+    @ApiResponse(
+    		responseCode="200",
+    		description="HTTP Status 200 SUCCESS"
+    		)
+    @GetMapping("/search")
+    public ResponseEntity<List<EmployeeSearchDto>> searchEmployees(@RequestParam String q,
+    		@RequestParam(defaultValue = "10") int limit) {
+        List<EmployeeSearchDto> employees = service.searchEmployees(q, limit);
+        return new ResponseEntity<>(employees, HttpStatus.OK);
+    }
+    
+    @Operation(summary = "STREAM all employees REST API",
+    		description="stream employees REST APIs used to write every employee as newline delimited JSON without loading them all")
+    
+    @ApiResponse(
+    		responseCode="200",
+    		description="HTTP Status 200 SUCCESS"
+    		)
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamAllEmployees() {
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = new BufferedOutputStream(outputStream);
+            service.streamAllEmployees(employeeDto -> {
+                try {
+                    out.write(objectMapper.writeValueAsBytes(employeeDto));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType("application/x-ndjson")).body(body);
+    }
+    
+    @Operation(summary = "EXPORT all employees REST API",
+    		description="export employees REST APIs used to download the whole directory as a gzipped CSV streamed from a database cursor")
+    
+    @ApiResponse(
+    		responseCode="200",
+    		description="HTTP Status 200 SUCCESS"
+    		)
+    @GetMapping(value = "/export", produces = EmployeeExportService.GZIP)
+    public ResponseEntity<StreamingResponseBody> exportEmployees() {
+        StreamingResponseBody body = exportService::exportCsv;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(EmployeeExportService.GZIP))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"employees.csv.gz\"")
+                .body(body);
+    }
+    
     @Operation(summary = "GET employee by id REST API",
     		description="get employee REST APIs used to get a specific employee from a database")
     
@@ -73,10 +197,14 @@ public class EmployeeController {
     		responseCode="200",
     		description="HTTP Status 200 SUCCESS"
     		)
+    @ApiResponse(
+    		responseCode="304",
+    		description="HTTP Status 304 NOT MODIFIED, If-None-Match holds the current ETag"
+    		)
     @GetMapping("/{id}")
     public ResponseEntity<EmployeeDto> getEmployeeById(@PathVariable Long id) {
         EmployeeDto employeeDto = service.getEmployeeById(id);
-        return new ResponseEntity<>(employeeDto, HttpStatus.OK);
+        return withETag(employeeDto, HttpStatus.OK);
 
     }
     
@@ -87,13 +215,40 @@ public class EmployeeController {
     		responseCode="200",
     		description="HTTP Status 200 SUCCESS"
     		)
+    @ApiResponse(
+    		responseCode="412",
+    		description="HTTP Status 412 PRECONDITION FAILED, If-Match does not hold the current ETag"
+    		)
     @PutMapping("/{id}")
-    public ResponseEntity<EmployeeDto> updateEmployee(@PathVariable Long id, @RequestBody @Valid EmployeeDto employeeDto) {
-        EmployeeDto updatedEmployeeDto = service.updateEmployee(id, employeeDto);
-        return updatedEmployeeDto != null ? ResponseEntity.ok(updatedEmployeeDto): ResponseEntity.notFound().build(); 
+    public ResponseEntity<EmployeeDto> updateEmployee(@PathVariable Long id, @RequestBody @Valid EmployeeDto employeeDto,
+    		@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        EmployeeDto updatedEmployeeDto = service.updateEmployee(id, employeeDto, version(ifMatch));
+        return updatedEmployeeDto != null ? withETag(updatedEmployeeDto, HttpStatus.OK): ResponseEntity.notFound().build(); 
   	
     }
     
+    @Operation(summary = "PATCH employee REST API",
+    		description="PATCH employee REST API is used to change only the fields sent, e.g. {\"jobRole\":\"Lead\"}, without reading the employee first")
+    
+    @ApiResponse(
+    		responseCode="204",
+    		description="HTTP Status 204 NO CONTENT, with the new ETag when If-Match was sent"
+    		)
+    @ApiResponse(
+    		responseCode="412",
+    		description="HTTP Status 412 PRECONDITION FAILED, If-Match does not hold the current ETag"
+    		)
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patchEmployee(@PathVariable Long id, @RequestBody EmployeeDto changes,
+    		@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long version = service.patchEmployee(id, changes, version(ifMatch));
+        ResponseEntity.HeadersBuilder<?> response = ResponseEntity.noContent();
+        if (version != null) {
+            response.eTag("\"" + version + "\"");
+        }
+        return response.build();
+    }
+    
     @Operation(summary = "DELETE employee REST API",
     		description="DELETE employee REST API is used to DELETE a specific employee from a database")
     
@@ -107,6 +262,18 @@ public class EmployeeController {
         return ResponseEntity.ok(response);
     }
     
+    @Operation(summary = "DELETE employees by ids REST API",
+    		description="DELETE employee REST API is used to DELETE every employee matching a set of ids in one statement; 404 only when none matched")
+    
+    @ApiResponse(
+    		responseCode="200",
+    		description="HTTP Status 200 SUCCESS"
+    		)
+    @DeleteMapping
+    public ResponseEntity<String> deleteEmployees(@RequestParam("ids") List<Long> ids) {
+        return ResponseEntity.ok(service.deleteEmployees(ids));
+    }
+    
     @Operation(summary = "GET Employee by code and id REST API",
     		description="get Employee REST APIs used to get a specific Employee from a database")
     
@@ -164,5 +331,61 @@ public class EmployeeController {
     	
     	return new ResponseEntity<>(allApiDto, HttpStatus.OK);
     }
+    
+    @Operation(summary = "POST allresponse batch REST API",
+    		description="get allresponse REST APIs used to get all response for a list of employee ids in one call")
+    
+    @ApiResponse(
+    		responseCode="200",
+    		description="HTTP Status 200 SUCCESS"
+    		)
+    @PostMapping("/all/batch")
+    public ResponseEntity<List<AllApiResponnseDto>> getAllServiceBatch(@RequestBody List<Long> ids)
+    {
+    	List<AllApiResponnseDto> allApiDtos = service.getAllServices(ids);
+    	
+    	return new ResponseEntity<>(allApiDtos, HttpStatus.OK);
+    }
+    
+    @Operation(summary = "GET allresponse page REST API",
+    		description="get allresponse REST APIs used to get all response for one page of employees ordered by id")
+    
+    @ApiResponse(
+    		responseCode="200",
+    		description="HTTP Status 200 SUCCESS"
+    		)
+    @GetMapping("/all")
+    public ResponseEntity<List<AllApiResponnseDto>> getAllServicePage(@RequestParam(defaultValue = "0") int page,
+    		@RequestParam(defaultValue = "50") int size)
+    {
+    	List<AllApiResponnseDto> allApiDtos = service.getAllServices(page, size);
+    	
+    	return new ResponseEntity<>(allApiDtos, HttpStatus.OK);
+    }
 
+    // The ETag is the quoted version, so a GET whose If-None-Match still holds it is answered 304 by Spring
+    // without serialising the body
+    private static ResponseEntity<EmployeeDto> withETag(EmployeeDto employeeDto, HttpStatus status) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(status);
+        if (employeeDto != null && employeeDto.getVersion() != null) {
+            response.eTag("\"" + employeeDto.getVersion() + "\"");
+        }
+        return response.body(employeeDto);
+    }
+
+    // Version named by If-Match; null when the header is absent or "*", which only asks for the employee to exist
+    private static Long version(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // Not one of our ETags
+            }
+        }
+        throw new VersionMismatch("If-Match " + ifMatch + " is not a current ETag of this employee.");
+    }
 }
@@ -18,5 +18,11 @@ public class AllApiResponnseDto {
 	private TaskDto task;
 	@Schema(description = "Enter performance")
 	private PerformanceDto performance;
+	@Schema(description = "True when a downstream service was unavailable and its part of the response is missing")
+	private boolean degraded;
+	
+	public AllApiResponnseDto(EmployeeDto employee, DepartmentDto department, TaskDto task, PerformanceDto performance) {
+		this(employee, department, task, performance, false);
+	}
 	
 }
\ No newline at end of file
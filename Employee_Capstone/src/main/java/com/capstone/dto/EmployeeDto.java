@@ -1,5 +1,7 @@
 package com.capstone.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -56,5 +58,12 @@ public class EmployeeDto {
     @Schema(description = "Enter performanceid")
     private Long performanceId;
 
+    @Schema(description = "Version of the employee, also sent as the ETag; send it back in If-Match to update", accessMode = Schema.AccessMode.READ_ONLY)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
 
+    public EmployeeDto(Long id, String name, String email, Long phoneNumber, String jobRole, Double salary,
+            String departmentCode, Long taskId, Long performanceId) {
+        this(id, name, email, phoneNumber, jobRole, salary, departmentCode, taskId, performanceId, null);
+    }
 }
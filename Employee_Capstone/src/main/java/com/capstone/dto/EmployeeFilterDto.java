@@ -0,0 +1,27 @@
+package com.capstone.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description="EmployeeFilterDTO Model Info")
+@Data @AllArgsConstructor @NoArgsConstructor
+public class EmployeeFilterDto {
+
+	@Schema(description = "Exact job role")
+	private String jobRole;
+	
+	@Schema(description = "Exact department code")
+	private String departmentCode;
+	
+	@Schema(description = "Lowest salary, inclusive")
+	private Double minSalary;
+	
+	@Schema(description = "Highest salary, inclusive")
+	private Double maxSalary;
+	
+	@Schema(description = "Start of the employee name")
+	private String name;
+	
+}
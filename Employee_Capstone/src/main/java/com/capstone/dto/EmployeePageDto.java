@@ -0,0 +1,20 @@
+package com.capstone.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description="EmployeePageDTO Model Info")
+@Data @AllArgsConstructor @NoArgsConstructor
+public class EmployeePageDto {
+
+	@Schema(description = "Employees of this page ordered by id")
+	private List<EmployeeDto> employees;
+	
+	@Schema(description = "Cursor to pass as 'after' for the next page, null on the last page")
+	private String next;
+	
+}
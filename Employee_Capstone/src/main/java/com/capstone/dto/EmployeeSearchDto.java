@@ -0,0 +1,21 @@
+package com.capstone.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description="EmployeeSearchDTO Model Info")
+@Data @AllArgsConstructor @NoArgsConstructor
+public class EmployeeSearchDto {
+
+	@Schema(description = "Employee id")
+	private Long id;
+	
+	@Schema(description = "Employee name")
+	private String name;
+	
+	@Schema(description = "Employee email")
+	private String email;
+	
+}
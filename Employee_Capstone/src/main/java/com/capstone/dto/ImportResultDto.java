@@ -0,0 +1,26 @@
+package com.capstone.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description="ImportResultDTO Model Info")
+@Data @AllArgsConstructor @NoArgsConstructor
+public class ImportResultDto {
+
+	@Schema(description = "Data rows read from the upload")
+	private long received;
+	
+	@Schema(description = "Rows saved")
+	private long imported;
+	
+	@Schema(description = "Rows rejected")
+	private long failed;
+	
+	@Schema(description = "Rejected rows with the reason, capped at the configured maximum")
+	private List<ImportErrorDto> errors;
+	
+}
@@ -13,5 +13,11 @@ public class TaskApiResponseDto {
 	private EmployeeDto employee;
 	@Schema(description = "Enter task")
 	private TaskDto task;
+	@Schema(description = "True when the task service was unavailable and the task is missing")
+	private boolean degraded;
+	
+	public TaskApiResponseDto(EmployeeDto employee, TaskDto task) {
+		this(employee, task, false);
+	}
 	
 }
@@ -1,23 +1,43 @@
 package com.capstone.entity;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
+// UPDATE statements list only the columns that changed, so moving an employee to another department rewrites just that column
+@DynamicUpdate
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+// Created by db/migration/V2__add_employee_lookup_indexes.sql and V4__add_employee_filter_indexes.sql
+@Table(indexes = {
+        @Index(name = "idx_employee_department_code", columnList = "department_code"),
+        @Index(name = "idx_employee_task_id", columnList = "task_id"),
+        @Index(name = "idx_employee_performance_id", columnList = "performance_id"),
+        @Index(name = "idx_employee_department_role_salary", columnList = "department_code, job_role, salary"),
+        @Index(name = "idx_employee_role_salary", columnList = "job_role, salary"),
+        @Index(name = "idx_employee_name", columnList = "name")
+})
 public class Employee {
     
+    // Ids are handed out in blocks of 100 from id_generator (pooled-lo), so inserts can be JDBC-batched; IDENTITY cannot
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "employee_id")
+    @TableGenerator(name = "employee_id", table = "id_generator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "employee", allocationSize = 100)
     private Long id;
     
 
@@ -44,4 +64,13 @@ public class Employee {
     private Long taskId;
     
     private Long performanceId;
+
+    // Incremented by Hibernate on every update and sent as the ETag; added by db/migration/V5__add_employee_version.sql
+    @Version
+    private Long version;
+
+    public Employee(Long id, String name, String email, Long phoneNumber, String jobRole, Double salary,
+            String departmentCode, Long taskId, Long performanceId) {
+        this(id, name, email, phoneNumber, jobRole, salary, departmentCode, taskId, performanceId, null);
+    }
 }
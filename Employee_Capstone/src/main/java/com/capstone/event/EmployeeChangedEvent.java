@@ -0,0 +1,27 @@
+package com.capstone.event;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.capstone.entity.Employee;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Published inside an employee transaction; EmployeeIndexUpdater applies it to the search index once that commits
+@Data @AllArgsConstructor
+public class EmployeeChangedEvent {
+
+	private List<Employee> saved;
+
+	private Collection<Long> deletedIds;
+
+	public static EmployeeChangedEvent saved(Employee employee) {
+		return new EmployeeChangedEvent(List.of(employee), List.of());
+	}
+
+	public static EmployeeChangedEvent deleted(Collection<Long> ids) {
+		return new EmployeeChangedEvent(List.of(), ids);
+	}
+
+}
@@ -0,0 +1,24 @@
+package com.capstone.event;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.capstone.service.EmployeeSearchIndex;
+
+// Applies patches and deletes to the search index only once their transaction has committed,
+// so a rollback never leaves the index showing a change the table does not have
+@Component
+public class EmployeeIndexUpdater {
+
+	@Autowired
+	private EmployeeSearchIndex searchIndex;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onEmployeeChanged(EmployeeChangedEvent event) {
+		event.getSaved().forEach(searchIndex::put);
+		event.getDeletedIds().forEach(searchIndex::remove);
+	}
+
+}
@@ -5,11 +5,15 @@ import java.util.Map;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+
 @ControllerAdvice
 public class GlobalExceptionHandling {
 
@@ -18,6 +22,29 @@ public class GlobalExceptionHandling {
         return new ResponseEntity<>(new ErrorMessage("ID not found", e.getMessage()), HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorMessage> handleIllegalArgumentException(IllegalArgumentException e) {
+        return new ResponseEntity<>(new ErrorMessage("Bad request", e.getMessage()), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(VersionMismatch.class)
+    public ResponseEntity<ErrorMessage> handleVersionMismatchException(VersionMismatch e) {
+        return new ResponseEntity<>(new ErrorMessage("Precondition failed", e.getMessage()), HttpStatus.PRECONDITION_FAILED);
+    }
+
+    // Another update committed between reading the employee and writing it back
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorMessage> handleOptimisticLockingFailureException(ObjectOptimisticLockingFailureException e) {
+        return new ResponseEntity<>(new ErrorMessage("Precondition failed",
+                "The record was changed by another request, reload it and try again."), HttpStatus.PRECONDITION_FAILED);
+    }
+
+    // An open circuit breaker or a full bulkhead: the caller may retry later
+    @ExceptionHandler({ CallNotPermittedException.class, BulkheadFullException.class })
+    public ResponseEntity<ErrorMessage> handleDownstreamUnavailableException(RuntimeException e) {
+        return new ResponseEntity<>(new ErrorMessage("Service unavailable", e.getMessage()), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorMessage> handleGlobalException(Exception e) {
         return new ResponseEntity<>(new ErrorMessage("Internal server error", e.getMessage()), HttpStatus.INTERNAL_SERVER_ERROR);
@@ -0,0 +1,10 @@
+package com.capstone.exception;
+
+// An If-Match precondition named a version other than the current one
+public class VersionMismatch extends RuntimeException {
+
+	public VersionMismatch(String message) {
+		super(message);
+	}
+
+}
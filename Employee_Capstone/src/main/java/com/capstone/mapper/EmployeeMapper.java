@@ -0,0 +1,28 @@
+package com.capstone.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+import com.capstone.dto.EmployeeDto;
+import com.capstone.entity.Employee;
+
+// Implementation is generated by MapStruct at compile time: plain getter/setter calls, no reflection
+@Mapper(componentModel = "spring")
+public interface EmployeeMapper {
+
+	EmployeeDto toDto(Employee entity);
+
+	// The version is Hibernate's to set; a new employee starts without one
+	@Mapping(target = "version", ignore = true)
+	Employee toEntity(EmployeeDto dto);
+
+	// Copies the editable fields onto a loaded employee, leaving its id and version alone
+	@Mapping(target = "id", ignore = true)
+	@Mapping(target = "version", ignore = true)
+	void updateEntity(EmployeeDto dto, @MappingTarget Employee entity);
+
+	List<EmployeeDto> toDtoList(List<Employee> entities);
+}
@@ -1,13 +1,48 @@
 package com.capstone.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.capstone.entity.Employee;
 
-public interface EmployeeRepo extends JpaRepository<Employee, Long> {
+import jakarta.persistence.QueryHint;
+
+// JpaSpecificationExecutor backs the filter endpoint, see EmployeeSpecifications; EmployeeRepoCustom backs PATCH
+public interface EmployeeRepo extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee>, EmployeeRepoCustom {
+	
+	// Slice instead of Page: callers only walk forward, so the extra COUNT(*) is not needed
+	Slice<Employee> findAllBy(Pageable pageable);
 	
+	// Keyset page: seeks past the last id of the previous page instead of counting OFFSET rows
+	List<Employee> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 	
+	// Forward-only cursor over every employee; must be consumed inside a transaction and closed
+	@QueryHints({ @QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true") })
+	@Query("select e from Employee e order by e.id")
+	Stream<Employee> streamAllBy();
 	
+	// One DELETE ... WHERE id = ?; unlike deleteById it does not load the employee first, and the count tells if it existed
+	@Modifying
+	@Query("delete from Employee e where e.id = :id")
+	int deleteRowById(@Param("id") Long id);
 	
+	// One DELETE ... WHERE id IN (...) for the bulk delete endpoint
+	@Modifying
+	@Query("delete from Employee e where e.id in :ids")
+	int deleteRowsByIdIn(@Param("ids") Collection<Long> ids);
 
 }
@@ -0,0 +1,36 @@
+package com.capstone.repository;
+
+import java.util.Map;
+
+import com.capstone.entity.Employee;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+// Writes only the given columns without loading the employee first. The bulk update bypasses the
+// persistence context, so callers must not hold a loaded copy of the same employee in the transaction.
+public class EmployeeRepoCustomImpl implements EmployeeRepoCustom {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public int updateFields(Long id, Map<String, Object> fields, Long expectedVersion) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaUpdate<Employee> update = cb.createCriteriaUpdate(Employee.class);
+		Root<Employee> employee = update.from(Employee.class);
+		fields.forEach((field, value) -> update.set(employee.<Object>get(field), value));
+		// Bumped here because a bulk update does not go through Hibernate's @Version handling
+		update.set(employee.<Long>get("version"), cb.sum(employee.<Long>get("version"), 1L));
+		Predicate where = cb.equal(employee.get("id"), id);
+		if (expectedVersion != null) {
+			where = cb.and(where, cb.equal(employee.get("version"), expectedVersion));
+		}
+		update.where(where);
+		return entityManager.createQuery(update).executeUpdate();
+	}
+}
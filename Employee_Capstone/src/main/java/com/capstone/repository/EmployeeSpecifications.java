@@ -0,0 +1,68 @@
+package com.capstone.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.capstone.dto.EmployeeFilterDto;
+import com.capstone.entity.Employee;
+
+// Where clauses for EmployeeRepo.findBy. Each one only compares a bare column against a value
+// (name by prefix), so the composite indexes of V4__add_employee_filter_indexes.sql can serve them.
+public final class EmployeeSpecifications {
+
+	private static final char LIKE_ESCAPE = '\\';
+
+	private EmployeeSpecifications() {
+	}
+
+	// Blank criteria are left out; an empty filter matches every employee
+	public static Specification<Employee> matching(EmployeeFilterDto filter) {
+		Specification<Employee> specification = Specification.where(null);
+		if (hasText(filter.getJobRole())) {
+			specification = specification.and(hasJobRole(filter.getJobRole()));
+		}
+		if (hasText(filter.getDepartmentCode())) {
+			specification = specification.and(inDepartment(filter.getDepartmentCode()));
+		}
+		if (filter.getMinSalary() != null) {
+			specification = specification.and(salaryAtLeast(filter.getMinSalary()));
+		}
+		if (filter.getMaxSalary() != null) {
+			specification = specification.and(salaryAtMost(filter.getMaxSalary()));
+		}
+		if (hasText(filter.getName())) {
+			specification = specification.and(nameStartsWith(filter.getName()));
+		}
+		return specification;
+	}
+
+	public static Specification<Employee> hasJobRole(String jobRole) {
+		return (root, query, builder) -> builder.equal(root.get("jobRole"), jobRole);
+	}
+
+	public static Specification<Employee> inDepartment(String departmentCode) {
+		return (root, query, builder) -> builder.equal(root.get("departmentCode"), departmentCode);
+	}
+
+	public static Specification<Employee> salaryAtLeast(Double minSalary) {
+		return (root, query, builder) -> builder.greaterThanOrEqualTo(root.get("salary"), minSalary);
+	}
+
+	public static Specification<Employee> salaryAtMost(Double maxSalary) {
+		return (root, query, builder) -> builder.lessThanOrEqualTo(root.get("salary"), maxSalary);
+	}
+
+	// LIKE 'prefix%' rather than lower(name) so the name index stays usable
+	public static Specification<Employee> nameStartsWith(String prefix) {
+		String pattern = prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+		return (root, query, builder) -> builder.like(root.get("name"), pattern, LIKE_ESCAPE);
+	}
+
+	public static Specification<Employee> idGreaterThan(Long id) {
+		return (root, query, builder) -> builder.greaterThan(root.get("id"), id);
+	}
+
+	private static boolean hasText(String value) {
+		return value != null && !value.isBlank();
+	}
+
+}
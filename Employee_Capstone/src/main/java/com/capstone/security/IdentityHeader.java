@@ -0,0 +1,105 @@
+package com.capstone.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+// Compact identity the API gateway forwards after verifying the bearer token once.
+// Value is base64url("username\nROLE_A,ROLE_B\nexpiresAt") + "." + base64url(HMAC-SHA256 of that payload),
+// keyed by gateway.identity.secret. Without a secret the header is ignored and the filters verify the JWT themselves.
+@Component
+public class IdentityHeader {
+
+    public static final String NAME = "X-Auth-Identity";
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    @Value("${gateway.identity.secret:}")
+    private String identitySecret = "";
+
+    private SecretKeySpec key;
+
+    @PostConstruct
+    public void init() {
+        if (identitySecret != null && !identitySecret.isBlank()) {
+            key = new SecretKeySpec(Base64.getDecoder().decode(identitySecret.trim()), ALGORITHM);
+        }
+    }
+
+    public boolean isEnabled() {
+        return key != null;
+    }
+
+    public String sign(String username, Collection<String> roles, long expiresAt) {
+        String payload = username + "\n" + String.join(",", roles) + "\n" + expiresAt;
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payloadBytes) + "." + encoder.encodeToString(mac(payloadBytes));
+    }
+
+    // Returns null when the header is missing, forged, malformed or expired
+    public Identity verify(String value) {
+        if (key == null || value == null) {
+            return null;
+        }
+        int dot = value.indexOf('.');
+        if (dot < 0) {
+            return null;
+        }
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            byte[] payloadBytes = decoder.decode(value.substring(0, dot));
+            byte[] signature = decoder.decode(value.substring(dot + 1));
+            if (!MessageDigest.isEqual(mac(payloadBytes), signature)) {
+                return null;
+            }
+            String[] parts = new String(payloadBytes, StandardCharsets.UTF_8).split("\n", -1);
+            if (parts.length != 3) {
+                return null;
+            }
+            long expiresAt = Long.parseLong(parts[2]);
+            if (expiresAt <= System.currentTimeMillis() / 1000) {
+                return null;
+            }
+            List<String> roles = parts[1].isEmpty() ? List.of() : Arrays.asList(parts[1].split(","));
+            return new Identity(parts[0], roles, expiresAt);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private byte[] mac(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // expiresAt is in epoch seconds, the same unit as the JWT exp claim
+    public record Identity(String username, List<String> roles, long expiresAt) {
+
+        public List<GrantedAuthority> authorities() {
+            return roles.stream()
+                    .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role))
+                    .collect(Collectors.toList());
+        }
+    }
+}
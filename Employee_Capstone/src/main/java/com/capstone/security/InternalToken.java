@@ -0,0 +1,25 @@
+package com.capstone.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Shared secret department-capstone sends with its cache invalidation calls, set as internal.cache.secret on both services.
+// Without a secret every call is refused and cached departments only age out after their TTL.
+@Component
+public class InternalToken {
+
+    public static final String NAME = "X-Internal-Token";
+
+    @Value("${internal.cache.secret:}")
+    private String secret = "";
+
+    public boolean matches(String value) {
+        if (secret == null || secret.isBlank() || value == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(secret.trim().getBytes(StandardCharsets.UTF_8), value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -8,12 +8,14 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import jakarta.servlet.FilterChain;
@@ -29,6 +31,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	    @Autowired
 	    private JwtHelper jwtHelper;
 
+	    @Autowired
+	    private IdentityHeader identityHeader;
+
 
 	    @Autowired
 	    private UserDetailsService userDetailsService;
@@ -43,14 +48,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
       //Bearer 2352345235sdfrsfgsdfsdf
         logger.info(" Header :  {}", requestHeader);
         String username = null;
-        String token = null;
+        Claims claims = null;
+        // Set when the API gateway already verified the token and forwarded the signed identity
+        IdentityHeader.Identity identity = this.identityHeader.verify(request.getHeader(IdentityHeader.NAME));
         
-        if (requestHeader != null && requestHeader.startsWith("Bearer")) {
+        if (identity != null) {
+            username = identity.username();
+        } else if (requestHeader != null && requestHeader.startsWith("Bearer")) {
             //looking good
-            token = requestHeader.substring(7);
+            String token = requestHeader.substring(7);
             try {
 
-                username = this.jwtHelper.getUsernameFromToken(token);
+                // Parsed and verified once here; validation below reuses the same claims
+                claims = this.jwtHelper.getAllClaimsFromToken(token);
+                username = claims.getSubject();
 
             } catch (IllegalArgumentException e) {
                 logger.info("Illegal Argument while fetching the username !!");
@@ -76,9 +87,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
 
-            //fetch user detail from username
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-            Boolean validateToken = this.jwtHelper.validateToken(token, userDetails);
+            UserDetails userDetails;
+            Boolean validateToken;
+            if (identity != null) {
+                //trusted gateway identity: no token parsing or user lookup
+                userDetails = User.withUsername(identity.username()).password("").authorities(identity.authorities()).build();
+                validateToken = true;
+            } else {
+                //fetch user detail from username
+                userDetails = this.userDetailsService.loadUserByUsername(username);
+                validateToken = this.jwtHelper.validateToken(claims, userDetails);
+            }
             if (validateToken) {
 
                 //set the authentication
@@ -1,19 +1,34 @@
 package com.capstone.security;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import javax.crypto.SecretKey;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 
 @Component
 public class JwtHelper {
@@ -21,9 +36,37 @@ public class JwtHelper {
     // Validity duration for the JWT token (12 hours)
     public static final long JWT_TOKEN_VALIDITY = 12 * 60 * 60;
 
+    // Claim holding the user's granted authorities, e.g. ["ROLE_ADMIN"], read by the API gateway
+    public static final String ROLES_CLAIM = "roles";
+
     // It is generally safer to store the secret key as a SecretKey object, which can also be securely generated
     private SecretKey secret = Keys.secretKeyFor(SignatureAlgorithm.HS512); // Use a secure, randomly generated key
 
+    // Parsers are immutable and thread-safe, so one instance is built for the key instead of one per call
+    private JwtParser parser = Jwts.parserBuilder().setSigningKey(secret).build();
+
+    // Base64 HS512 key shared with the API gateway and the other services; empty keeps the random key above
+    @Value("${jwt.secret:}")
+    private String sharedSecret = "";
+
+    @Value("${jwt.claims-cache.maximum-size:10000}")
+    private long claimsCacheMaximumSize = 10000;
+
+    // Verified claims keyed by a SHA-256 digest of the token, dropped when the token expires
+    private Cache<String, Claims> claimsCache;
+
+    @PostConstruct
+    public void init() {
+        if (sharedSecret != null && !sharedSecret.isBlank()) {
+            secret = Keys.hmacShaKeyFor(Decoders.BASE64.decode(sharedSecret.trim()));
+            parser = Jwts.parserBuilder().setSigningKey(secret).build();
+        }
+        claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaximumSize)
+                .expireAfter(new ClaimsExpiry())
+                .build();
+    }
+
     // Retrieve username from JWT token
     public String getUsernameFromToken(String token) {
         return getClaimFromToken(token, Claims::getSubject);
@@ -40,21 +83,22 @@ public class JwtHelper {
         return claimsResolver.apply(claims);
     }
 
-    // For retrieving any information from token, we need the secret key
-    private Claims getAllClaimsFromToken(String token) {
-        // Jwts.parserBuilder() is preferred over the deprecated Jwts.parser()
-        return Jwts.parserBuilder().setSigningKey(secret).build().parseClaimsJws(token).getBody();
+    // Signature is verified only the first time a token is seen; later requests with it are served from the cache
+    public Claims getAllClaimsFromToken(String token) {
+        return claimsCache.get(digest(token), key -> parser.parseClaimsJws(token).getBody());
     }
 
     // Check if the token has expired
-    private Boolean isTokenExpired(String token) {
-        final Date expiration = getExpirationDateFromToken(token);
-        return expiration.before(new Date());
+    private Boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
     // Generate token for user
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
+        claims.put(ROLES_CLAIM, userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList()));
         return doGenerateToken(claims, userDetails.getUsername());
     }
 
@@ -74,7 +118,43 @@ public class JwtHelper {
 
     // Validate token
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = getUsernameFromToken(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return validateToken(getAllClaimsFromToken(token), userDetails);
+    }
+
+    // Validate already parsed claims, so the filter does not parse the token a second time
+    public Boolean validateToken(Claims claims, UserDetails userDetails) {
+        return (claims.getSubject().equals(userDetails.getUsername()) && !isTokenExpired(claims));
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // Every JRE is required to provide SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class ClaimsExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0;
+            }
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiration.getTime() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
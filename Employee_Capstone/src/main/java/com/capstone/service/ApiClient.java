@@ -1,16 +1,26 @@
 package com.capstone.service;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.capstone.dto.DepartmentDto;
 
-@FeignClient(name="DEPARTMENT-CAPSTONE")
+@FeignClient(name=ApiClient.NAME)
 public interface ApiClient {
 
+	// Service id in Eureka; also names the client's timeouts, circuit breaker and bulkhead
+	String NAME = "DEPARTMENT-CAPSTONE";
+
 	@GetMapping("/departments/code/{departmentCode}")
 	public DepartmentDto getDepartmentByCode(@PathVariable("departmentCode") String deptDto);
 	
+	@GetMapping("/departments/batch")
+	public List<DepartmentDto> getDepartmentsByCodes(@RequestParam("codes") Collection<String> codes);
+	
 }
@@ -0,0 +1,31 @@
+package com.capstone.service;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+	// Bounded pool used to fan out the downstream Feign calls of the aggregation endpoints.
+	// When the queue is full a call is rejected rather than run on the request thread, where the aggregation
+	// timeout could not cut it short; the lookup then resolves to null and the response is marked degraded.
+	@Bean(name = "aggregationExecutor")
+	public ThreadPoolTaskExecutor aggregationExecutor(
+			@Value("${employee.aggregation.pool-size:32}") int poolSize,
+			@Value("${employee.aggregation.queue-capacity:200}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setAllowCoreThreadTimeOut(true);
+		executor.setThreadNamePrefix("aggregation-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		return executor;
+	}
+
+}
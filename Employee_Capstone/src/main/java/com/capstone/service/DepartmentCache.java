@@ -0,0 +1,130 @@
+package com.capstone.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.capstone.dto.DepartmentDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+
+// Read-through cache in front of ApiClient keyed by departmentCode.
+// Unknown codes are cached as empty entries with a shorter lifetime so they do not hit the department service either.
+// Failed lookups are not cached, so the next request tries again once the circuit breaker lets it.
+@Component
+public class DepartmentCache {
+
+	@Autowired
+	private ApiClient apiClient;
+
+	@Autowired
+	private DownstreamGuard downstreamGuard;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Value("${employee.department-cache.maximum-size:1000}")
+	private long maximumSize;
+
+	@Value("${employee.department-cache.ttl-seconds:600}")
+	private long ttlSeconds;
+
+	@Value("${employee.department-cache.negative-ttl-seconds:60}")
+	private long negativeTtlSeconds;
+
+	private Cache<String, Optional<DepartmentDto>> cache;
+
+	@PostConstruct
+	public void init() {
+		cache = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfter(new DepartmentExpiry(Duration.ofSeconds(ttlSeconds), Duration.ofSeconds(negativeTtlSeconds)))
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "departments");
+	}
+
+	public DepartmentDto getDepartmentByCode(String departmentCode) {
+		if (departmentCode == null) {
+			return null;
+		}
+		return cache.get(departmentCode, this::load).orElse(null);
+	}
+
+	public List<DepartmentDto> getDepartmentsByCodes(Collection<String> departmentCodes) {
+		List<String> codes = departmentCodes.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+		return cache.getAll(codes, this::loadAll).values().stream()
+				.flatMap(Optional::stream)
+				.collect(Collectors.toList());
+	}
+
+	public void evict(String departmentCode) {
+		cache.invalidate(departmentCode);
+	}
+
+	public void evictAll() {
+		cache.invalidateAll();
+	}
+
+	private Optional<DepartmentDto> load(String departmentCode) {
+		try {
+			return Optional.ofNullable(downstreamGuard.call(ApiClient.NAME, () -> apiClient.getDepartmentByCode(departmentCode)));
+		} catch (FeignException.NotFound e) {
+			return Optional.empty();
+		}
+	}
+
+	// Codes the department service does not return are remembered as unknown
+	private Map<String, Optional<DepartmentDto>> loadAll(Iterable<? extends String> departmentCodes) {
+		List<String> codes = new ArrayList<>();
+		departmentCodes.forEach(codes::add);
+		Map<String, Optional<DepartmentDto>> loaded = new HashMap<>();
+		codes.forEach(code -> loaded.put(code, Optional.empty()));
+		downstreamGuard.call(ApiClient.NAME, () -> apiClient.getDepartmentsByCodes(codes))
+				.forEach(department -> loaded.put(department.getDepartmentCode(), Optional.of(department)));
+		return loaded;
+	}
+
+	private static class DepartmentExpiry implements Expiry<String, Optional<DepartmentDto>> {
+
+		private final long ttlNanos;
+		private final long negativeTtlNanos;
+
+		DepartmentExpiry(Duration ttl, Duration negativeTtl) {
+			this.ttlNanos = ttl.toNanos();
+			this.negativeTtlNanos = negativeTtl.toNanos();
+		}
+
+		@Override
+		public long expireAfterCreate(String key, Optional<DepartmentDto> value, long currentTime) {
+			return value.isPresent() ? ttlNanos : negativeTtlNanos;
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, Optional<DepartmentDto> value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, Optional<DepartmentDto> value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+
+}
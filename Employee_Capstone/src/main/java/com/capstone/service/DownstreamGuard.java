@@ -0,0 +1,45 @@
+package com.capstone.service;
+
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import feign.FeignException;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+// Circuit breaker and bulkhead around the calls to one downstream service, named after its Feign client.
+// Thresholds and concurrency limits come from the resilience4j.* properties; the registries export their
+// state as resilience4j.circuitbreaker.* and resilience4j.bulkhead.* metrics.
+// Exceptions are passed through unchanged, so callers still see FeignException.NotFound and friends.
+@Component
+public class DownstreamGuard {
+
+	@Autowired
+	private CircuitBreakerRegistry circuitBreakerRegistry;
+
+	@Autowired
+	private BulkheadRegistry bulkheadRegistry;
+
+	public <T> T call(String client, Supplier<T> call) {
+		CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(client);
+		Bulkhead bulkhead = bulkheadRegistry.bulkhead(client);
+		// The bulkhead sits inside the breaker, so an open breaker rejects a call before it takes a permit
+		return circuitBreaker.executeSupplier(Bulkhead.decorateSupplier(bulkhead, call));
+	}
+
+	// The service is down, overloaded or shed by us, as opposed to rejecting this particular request
+	public static boolean isUnavailable(Throwable e) {
+		return e instanceof CallNotPermittedException
+				|| e instanceof BulkheadFullException
+				|| e instanceof RetryableException
+				|| e instanceof FeignException.FeignServerException;
+	}
+
+}
@@ -0,0 +1,85 @@
+package com.capstone.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.capstone.dto.EmployeeDto;
+
+// Full directory export as gzipped CSV, written row by row from the forward-only cursor of
+// EmployeeService.streamAllEmployees, so memory stays flat however many employees there are.
+// The header uses the EmployeeDto field names, so the file can be fed back to POST /api/employees/import.
+@Service
+public class EmployeeExportService {
+
+	public static final String GZIP = "application/gzip";
+
+	static final String[] HEADER = { "id", "name", "email", "phoneNumber", "jobRole", "salary", "departmentCode",
+			"taskId", "performanceId" };
+
+	@Autowired
+	private EmployeeService service;
+
+	@Value("${employee.export.buffer-size:65536}")
+	private int bufferSize;
+
+	public void exportCsv(OutputStream output) throws IOException {
+		GZIPOutputStream gzip = new GZIPOutputStream(output, bufferSize);
+		Writer writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), bufferSize);
+		writer.write(String.join(",", HEADER));
+		writer.write('\n');
+		service.streamAllEmployees(employeeDto -> {
+			try {
+				writeRow(writer, employeeDto);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+		writer.flush();
+		// Writes the gzip trailer without closing the servlet stream underneath
+		gzip.finish();
+	}
+
+	private void writeRow(Writer writer, EmployeeDto employeeDto) throws IOException {
+		writer.write(toCsvValue(employeeDto.getId()));
+		writer.write(',');
+		writer.write(toCsvValue(employeeDto.getName()));
+		writer.write(',');
+		writer.write(toCsvValue(employeeDto.getEmail()));
+		writer.write(',');
+		writer.write(toCsvValue(employeeDto.getPhoneNumber()));
+		writer.write(',');
+		writer.write(toCsvValue(employeeDto.getJobRole()));
+		writer.write(',');
+		writer.write(toCsvValue(employeeDto.getSalary()));
+		writer.write(',');
+		writer.write(toCsvValue(employeeDto.getDepartmentCode()));
+		writer.write(',');
+		writer.write(toCsvValue(employeeDto.getTaskId()));
+		writer.write(',');
+		writer.write(toCsvValue(employeeDto.getPerformanceId()));
+		writer.write('\n');
+	}
+
+	// Quotes a value only when it holds a comma, quote or line break, doubling any quotes, as parseCsvLine expects
+	static String toCsvValue(Object value) {
+		if (value == null) {
+			return "";
+		}
+		String text = value.toString();
+		if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+			return text;
+		}
+		return '"' + text.replace("\"", "\"\"") + '"';
+	}
+
+}
@@ -0,0 +1,60 @@
+package com.capstone.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+
+import com.capstone.dto.EmployeeDto;
+import com.capstone.dto.ImportResultDto;
+import com.capstone.entity.Employee;
+import com.capstone.mapper.EmployeeMapper;
+import com.capstone.repository.EmployeeRepo;
+
+// Bulk load of employees, validated like POST /api/employees and saved in chunks of employee.import.batch-size
+@Service
+public class EmployeeImportService extends BulkImporter<EmployeeDto, Employee> {
+
+	@Autowired
+	private EmployeeRepo repository;
+
+	@Autowired
+	private EmployeeMapper mapper;
+
+	@Autowired
+	private EmployeeSearchIndex searchIndex;
+
+	public EmployeeImportService(@Value("${employee.import.batch-size:100}") int batchSize,
+			@Value("${employee.import.max-errors:1000}") int maxErrors) {
+		super(EmployeeDto.class, batchSize, maxErrors);
+	}
+
+	public ImportResultDto importEmployees(InputStream input, String contentType) throws IOException {
+		return importRows(input, contentType);
+	}
+
+	@Override
+	protected JpaRepository<Employee, Long> repository() {
+		return repository;
+	}
+
+	@Override
+	protected Employee toEntity(EmployeeDto employeeDto) {
+		return mapper.toEntity(employeeDto);
+	}
+
+	@Override
+	protected void asNew(Employee employee) {
+		employee.setId(null);
+		employee.setVersion(null);
+	}
+
+	@Override
+	protected void imported(Employee employee) {
+		searchIndex.put(employee);
+	}
+
+}
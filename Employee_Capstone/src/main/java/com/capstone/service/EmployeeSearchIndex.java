@@ -0,0 +1,264 @@
+package com.capstone.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.capstone.dto.EmployeeSearchDto;
+import com.capstone.entity.Employee;
+import com.capstone.repository.EmployeeRepo;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+// In-process typeahead over employee names and emails, so /search never runs LIKE '%q%' against MySQL.
+// Every word of the name, the whole name, the whole email and the words of its local part are kept as
+// lower-case keys of a sorted map; a query is a range scan over the keys starting with it. Email domains
+// are left out: nearly everyone shares one, so they would only make every query scan the whole index.
+// Short prefixes match a large share of the index, so their best matches are cached and only the
+// prefixes of the keys an update touches are dropped from that cache.
+// Built from the database once the application is ready and kept current by EmployeeServiceImpl,
+// EmployeeIndexUpdater and EmployeeImportService. Writes made through another instance show up here after its next restart.
+@Component
+public class EmployeeSearchIndex {
+
+	private Logger logger = LoggerFactory.getLogger(EmployeeSearchIndex.class);
+
+	@Autowired
+	private EmployeeRepo repository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Value("${employee.search.max-results:50}")
+	private int maxResults;
+
+	@Value("${employee.search.cached-prefix-length:3}")
+	private int cachedPrefixLength;
+
+	private final Map<Long, Entry> employees = new ConcurrentHashMap<>();
+
+	// Arrays are copied on write, which is cheap at a few employees per key and keeps scans allocation free
+	private final ConcurrentSkipListMap<String, Entry[]> tokens = new ConcurrentSkipListMap<>();
+
+	// Best maxResults matches of each short prefix queried so far
+	private final Map<String, List<EmployeeSearchDto>> shortPrefixes = new ConcurrentHashMap<>();
+
+	// Bumped by every write, so a search that overlapped one does not cache what it found
+	private final AtomicLong version = new AtomicLong();
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		long started = System.currentTimeMillis();
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		transaction.setReadOnly(true);
+		transaction.executeWithoutResult(status -> {
+			try (Stream<Employee> all = repository.streamAllBy()) {
+				all.forEach(employee -> {
+					put(employee);
+					entityManager.detach(employee);
+				});
+			}
+		});
+		logger.info("Employee search index built: {} employees, {} keys in {} ms", employees.size(), tokens.size(),
+				System.currentTimeMillis() - started);
+	}
+
+	// Writers are serialised so an update never interleaves with another one for the same employee; readers do not lock
+	public synchronized void put(Employee employee) {
+		if (employee.getId() == null) {
+			return;
+		}
+		remove(employee.getId());
+		EmployeeSearchDto searchDto = new EmployeeSearchDto(employee.getId(), employee.getName(), employee.getEmail());
+		Entry entry = new Entry(searchDto, normalize(employee.getName()));
+		version.incrementAndGet();
+		employees.put(searchDto.getId(), entry);
+		for (String key : keysOf(searchDto)) {
+			tokens.merge(key, new Entry[] { entry }, EmployeeSearchIndex::append);
+			evictShortPrefixes(key);
+		}
+	}
+
+	public synchronized void remove(Long id) {
+		Entry entry = employees.remove(id);
+		if (entry == null) {
+			return;
+		}
+		version.incrementAndGet();
+		for (String key : keysOf(entry.employee())) {
+			tokens.computeIfPresent(key, (k, entries) -> without(entries, entry));
+			evictShortPrefixes(key);
+		}
+	}
+
+	private void evictShortPrefixes(String key) {
+		for (int length = 1; length <= Math.min(cachedPrefixLength, key.length()); length++) {
+			shortPrefixes.remove(key.substring(0, length));
+		}
+	}
+
+	public int size() {
+		return employees.size();
+	}
+
+	// Best matches first: whole name, then name prefix, then a later word of the name, then the email
+	public List<EmployeeSearchDto> search(String query, int limit) {
+		if (query == null || query.isBlank()) {
+			return List.of();
+		}
+		if (limit < 1 || limit > maxResults) {
+			throw new IllegalArgumentException("Search limit must be between 1 and " + maxResults + ".");
+		}
+		String prefix = normalize(query);
+		if (prefix.length() > cachedPrefixLength) {
+			return scan(prefix, limit);
+		}
+		List<EmployeeSearchDto> best = shortPrefixes.get(prefix);
+		if (best == null) {
+			long started = version.get();
+			best = scan(prefix, maxResults);
+			if (version.get() == started) {
+				shortPrefixes.put(prefix, best);
+			}
+		}
+		return best.size() > limit ? best.subList(0, limit) : best;
+	}
+
+	private List<EmployeeSearchDto> scan(String prefix, int limit) {
+		// Max-heap of the best `limit` matches: most hits of a short prefix lose to its head and are dropped at once
+		PriorityQueue<Match> best = new PriorityQueue<>(limit + 1, (a, b) -> compare(b, a));
+		for (Entry[] entries : tokens.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+			for (Entry entry : entries) {
+				Match match = new Match(entry, rank(entry.name(), prefix));
+				if (best.size() == limit && compare(match, best.peek()) >= 0 || contains(best, entry)) {
+					continue;
+				}
+				best.add(match);
+				if (best.size() > limit) {
+					best.poll();
+				}
+			}
+		}
+		List<Match> matches = new ArrayList<>(best);
+		matches.sort(EmployeeSearchIndex::compare);
+		return matches.stream().map(match -> match.entry().employee()).toList();
+	}
+
+	private static int compare(Match a, Match b) {
+		if (a.rank() != b.rank()) {
+			return Integer.compare(a.rank(), b.rank());
+		}
+		if (a.entry().name().length() != b.entry().name().length()) {
+			return Integer.compare(a.entry().name().length(), b.entry().name().length());
+		}
+		return Long.compare(a.entry().employee().getId(), b.entry().employee().getId());
+	}
+
+	// An employee reached through two of its keys is kept once; the heap holds at most maxResults entries
+	private static boolean contains(PriorityQueue<Match> best, Entry entry) {
+		for (Match match : best) {
+			if (match.entry() == entry) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Entry[] append(Entry[] entries, Entry[] added) {
+		Entry[] result = Arrays.copyOf(entries, entries.length + 1);
+		result[entries.length] = added[0];
+		return result;
+	}
+
+	// Null removes the key once its last employee is gone
+	private static Entry[] without(Entry[] entries, Entry removed) {
+		if (entries.length == 1) {
+			return entries[0] == removed ? null : entries;
+		}
+		Entry[] result = new Entry[entries.length - 1];
+		int size = 0;
+		for (Entry entry : entries) {
+			if (entry != removed) {
+				if (size == result.length) {
+					return entries;
+				}
+				result[size++] = entry;
+			}
+		}
+		return result;
+	}
+
+	// Runs for every hit of a short query, so it scans the name in place instead of splitting it
+	private static int rank(String name, String prefix) {
+		if (name.equals(prefix)) {
+			return 0;
+		}
+		if (name.startsWith(prefix)) {
+			return 1;
+		}
+		for (int i = name.indexOf(prefix, 1); i > 0; i = name.indexOf(prefix, i + 1)) {
+			if (!Character.isLetterOrDigit(name.charAt(i - 1))) {
+				return 2;
+			}
+		}
+		return 3;
+	}
+
+	static Set<String> keysOf(EmployeeSearchDto employee) {
+		Set<String> keys = new HashSet<>();
+		if (employee.getName() != null && !employee.getName().isBlank()) {
+			String name = normalize(employee.getName());
+			keys.add(name);
+			addWords(keys, name);
+		}
+		if (employee.getEmail() != null && !employee.getEmail().isBlank()) {
+			String email = normalize(employee.getEmail());
+			keys.add(email);
+			int at = email.indexOf('@');
+			addWords(keys, at > 0 ? email.substring(0, at) : email);
+		}
+		return keys;
+	}
+
+	private static void addWords(Set<String> keys, String text) {
+		for (String word : text.split("[^\\p{L}\\p{N}]+")) {
+			if (!word.isEmpty()) {
+				keys.add(word);
+			}
+		}
+	}
+
+	private static String normalize(String text) {
+		return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+	}
+
+	private record Entry(EmployeeSearchDto employee, String name) {
+	}
+
+	private record Match(Entry entry, int rank) {
+	}
+
+}
@@ -1,10 +1,14 @@
 package com.capstone.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.capstone.dto.AllApiResponnseDto;
 import com.capstone.dto.ApiResponseDto;
 import com.capstone.dto.EmployeeDto;
+import com.capstone.dto.EmployeeFilterDto;
+import com.capstone.dto.EmployeePageDto;
+import com.capstone.dto.EmployeeSearchDto;
 import com.capstone.dto.PerformanceApiResponseDto;
 import com.capstone.dto.PerformanceDto;
 import com.capstone.dto.TaskApiResponseDto;
@@ -13,9 +17,17 @@ public interface EmployeeService{
 	
 	public EmployeeDto createEmployee(EmployeeDto employeeDto);
 	 public List<EmployeeDto> getAllEmployees();
+	 public EmployeePageDto getEmployeesPage(String after, int size);
+	 public EmployeePageDto filterEmployees(EmployeeFilterDto filter, String after, int size);
+	 public void streamAllEmployees(Consumer<EmployeeDto> consumer);
+	 public List<EmployeeSearchDto> searchEmployees(String query, int limit);
 	 public EmployeeDto getEmployeeById(Long id);
-	 public EmployeeDto updateEmployee(Long id, EmployeeDto employeeDto);
+	 // expectedVersion comes from If-Match; null updates whatever version is current
+	 public EmployeeDto updateEmployee(Long id, EmployeeDto employeeDto, Long expectedVersion);
+	 // Changes only the non-null fields of changes; returns the new version when expectedVersion was given, else null
+	 public Long patchEmployee(Long id, EmployeeDto changes, Long expectedVersion);
 	 public String deleteEmployee(Long id);
+	 public String deleteEmployees(List<Long> ids);
 	 
 	 public ApiResponseDto getEmployeeByIdAndCode(Long id);
 
@@ -24,5 +36,9 @@ public interface EmployeeService{
 	 public PerformanceApiResponseDto getEmployeePerformance(Long id);
 	 
 	 public AllApiResponnseDto getAllServices(Long id);
+	 
+	 public List<AllApiResponnseDto> getAllServices(List<Long> ids);
+	 
+	 public List<AllApiResponnseDto> getAllServices(int page, int size);
 
 }
@@ -1,24 +1,67 @@
 package com.capstone.service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.capstone.dto.AllApiResponnseDto;
 import com.capstone.dto.ApiResponseDto;
 import com.capstone.dto.DepartmentDto;
 import com.capstone.dto.EmployeeDto;
+import com.capstone.dto.EmployeeFilterDto;
+import com.capstone.dto.EmployeePageDto;
+import com.capstone.dto.EmployeeSearchDto;
 import com.capstone.dto.PerformanceApiResponseDto;
 import com.capstone.dto.PerformanceDto;
 import com.capstone.dto.TaskApiResponseDto;
 import com.capstone.dto.TaskDto;
 import com.capstone.entity.Employee;
+import com.capstone.event.EmployeeChangedEvent;
 import com.capstone.exception.IdNotFound;
+import com.capstone.exception.VersionMismatch;
+import com.capstone.mapper.EmployeeMapper;
 import com.capstone.repository.EmployeeRepo;
+import com.capstone.repository.EmployeeSpecifications;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 
 @Service
 public class EmployeeServiceImpl implements EmployeeService {
@@ -27,37 +70,87 @@ public class EmployeeServiceImpl implements EmployeeService {
     private EmployeeRepo repository;
 	
 	@Autowired
-	private ModelMapper mapper;
+	private EmployeeMapper mapper;
+	
+	@Autowired
+	private Validator validator;
+	
+	@PersistenceContext
+	private EntityManager entityManager;
 	
 	@Autowired
-	private ApiClient apiClient;
+	private DepartmentCache departmentCache;
+	
+	@Autowired
+	private EmployeeSearchIndex searchIndex;
+
+	// Patches and deletes reach searchIndex through EmployeeIndexUpdater, after their transaction commits
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
 	
 	@Autowired
 	private TaskApiClient taskClient;
 	
 	@Autowired
 	private PerformanceApiClient performanceClient;
+	
+	@Autowired
+	private DownstreamGuard downstreamGuard;
+	
+	@Autowired
+	private SingleFlight singleFlight;
+	
+	@Autowired
+	@Qualifier("aggregationExecutor")
+	private Executor aggregationExecutor;
+	
+	@Value("${employee.aggregation.timeout-ms:3000}")
+	private long aggregationTimeoutMs;
+	
+	@Value("${employee.aggregation.max-batch-size:500}")
+	private int maxBatchSize;
+	
+	@Value("${employee.aggregation.lookup-chunk-size:100}")
+	private int lookupChunkSize;
+	
+	@Value("${employee.page.max-size:500}")
+	private int maxPageSize;
+	
+	@Value("${employee.delete.max-ids:500}")
+	private int maxDeleteIds;
+	
+	// Fields a PATCH may change; id and version are never taken from the body
+	private static final List<String> PATCHABLE_FIELDS = List.of("name", "email", "phoneNumber", "jobRole", "salary",
+			"departmentCode", "taskId", "performanceId");
+	
+	private Logger logger = LoggerFactory.getLogger(EmployeeServiceImpl.class);
     
  
 	@Override
 	public EmployeeDto createEmployee(EmployeeDto employeeDto) {
 		// TODO Auto-generated method stub
-		Employee employee = mapper.map(employeeDto, Employee.class);
+		Employee employee = mapper.toEntity(employeeDto);
 		Employee savedEmployee =repository.save(employee);
-		return mapper.map(savedEmployee, EmployeeDto.class);
+		searchIndex.put(savedEmployee);
+		return mapper.toDto(savedEmployee);
 
 		
 	}
 
 	@Override
-    public EmployeeDto updateEmployee(Long id, EmployeeDto employeeDto) {
-        if (!repository.existsById(id)) {
-            throw new IdNotFound("Employee with ID " + id + " not found.");
+    public EmployeeDto updateEmployee(Long id, EmployeeDto employeeDto, Long expectedVersion) {
+        Employee employee = repository.findById(id)
+            .orElseThrow(() -> new IdNotFound("Employee with ID " + id + " not found."));
+        if (expectedVersion != null && !expectedVersion.equals(employee.getVersion())) {
+            throw new VersionMismatch("Employee with ID " + id + " is at version " + employee.getVersion()
+                    + ", not " + expectedVersion + ".");
         }
-        Employee employee = mapper.map(employeeDto, Employee.class);
-        employee.setId(id);
-        Employee updatedEmployee = repository.save(employee);
-        return mapper.map(updatedEmployee, EmployeeDto.class);
+        mapper.updateEntity(employeeDto, employee);
+        // The merge checks the version read above against the row, so an update committed in between is rejected;
+        // flushed now so the version returned, and the ETag made from it, already count this update
+        Employee updatedEmployee = repository.saveAndFlush(employee);
+        searchIndex.put(updatedEmployee);
+        return mapper.toDto(updatedEmployee);
     }
 	    
 		
@@ -66,26 +159,144 @@ public class EmployeeServiceImpl implements EmployeeService {
 	 @Override
 	    public List<EmployeeDto> getAllEmployees() {
 	        List<Employee> employees = repository.findAll();
-	        return employees.stream()
-	                        .map(employee -> mapper.map(employee, EmployeeDto.class))
-	                        .collect(Collectors.toList());
+	        return mapper.toDtoList(employees);
 	}
 
+	 @Override
+	 public EmployeePageDto getEmployeesPage(String after, int size) {
+		 if (size < 1 || size > maxPageSize) {
+			 throw new IllegalArgumentException("Page size must be between 1 and " + maxPageSize + ".");
+		 }
+		 // Read one extra row to learn whether another page exists without a COUNT(*)
+		 List<Employee> employees = repository.findByIdGreaterThanOrderByIdAsc(decodeCursor(after), Limit.of(size + 1));
+		 boolean hasNext = employees.size() > size;
+		 List<Employee> page = hasNext ? employees.subList(0, size) : employees;
+		 List<EmployeeDto> employeeDtos = mapper.toDtoList(page);
+		 String next = hasNext ? encodeCursor(page.get(page.size() - 1).getId()) : null;
+		 return new EmployeePageDto(employeeDtos, next);
+	 }
+
+	 @Override
+	 public EmployeePageDto filterEmployees(EmployeeFilterDto filter, String after, int size) {
+		 if (size < 1 || size > maxPageSize) {
+			 throw new IllegalArgumentException("Page size must be between 1 and " + maxPageSize + ".");
+		 }
+		 if (filter.getMinSalary() != null && filter.getMaxSalary() != null && filter.getMinSalary() > filter.getMaxSalary()) {
+			 throw new IllegalArgumentException("minSalary must not be greater than maxSalary.");
+		 }
+		 Specification<Employee> specification = EmployeeSpecifications.matching(filter)
+				 .and(EmployeeSpecifications.idGreaterThan(decodeCursor(after)));
+		 // Same keyset paging as getEmployeesPage: one extra row tells whether another page exists
+		 List<Employee> employees = repository.findBy(specification,
+				 query -> query.sortBy(Sort.by("id")).limit(size + 1).all());
+		 boolean hasNext = employees.size() > size;
+		 List<Employee> page = hasNext ? employees.subList(0, size) : employees;
+		 String next = hasNext ? encodeCursor(page.get(page.size() - 1).getId()) : null;
+		 return new EmployeePageDto(mapper.toDtoList(page), next);
+	 }
+
+	 @Override
+	 public List<EmployeeSearchDto> searchEmployees(String query, int limit) {
+		 return searchIndex.search(query, limit);
+	 }
+
+	 @Override
+	 @Transactional(readOnly = true)
+	 public void streamAllEmployees(Consumer<EmployeeDto> consumer) {
+		 try (Stream<Employee> employees = repository.streamAllBy()) {
+			 employees.forEach(employee -> {
+				 consumer.accept(mapper.toDto(employee));
+				 // Detach each row once written so the persistence context does not grow with the table
+				 entityManager.detach(employee);
+			 });
+		 }
+	 }
+
+	 private String encodeCursor(Long id) {
+		 return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+	 }
+
+	 private Long decodeCursor(String cursor) {
+		 if (cursor == null || cursor.isBlank()) {
+			 return 0L;
+		 }
+		 try {
+			 return Long.valueOf(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+		 } catch (IllegalArgumentException e) {
+			 throw new IllegalArgumentException("Invalid page cursor: " + cursor);
+		 }
+	 }
+
 	 @Override
 	    public EmployeeDto getEmployeeById(Long id) {
 	        Employee employee = repository.findById(id)
 	            .orElseThrow(() -> new IdNotFound("Employee with the ID number " + id + " not found."));
-	        return mapper.map(employee, EmployeeDto.class);
+	        return mapper.toDto(employee);
 	 }
 
 	 @Override
+	 @Transactional
+	 public Long patchEmployee(Long id, EmployeeDto changes, Long expectedVersion) {
+		 Map<String, Object> fields = changedFields(changes);
+		 if (repository.updateFields(id, fields, expectedVersion) == 0) {
+			 // Nothing matched: only now is it worth a second query to tell a missing employee from a stale If-Match
+			 if (expectedVersion != null && repository.existsById(id)) {
+				 throw new VersionMismatch("Employee with ID " + id + " is not at version " + expectedVersion + ".");
+			 }
+			 throw new IdNotFound("Employee with ID " + id + " not found.");
+		 }
+		 if (fields.containsKey("name") || fields.containsKey("email")) {
+			 // The search index keys on both, so it needs the whole row; other patches skip this read
+			 repository.findById(id).ifPresent(employee -> eventPublisher.publishEvent(EmployeeChangedEvent.saved(employee)));
+		 }
+		 return expectedVersion != null ? expectedVersion + 1 : null;
+	 }
+	 
+	 // Non-null fields of the patch, each checked against the constraints it carries on EmployeeDto
+	 private Map<String, Object> changedFields(EmployeeDto changes) {
+		 BeanWrapper dto = new BeanWrapperImpl(changes);
+		 Map<String, Object> fields = new LinkedHashMap<>();
+		 for (String field : PATCHABLE_FIELDS) {
+			 Object value = dto.getPropertyValue(field);
+			 if (value == null) {
+				 continue;
+			 }
+			 Set<ConstraintViolation<EmployeeDto>> violations = validator.validateProperty(changes, field);
+			 if (!violations.isEmpty()) {
+				 throw new IllegalArgumentException(violations.iterator().next().getMessage());
+			 }
+			 fields.put(field, value);
+		 }
+		 if (fields.isEmpty()) {
+			 throw new IllegalArgumentException("The patch changes no fields. Patchable fields are " + PATCHABLE_FIELDS + ".");
+		 }
+		 return fields;
+	 }
+
+	 @Override
+	 @Transactional
 	 public String deleteEmployee(Long id) {
-	     if (repository.existsById(id)) {
-	         repository.deleteById(id);
-	         return "Employee is successfully deleted with the ID: " + id;
-	     } else {
+	     if (repository.deleteRowById(id) == 0) {
 	         throw new IdNotFound("Employee with ID " + id + " not found.");
 	     }
+	     eventPublisher.publishEvent(EmployeeChangedEvent.deleted(List.of(id)));
+	     return "Employee is successfully deleted with the ID: " + id;
+	 }
+	 
+	 @Override
+	 @Transactional
+	 public String deleteEmployees(List<Long> ids) {
+	     Set<Long> distinctIds = new LinkedHashSet<>(ids);
+	     if (distinctIds.isEmpty() || distinctIds.size() > maxDeleteIds) {
+	         throw new IllegalArgumentException("Between 1 and " + maxDeleteIds + " employee IDs can be deleted at once.");
+	     }
+	     int deleted = repository.deleteRowsByIdIn(distinctIds);
+	     if (deleted == 0) {
+	         throw new IdNotFound("None of the employees with IDs " + distinctIds + " were found.");
+	     }
+	     // Ids that matched no row are not in the index either, so removing all of them is harmless
+	     eventPublisher.publishEvent(EmployeeChangedEvent.deleted(distinctIds));
+	     return deleted + " of " + distinctIds.size() + " employees successfully deleted";
 	 }
 
 	@Override
@@ -94,9 +305,9 @@ public class EmployeeServiceImpl implements EmployeeService {
 		 Employee employee = repository.findById(id)
 		            .orElseThrow(() -> new IdNotFound("Employee with the ID number " + id + " not found."));
 		
-		 DepartmentDto departmentDto = apiClient.getDepartmentByCode(employee.getDepartmentCode());
+		 DepartmentDto departmentDto = departmentCache.getDepartmentByCode(employee.getDepartmentCode());
 		 
-		 EmployeeDto employeeDto = mapper.map(employee, EmployeeDto.class);
+		 EmployeeDto employeeDto = mapper.toDto(employee);
 		 
 		 ApiResponseDto apiResponse = new ApiResponseDto();
 		 
@@ -112,14 +323,26 @@ public class EmployeeServiceImpl implements EmployeeService {
 		 Employee employee = repository.findById(id)
 		            .orElseThrow(() -> new IdNotFound("Employee with the ID number " + id + " not found."));
 		
-		 TaskDto taskDto = taskClient.getTaskById(employee.getTaskId());
+		 TaskDto taskDto = null;
+		 boolean degraded = false;
+		 try {
+			 taskDto = fetchTask(employee.getTaskId());
+		 } catch (RuntimeException e) {
+			 // The employee is still worth returning while the task service is down
+			 if (!DownstreamGuard.isUnavailable(e)) {
+				 throw e;
+			 }
+			 logger.warn("task lookup failed, returning employee {} without it: {}", id, e.toString());
+			 degraded = true;
+		 }
 		 
-		 EmployeeDto employeeDto = mapper.map(employee, EmployeeDto.class);
+		 EmployeeDto employeeDto = mapper.toDto(employee);
 		 
 		 TaskApiResponseDto taskResponseDto = new TaskApiResponseDto();
 		 
 		 taskResponseDto.setEmployee(employeeDto);
 		 taskResponseDto.setTask(taskDto);
+		 taskResponseDto.setDegraded(degraded);
 		
 		return taskResponseDto;
 	}
@@ -130,9 +353,9 @@ public class EmployeeServiceImpl implements EmployeeService {
 		 Employee employee = repository.findById(id)
 		            .orElseThrow(() -> new IdNotFound("Employee with the ID number " + id + " not found."));
 		
-		 PerformanceDto performanceDto = performanceClient.getPerformanceById(employee.getPerformanceId());
+		 PerformanceDto performanceDto = fetchPerformance(employee.getPerformanceId());
 		 
-		 EmployeeDto employeeDto = mapper.map(employee, EmployeeDto.class);
+		 EmployeeDto employeeDto = mapper.toDto(employee);
 		 
 		 PerformanceApiResponseDto performanceApi = new PerformanceApiResponseDto();
 		 
@@ -141,29 +364,185 @@ public class EmployeeServiceImpl implements EmployeeService {
 		
 		return performanceApi;
 	}
-	
-public AllApiResponnseDto getAllServices(Long id) {
+
+	@Override
+	public AllApiResponnseDto getAllServices(Long id) {
 		
 		Employee employee = repository.findById(id)
 	            .orElseThrow(() -> new IdNotFound("Employee with the ID number " + id + " not found."));
 		
-		DepartmentDto departmentDto = apiClient.getDepartmentByCode(employee.getDepartmentCode());
+		// The three lookups are independent, so issue them together and wait for the slowest one
+		AtomicBoolean degraded = new AtomicBoolean();
+		CompletableFuture<DepartmentDto> departmentFuture = fetchAsync("department", degraded,
+				() -> departmentCache.getDepartmentByCode(employee.getDepartmentCode()));
 		
-		TaskDto taskDto = taskClient.getTaskById(employee.getTaskId());
+		CompletableFuture<TaskDto> taskFuture = fetchAsync("task", degraded,
+				() -> fetchTask(employee.getTaskId()));
 		
-		PerformanceDto performanceDto = performanceClient.getPerformanceById(employee.getPerformanceId());
+		CompletableFuture<PerformanceDto> performanceFuture = fetchAsync("performance", degraded,
+				() -> fetchPerformance(employee.getPerformanceId()));
 		
-		EmployeeDto employeeDto = mapper.map(employee, EmployeeDto.class);
+		EmployeeDto employeeDto = mapper.toDto(employee);
 		
 		AllApiResponnseDto allApi = new AllApiResponnseDto();
 		
 		allApi.setEmployee(employeeDto);
-		allApi.setDepartment(departmentDto);
-		allApi.setTask(taskDto);
-		allApi.setPerformance(performanceDto);
+		allApi.setDepartment(await(departmentFuture));
+		allApi.setTask(await(taskFuture));
+		allApi.setPerformance(await(performanceFuture));
+		allApi.setDegraded(degraded.get());
 		
 		return allApi;
 		
 	}
 
+	@Override
+	public List<AllApiResponnseDto> getAllServices(List<Long> ids) {
+		
+		List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+		checkBatchSize(distinctIds.size());
+		
+		Map<Long, Employee> employeesById = repository.findAllById(distinctIds).stream()
+				.collect(Collectors.toMap(Employee::getId, Function.identity()));
+		
+		// Keep the order the caller asked for; unknown IDs are left out of the result
+		List<Employee> employees = distinctIds.stream()
+				.map(employeesById::get)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList());
+		
+		return enrich(employees);
+	}
+
+	@Override
+	public List<AllApiResponnseDto> getAllServices(int page, int size) {
+		checkBatchSize(size);
+		List<Employee> employees = repository.findAllBy(PageRequest.of(page, size, Sort.by("id"))).getContent();
+		return enrich(employees);
+	}
+
+	private void checkBatchSize(int size) {
+		if (size < 1 || size > maxBatchSize) {
+			throw new IllegalArgumentException("Batch size must be between 1 and " + maxBatchSize + ".");
+		}
+	}
+
+	// Fetches every distinct department, task and performance referenced by the employees with one bulk call per service
+	private List<AllApiResponnseDto> enrich(List<Employee> employees) {
+		
+		AtomicBoolean degraded = new AtomicBoolean();
+		List<CompletableFuture<List<DepartmentDto>>> departmentFutures = fetchInChunks("department", degraded,
+				distinct(employees, Employee::getDepartmentCode), departmentCache::getDepartmentsByCodes);
+		
+		List<CompletableFuture<List<TaskDto>>> taskFutures = fetchInChunks("task", degraded,
+				distinct(employees, Employee::getTaskId),
+				ids -> downstreamGuard.call(TaskApiClient.NAME, () -> taskClient.getTasksByIds(ids)));
+		
+		List<CompletableFuture<List<PerformanceDto>>> performanceFutures = fetchInChunks("performance", degraded,
+				distinct(employees, Employee::getPerformanceId),
+				ids -> downstreamGuard.call(PerformanceApiClient.NAME, () -> performanceClient.getPerformancesByIds(ids)));
+		
+		Map<String, DepartmentDto> departments = awaitAll(departmentFutures, DepartmentDto::getDepartmentCode);
+		Map<Long, TaskDto> tasks = awaitAll(taskFutures, TaskDto::getId);
+		Map<Long, PerformanceDto> performances = awaitAll(performanceFutures, PerformanceDto::getId);
+		
+		return employees.stream()
+				.map(employee -> {
+					DepartmentDto department = departments.get(employee.getDepartmentCode());
+					TaskDto task = tasks.get(employee.getTaskId());
+					PerformanceDto performance = performances.get(employee.getPerformanceId());
+					// Only rows left with a missing reference are flagged; the rest of the batch is complete
+					boolean incomplete = unresolved(employee.getDepartmentCode(), department)
+							|| unresolved(employee.getTaskId(), task)
+							|| unresolved(employee.getPerformanceId(), performance);
+					return new AllApiResponnseDto(mapper.toDto(employee), department, task, performance,
+							degraded.get() && incomplete);
+				})
+				.collect(Collectors.toList());
+	}
+
+	private static boolean unresolved(Object key, Object value) {
+		return key != null && value == null;
+	}
+
+	// Concurrent requests for a shared task or review wait for one call instead of each sending their own;
+	// DepartmentCache gets the same from its cache, which loads a missing code only once
+	private TaskDto fetchTask(Long taskId) {
+		return singleFlight.call(TaskApiClient.NAME, taskId,
+				() -> downstreamGuard.call(TaskApiClient.NAME, () -> taskClient.getTaskById(taskId)));
+	}
+
+	private PerformanceDto fetchPerformance(Long performanceId) {
+		return singleFlight.call(PerformanceApiClient.NAME, performanceId,
+				() -> downstreamGuard.call(PerformanceApiClient.NAME, () -> performanceClient.getPerformanceById(performanceId)));
+	}
+
+	private <K> List<K> distinct(List<Employee> employees, Function<Employee, K> key) {
+		return employees.stream().map(key).filter(Objects::nonNull).distinct().collect(Collectors.toList());
+	}
+
+	// Splits the keys so a single bulk request never outgrows the URL limits of the downstream services
+	private <K, T> List<CompletableFuture<List<T>>> fetchInChunks(String dependency, AtomicBoolean degraded, List<K> keys,
+			Function<List<K>, List<T>> call) {
+		List<CompletableFuture<List<T>>> futures = new ArrayList<>();
+		for (int from = 0; from < keys.size(); from += lookupChunkSize) {
+			List<K> chunk = keys.subList(from, Math.min(from + lookupChunkSize, keys.size()));
+			futures.add(fetchAsync(dependency, degraded, () -> call.apply(chunk)));
+		}
+		return futures;
+	}
+
+	// Indexes the finished lookups by key, leaving out the chunks that timed out
+	private <K, T> Map<K, T> awaitAll(List<CompletableFuture<List<T>>> futures, Function<T, K> key) {
+		Map<K, T> results = new HashMap<>();
+		for (CompletableFuture<List<T>> future : futures) {
+			List<T> values = await(future);
+			if (values != null) {
+				values.forEach(value -> results.put(key.apply(value), value));
+			}
+		}
+		return results;
+	}
+
+	// Runs a downstream call on the aggregation pool; a call that exceeds the timeout, finds the service
+	// unavailable or finds the pool full resolves to null and marks the response as degraded
+	private <T> CompletableFuture<T> fetchAsync(String dependency, AtomicBoolean degraded, Supplier<T> call) {
+		CompletableFuture<T> future;
+		try {
+			future = CompletableFuture.supplyAsync(call, aggregationExecutor);
+		} catch (RejectedExecutionException e) {
+			logger.warn("{} lookup rejected: the aggregation pool is full", dependency);
+			degraded.set(true);
+			return CompletableFuture.completedFuture(null);
+		}
+		return future
+				.orTimeout(aggregationTimeoutMs, TimeUnit.MILLISECONDS)
+				.exceptionally(ex -> {
+					Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+					if (cause instanceof TimeoutException) {
+						logger.warn("{} lookup timed out after {} ms", dependency, aggregationTimeoutMs);
+						degraded.set(true);
+						return null;
+					}
+					if (DownstreamGuard.isUnavailable(cause)) {
+						logger.warn("{} lookup failed: {}", dependency, cause.toString());
+						degraded.set(true);
+						return null;
+					}
+					throw new CompletionException(cause);
+				});
+	}
+
+	// Waits for a downstream call and rethrows its original exception, as the sequential version did
+	private <T> T await(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
 }
@@ -0,0 +1,41 @@
+package com.capstone.service;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.util.TimeValue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.cloud.openfeign.clientconfig.HttpClient5FeignConfiguration.HttpClientBuilderCustomizer;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
+@Configuration
+public class FeignTransportConfig {
+
+	// The Feign clients share one Apache HttpClient 5 pool (spring.cloud.openfeign.httpclient.*), sized per route.
+	// Idle connections are dropped before the downstream Tomcat closes them, so a reused connection is never stale.
+	@Bean
+	public HttpClientBuilderCustomizer feignKeepAliveCustomizer(
+			@Value("${employee.feign.keep-alive-seconds:15}") long keepAliveSeconds) {
+		TimeValue keepAlive = TimeValue.ofSeconds(keepAliveSeconds);
+		return builder -> builder
+				.setKeepAliveStrategy((response, context) -> {
+					// Honour a shorter Keep-Alive timeout announced by the server
+					TimeValue announced = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+					return announced.compareTo(keepAlive) < 0 ? announced : keepAlive;
+				})
+				.evictIdleConnections(keepAlive);
+	}
+
+	// Exports httpcomponents.httpclient.pool.* gauges: leased, available and pending connections against the limits
+	@Bean
+	@SuppressWarnings("unchecked")
+	public MeterBinder feignConnectionPoolMetrics(HttpClientConnectionManager hc5ConnectionManager) {
+		return new PoolingHttpClientConnectionManagerMetricsBinder((ConnPoolControl<HttpRoute>) hc5ConnectionManager, "feign");
+	}
+
+}
@@ -1,16 +1,26 @@
 package com.capstone.service;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.capstone.dto.PerformanceDto;
 
-@FeignClient("PERFORMANCE-CAPSTONE")
+@FeignClient(name=PerformanceApiClient.NAME)
 public interface PerformanceApiClient {
 
+	// Service id in Eureka; also names the client's timeouts, circuit breaker and bulkhead
+	String NAME = "PERFORMANCE-CAPSTONE";
+
 	 @GetMapping("/api/performance/{id}")
 	    public PerformanceDto getPerformanceById(@PathVariable("id") Long id);
+	 
+	 @GetMapping("/api/performance/batch")
+	    public List<PerformanceDto> getPerformancesByIds(@RequestParam("ids") Collection<Long> ids);
 	
 }
@@ -29,6 +29,8 @@ public class SecurityConfig {
             .cors(cors -> cors.disable())
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/auth/login/**").permitAll()
+                // Cache invalidation pushed by department-capstone; the controller checks its X-Internal-Token instead of a JWT
+                .requestMatchers("/internal/cache/**").permitAll()
                 // Allow access to Swagger UI and API documentation
                 .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html", "/webjars/**").permitAll()
                 .anyRequest().authenticated())
@@ -0,0 +1,108 @@
+package com.capstone.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+// Lets concurrent lookups of the same key share one downstream call: the first caller makes it and the
+// others wait for its result, or its exception, instead of sending an identical request.
+// Nothing is kept once the call completes; remembering results is DepartmentCache's job.
+// Calls are counted in downstream.single.flight.calls by client and result: leader made the call,
+// coalesced got the leader's answer, expired gave up waiting and made its own.
+@Component
+public class SingleFlight {
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	// A follower never waits longer than this; past it the leader is stuck and a call of its own is no worse.
+	// It must stay below the aggregation timeout, or the follower's own call starts after nobody is waiting for it.
+	@Value("${employee.single-flight.max-wait-ms:1000}")
+	private long maxWaitMs;
+
+	@Value("${employee.aggregation.timeout-ms:3000}")
+	private long aggregationTimeoutMs;
+
+	private final Map<Flight, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	public void init() {
+		if (maxWaitMs >= aggregationTimeoutMs) {
+			throw new IllegalStateException("employee.single-flight.max-wait-ms (" + maxWaitMs
+					+ ") must be below employee.aggregation.timeout-ms (" + aggregationTimeoutMs + ")");
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> T call(String client, Object key, Supplier<T> call) {
+		if (key == null) {
+			return call.get();
+		}
+		Flight flight = new Flight(client, key);
+		CompletableFuture<Object> result = new CompletableFuture<>();
+		CompletableFuture<Object> leader = inFlight.putIfAbsent(flight, result);
+		if (leader == null) {
+			count(client, "leader");
+			return (T) lead(flight, result, call);
+		}
+		try {
+			Object value = leader.get(maxWaitMs, TimeUnit.MILLISECONDS);
+			count(client, "coalesced");
+			return (T) value;
+		} catch (ExecutionException e) {
+			count(client, "coalesced");
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		} catch (TimeoutException e) {
+			count(client, "expired");
+			return call.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for " + client + " lookup of " + key, e);
+		}
+	}
+
+	// The flight is removed before it completes, so a caller arriving afterwards starts a fresh call
+	private <T> T lead(Flight flight, CompletableFuture<Object> result, Supplier<T> call) {
+		T value;
+		try {
+			value = call.get();
+		} catch (RuntimeException | Error e) {
+			inFlight.remove(flight, result);
+			result.completeExceptionally(e);
+			throw e;
+		}
+		inFlight.remove(flight, result);
+		result.complete(value);
+		return value;
+	}
+
+	private void count(String client, String result) {
+		Counter.builder("downstream.single.flight.calls")
+				.tag("client", client)
+				.tag("result", result)
+				.register(meterRegistry)
+				.increment();
+	}
+
+	private record Flight(String client, Object key) {
+	}
+
+}
@@ -1,16 +1,26 @@
 package com.capstone.service;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.capstone.dto.TaskDto;
 
-@FeignClient("TASK-CAPSTONE")
+@FeignClient(name=TaskApiClient.NAME)
 public interface TaskApiClient {
 
+	// Service id in Eureka; also names the client's timeouts, circuit breaker and bulkhead
+	String NAME = "TASK-CAPSTONE";
+
 	 @GetMapping("tasks/{id}")
 	    public TaskDto getTaskById(@PathVariable("id") Long id);
+	 
+	 @GetMapping("tasks/batch")
+	    public List<TaskDto> getTasksByIds(@RequestParam("ids") Collection<Long> ids);
 	
 }
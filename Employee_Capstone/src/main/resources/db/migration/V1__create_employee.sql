@@ -0,0 +1,13 @@
+-- Schema as previously generated by ddl-auto=update; existing databases are baselined at this version
+CREATE TABLE employee (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255),
+    email VARCHAR(255),
+    phone_number BIGINT,
+    job_role VARCHAR(255),
+    salary DOUBLE,
+    department_code VARCHAR(255),
+    task_id BIGINT,
+    performance_id BIGINT,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,4 @@
+-- Join keys used when aggregating employees with their department, task and performance
+CREATE INDEX idx_employee_department_code ON employee (department_code);
+CREATE INDEX idx_employee_task_id ON employee (task_id);
+CREATE INDEX idx_employee_performance_id ON employee (performance_id);
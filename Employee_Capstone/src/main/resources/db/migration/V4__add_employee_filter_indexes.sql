@@ -0,0 +1,5 @@
+-- Filters of GET /api/employees/filter: equality columns first, then the salary range
+CREATE INDEX idx_employee_department_role_salary ON employee (department_code, job_role, salary);
+CREATE INDEX idx_employee_role_salary ON employee (job_role, salary);
+-- Name prefix search (LIKE 'prefix%')
+CREATE INDEX idx_employee_name ON employee (name);
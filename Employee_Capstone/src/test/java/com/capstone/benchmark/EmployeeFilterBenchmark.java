@@ -0,0 +1,125 @@
+package com.capstone.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// First page (100 rows + 1) of GET /api/employees/filter, with and without the V4 filter indexes.
+// Runs the SQL the EmployeeSpecifications produce against an in-memory H2 migrated by Flyway, so the
+// numbers show the plan difference rather than MySQL latency. Values are inlined into the SQL, as the
+// MySQL driver does with its default client-side prepared statements, so the planner sees them.
+// The filters are selective, as a single department or name lookup is; a common value is found
+// quickly by walking the primary key either way.
+// Run with: mvn -B -Pbenchmark -DskipTests test -Djmh.include=EmployeeFilterBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class EmployeeFilterBenchmark {
+
+	private static final String[] DEPARTMENTS = { "VG-001", "BO-001", "FN-001", "HR-001", "IT-001", "OP-001", "SL-001",
+			"MK-001", "LG-001", "RD-001" };
+
+	private static final String[] ROLES = { "Support", "Developer", "Tester", "Manager", "Analyst" };
+
+	@Param({ "1000000" })
+	private int rows;
+
+	@Param({ "true", "false" })
+	private boolean indexed;
+
+	private Connection connection;
+
+	private Statement statement;
+
+	@Setup(Level.Trial)
+	public void setup() throws SQLException {
+		String url = "jdbc:h2:mem:filter-benchmark;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE";
+		Flyway.configure().dataSource(url, "sa", "").load().migrate();
+		connection = DriverManager.getConnection(url, "sa", "");
+		if (!indexed) {
+			try (Statement ddl = connection.createStatement()) {
+				ddl.execute("DROP INDEX idx_employee_department_role_salary");
+				ddl.execute("DROP INDEX idx_employee_role_salary");
+				ddl.execute("DROP INDEX idx_employee_name");
+			}
+		}
+		connection.setAutoCommit(false);
+		try (PreparedStatement insert = connection.prepareStatement(
+				"INSERT INTO employee (id, name, job_role, salary, department_code) VALUES (?, ?, ?, ?, ?)")) {
+			for (int i = 1; i <= rows; i++) {
+				insert.setLong(1, i);
+				insert.setString(2, "employee" + Integer.toString(i, 36));
+				insert.setString(3, ROLES[i % ROLES.length]);
+				insert.setDouble(4, 1000 + (i * 7919L) % 99000);
+				insert.setString(5, DEPARTMENTS[(i / ROLES.length) % DEPARTMENTS.length]);
+				insert.addBatch();
+				if (i % 10000 == 0) {
+					insert.executeBatch();
+				}
+			}
+			insert.executeBatch();
+		}
+		connection.commit();
+		connection.setAutoCommit(true);
+		statement = connection.createStatement();
+		// Column selectivity for the planner, which MySQL keeps up to date on its own
+		statement.execute("ANALYZE");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		statement.execute("DROP ALL OBJECTS");
+		statement.close();
+		connection.close();
+	}
+
+	@Benchmark
+	public int departmentRoleSalary() throws SQLException {
+		return count("SELECT * FROM employee WHERE department_code = 'VG-001' AND job_role = 'Support'"
+				+ " AND salary >= 20000.0 AND salary <= 20500.0 AND id > 0 ORDER BY id LIMIT 101");
+	}
+
+	@Benchmark
+	public int roleSalary() throws SQLException {
+		return count("SELECT * FROM employee WHERE job_role = 'Developer' AND salary >= 50000.0 AND salary <= 50100.0"
+				+ " AND id > 0 ORDER BY id LIMIT 101");
+	}
+
+	@Benchmark
+	public int namePrefix() throws SQLException {
+		return count("SELECT * FROM employee WHERE name LIKE 'employee1a2%' ESCAPE '\\' AND id > 0 ORDER BY id LIMIT 101");
+	}
+
+	private int count(String sql) throws SQLException {
+		int count = 0;
+		try (ResultSet resultSet = statement.executeQuery(sql)) {
+			while (resultSet.next()) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+}
@@ -0,0 +1,99 @@
+package com.capstone.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.capstone.dto.EmployeeSearchDto;
+import com.capstone.entity.Employee;
+import com.capstone.service.EmployeeSearchIndex;
+
+// Typeahead latency of EmployeeSearchIndex as letters are typed, with and without the short prefix cache,
+// plus the heap the index retains, printed once per fork as "search index: ... MB".
+// Run with: mvn -B -Pbenchmark -DskipTests test -Djmh.include=EmployeeSearchBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class EmployeeSearchBenchmark {
+
+	private static final String[] FIRST_NAMES = { "pavan", "nikita", "salman", "soma", "ravi", "anita", "kiran", "deepa",
+			"arjun", "meera", "rahul", "sneha", "vikram", "priya", "suresh", "lakshmi", "mohan", "kavya", "ganesh",
+			"divya" };
+
+	private static final String[] LAST_NAMES = { "kumar", "sharma", "reddy", "rao", "patel", "singh", "iyer", "nair",
+			"gupta", "das", "joshi", "menon", "verma", "pillai", "shetty" };
+
+	@Param({ "200000" })
+	private int rows;
+
+	// 0 scans the index on every query; 3 serves queries of up to three letters from the short prefix cache
+	@Param({ "0", "3" })
+	private int cachedPrefixLength;
+
+	private EmployeeSearchIndex searchIndex;
+
+	@Setup
+	public void setup() {
+		long before = usedHeap();
+		searchIndex = new EmployeeSearchIndex();
+		ReflectionTestUtils.setField(searchIndex, "maxResults", 50);
+		ReflectionTestUtils.setField(searchIndex, "cachedPrefixLength", cachedPrefixLength);
+		Random random = new Random(42);
+		for (long i = 1; i <= rows; i++) {
+			String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+			String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+			// A random suffix gives each employee distinct keys, as real surnames and emails do
+			String tag = Long.toString(random.nextInt(1_000_000), 36);
+			searchIndex.put(Employee.builder().id(i).name(first + " " + last + tag)
+					.email(first + "." + last + tag + "@gmail.com").build());
+		}
+		long after = usedHeap();
+		System.out.printf("%nsearch index: %d employees, %.1f MB, %d bytes per employee%n", searchIndex.size(),
+				(after - before) / (1024.0 * 1024.0), (after - before) / rows);
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	@Benchmark
+	public List<EmployeeSearchDto> oneLetter() {
+		return searchIndex.search("p", 10);
+	}
+
+	@Benchmark
+	public List<EmployeeSearchDto> twoLetters() {
+		return searchIndex.search("pa", 10);
+	}
+
+	@Benchmark
+	public List<EmployeeSearchDto> fourLetters() {
+		return searchIndex.search("kuma", 10);
+	}
+
+	@Benchmark
+	public List<EmployeeSearchDto> fullName() {
+		return searchIndex.search("pavan kumar1", 10);
+	}
+
+}
@@ -0,0 +1,70 @@
+package com.capstone.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import com.capstone.dto.EmployeeDto;
+import com.capstone.exception.ErrorMessage;
+import com.capstone.exception.GlobalExceptionHandling;
+import com.capstone.exception.IdNotFound;
+
+// Error responses built by GlobalExceptionHandling for invalid and unknown employees.
+// Run with: mvn -B -Pbenchmark -DskipTests test -Djmh.include=ExceptionHandlingBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionHandlingBenchmark {
+
+	@Param({ "1", "8" })
+	private int fieldErrors;
+
+	private GlobalExceptionHandling handler;
+
+	private MethodArgumentNotValidException validationException;
+
+	@Setup
+	public void setup() throws NoSuchMethodException {
+		handler = new GlobalExceptionHandling();
+		BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new EmployeeDto(), "employeeDto");
+		for (int i = 0; i < fieldErrors; i++) {
+			bindingResult.addError(new FieldError("employeeDto", "field" + i, "Field " + i + " is invalid"));
+		}
+		MethodParameter parameter = new MethodParameter(
+				ExceptionHandlingBenchmark.class.getDeclaredMethod("target", EmployeeDto.class), 0);
+		validationException = new MethodArgumentNotValidException(parameter, bindingResult);
+	}
+
+	@Benchmark
+	public ResponseEntity<Map<String, String>> validationErrorMap() {
+		return handler.handleMethodArgumentNotValidException(validationException);
+	}
+
+	// Includes constructing the exception, which fills in its stack trace like the service does
+	@Benchmark
+	public ResponseEntity<ErrorMessage> idNotFound() {
+		return handler.handleIdNotFoundException(new IdNotFound("Employee with ID 42 not found."));
+	}
+
+	private void target(EmployeeDto employeeDto) {
+	}
+}
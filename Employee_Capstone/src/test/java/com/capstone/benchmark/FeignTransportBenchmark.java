@@ -0,0 +1,171 @@
+package com.capstone.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.catalina.Context;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.io.CloseMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+import com.capstone.dto.TaskDto;
+import com.capstone.service.TaskApiClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import feign.Client;
+import feign.Feign;
+import feign.hc5.ApacheHttp5Client;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Throughput of TaskApiClient.getTasksByIds from 16 caller threads (the aggregation pool fans out like this)
+// against an embedded Tomcat standing in for the task service, over the JDK HttpURLConnection that Feign used
+// before and over the pooled Apache HttpClient 5 transport, without and with gzip. Each fork also prints how
+// many TCP connections the stub saw: HttpURLConnection keeps only http.maxConnections (5) idle sockets per
+// host and opens new ones beyond that, while the pool reuses one per caller. Over loopback a new connection
+// and the bytes gzip saves are nearly free, so this shows the per-call CPU cost of each transport rather than
+// the round trips the pool saves on a real network.
+// Run with: mvn -B -Pbenchmark -DskipTests test -Djmh.include=FeignTransportBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class FeignTransportBenchmark {
+
+	@Param({ "jdk", "hc5", "hc5-gzip" })
+	private String transport;
+
+	// Tasks per response; 50 is about 4 KB of JSON
+	@Param({ "50" })
+	private int tasks;
+
+	// Time the stub spends on each request, as the task service does querying MySQL; it keeps all callers in flight
+	@Param({ "0", "5" })
+	private long serviceMillis;
+
+	private Tomcat tomcat;
+
+	private CloseableHttpClient httpClient;
+
+	private TaskApiClient taskClient;
+
+	private List<Long> ids;
+
+	// Client ports seen by the stub, one per TCP connection the transport opened
+	private final Set<Integer> connections = ConcurrentHashMap.newKeySet();
+
+	private final AtomicLong calls = new AtomicLong();
+
+	@Setup
+	public void setup() throws Exception {
+		ObjectMapper objectMapper = new ObjectMapper();
+		List<TaskDto> body = new ArrayList<>();
+		ids = new ArrayList<>();
+		for (long id = 1; id <= tasks; id++) {
+			body.add(new TaskDto(id, "Task " + id, "Prepare the quarterly report for department " + id, "In Progress"));
+			ids.add(id);
+		}
+		byte[] json = objectMapper.writeValueAsBytes(body);
+
+		// An embedded Tomcat with the server.tomcat settings of the task service and its server.compression settings switched on
+		tomcat = new Tomcat();
+		tomcat.setBaseDir(Files.createTempDirectory("feign-transport").toString());
+		Connector connector = new Connector();
+		connector.setPort(0);
+		connector.setProperty("address", "127.0.0.1");
+		connector.setProperty("compression", "on");
+		connector.setProperty("compressibleMimeType", "application/json");
+		connector.setProperty("compressionMinSize", "2048");
+		connector.setProperty("keepAliveTimeout", "30000");
+		connector.setProperty("maxKeepAliveRequests", "-1");
+		tomcat.setConnector(connector);
+		Context context = tomcat.addContext("", null);
+		Tomcat.addServlet(context, "tasks", new HttpServlet() {
+			@Override
+			protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+				connections.add(request.getRemotePort());
+				calls.incrementAndGet();
+				if (serviceMillis > 0) {
+					try {
+						Thread.sleep(serviceMillis);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				response.setContentType("application/json");
+				response.getOutputStream().write(json);
+			}
+		});
+		context.addServletMappingDecoded("/tasks/batch", "tasks");
+		tomcat.start();
+
+		Client client;
+		if (transport.equals("jdk")) {
+			client = new Client.Default(null, null);
+		} else {
+			// Same pool limits as spring.cloud.openfeign.httpclient.* in application.properties
+			PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+					.setMaxConnTotal(100)
+					.setMaxConnPerRoute(20)
+					.build();
+			HttpClientBuilder builder = HttpClients.custom().setConnectionManager(connectionManager);
+			if (transport.equals("hc5")) {
+				builder.disableContentCompression();
+			}
+			httpClient = builder.build();
+			client = new ApacheHttp5Client(httpClient);
+		}
+		taskClient = Feign.builder()
+				.client(client)
+				.contract(new SpringMvcContract())
+				.decoder((response, type) -> objectMapper.readValue(response.body().asInputStream(),
+						objectMapper.constructType(type)))
+				.target(TaskApiClient.class, "http://127.0.0.1:" + connector.getLocalPort());
+	}
+
+	@TearDown
+	public void tearDown() throws LifecycleException {
+		System.out.printf("%n%s, %d ms: %d calls over %d connections%n", transport, serviceMillis, calls.get(), connections.size());
+		if (httpClient != null) {
+			httpClient.close(CloseMode.IMMEDIATE);
+		}
+		tomcat.stop();
+		tomcat.destroy();
+	}
+
+	@Benchmark
+	public List<TaskDto> getTasksByIds() {
+		return taskClient.getTasksByIds(ids);
+	}
+
+}
@@ -0,0 +1,62 @@
+package com.capstone.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.capstone.dto.AllApiResponnseDto;
+import com.capstone.dto.DepartmentDto;
+import com.capstone.dto.EmployeeDto;
+import com.capstone.dto.PerformanceDto;
+import com.capstone.dto.TaskDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Response serialisation of the aggregation endpoints with an ObjectMapper configured like Spring Boot's.
+// Run with: mvn -B -Pbenchmark -DskipTests test -Djmh.include=JsonBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+	@Param({ "1", "500" })
+	private int rows;
+
+	private ObjectMapper objectMapper;
+
+	private List<AllApiResponnseDto> responses;
+
+	@Setup
+	public void setup() {
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		responses = new ArrayList<>(rows);
+		for (long i = 0; i < rows; i++) {
+			responses.add(new AllApiResponnseDto(
+					new EmployeeDto(i, "employee" + i, "employee" + i + "@gmail.com", 5845947871L, "Support", 15000.0, "VG-001", i, i),
+					new DepartmentDto(1L, "Support", "Support Department", "VG-001"),
+					new TaskDto(i, "Task " + i, "Description of task " + i, "Pending"),
+					new PerformanceDto(i, "Review " + i, "Met most of the targets", 3.8)));
+		}
+	}
+
+	@Benchmark
+	public byte[] serialiseAllServices() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(responses);
+	}
+}
@@ -0,0 +1,77 @@
+package com.capstone.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.capstone.security.JwtHelper;
+
+import io.jsonwebtoken.Claims;
+
+// Token work done by JwtAuthenticationFilter on every authenticated request.
+// Run with: mvn -B -Pbenchmark -DskipTests test -Djmh.include=JwtHelperBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtHelperBenchmark {
+
+	private JwtHelper jwtHelper;
+
+	// Same signing key, but a claims cache that keeps nothing
+	private JwtHelper uncachedJwtHelper;
+
+	private UserDetails userDetails;
+
+	private String token;
+
+	@Setup
+	public void setup() {
+		jwtHelper = new JwtHelper();
+		jwtHelper.init();
+		uncachedJwtHelper = new JwtHelper();
+		ReflectionTestUtils.setField(uncachedJwtHelper, "parser", ReflectionTestUtils.getField(jwtHelper, "parser"));
+		ReflectionTestUtils.setField(uncachedJwtHelper, "claimsCacheMaximumSize", 0L);
+		uncachedJwtHelper.init();
+		userDetails = User.withUsername("Nikita@gmail.com").password("Nikita").roles("ADMIN").build();
+		token = jwtHelper.generateToken(userDetails);
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return jwtHelper.generateToken(userDetails);
+	}
+
+	@Benchmark
+	public String getUsernameFromToken() {
+		return jwtHelper.getUsernameFromToken(token);
+	}
+
+	// Same sequence as the filter: parse once, then validate the already parsed claims
+	@Benchmark
+	public Boolean filterPath() {
+		Claims claims = jwtHelper.getAllClaimsFromToken(token);
+		return jwtHelper.validateToken(claims, userDetails);
+	}
+
+	// First request with a token, before its claims are cached
+	@Benchmark
+	public Boolean filterPathUncached() {
+		Claims claims = uncachedJwtHelper.getAllClaimsFromToken(token);
+		return uncachedJwtHelper.validateToken(claims, userDetails);
+	}
+}
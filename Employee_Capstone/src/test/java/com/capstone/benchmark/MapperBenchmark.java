@@ -0,0 +1,68 @@
+package com.capstone.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.capstone.dto.EmployeeDto;
+import com.capstone.entity.Employee;
+import com.capstone.mapper.EmployeeMapper;
+import com.capstone.mapper.EmployeeMapperImpl;
+
+// Compares the reflective ModelMapper bean with the generated EmployeeMapper on the getAllEmployees path.
+// Run with: mvn -B -Pbenchmark -DskipTests test -Djmh.include=MapperBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+	@Param({ "1", "1000" })
+	private int rows;
+
+	private ModelMapper modelMapper;
+
+	private EmployeeMapper employeeMapper;
+
+	private List<Employee> employees;
+
+	@Setup
+	public void setup() {
+		modelMapper = new ModelMapper();
+		employeeMapper = new EmployeeMapperImpl();
+		employees = new ArrayList<>(rows);
+		for (long i = 0; i < rows; i++) {
+			employees.add(new Employee(i, "employee" + i, "employee" + i + "@gmail.com", 5845947871L, "Support",
+					15000.0, "VG-001", i, i));
+		}
+	}
+
+	@Benchmark
+	public List<EmployeeDto> modelMapper() {
+		List<EmployeeDto> employeeDtos = new ArrayList<>(employees.size());
+		for (Employee employee : employees) {
+			employeeDtos.add(modelMapper.map(employee, EmployeeDto.class));
+		}
+		return employeeDtos;
+	}
+
+	@Benchmark
+	public List<EmployeeDto> generatedMapper() {
+		return employeeMapper.toDtoList(employees);
+	}
+}
@@ -0,0 +1,48 @@
+package com.capstone.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.capstone.service.AppConfig;
+
+// BCrypt at the cost configured by AppConfig.passwordEncoder(), as used on every login.
+// Run with: mvn -B -Pbenchmark -DskipTests test -Djmh.include=PasswordEncoderBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+	private PasswordEncoder passwordEncoder;
+
+	private String encodedPassword;
+
+	@Setup
+	public void setup() {
+		passwordEncoder = new AppConfig().passwordEncoder();
+		encodedPassword = passwordEncoder.encode("Nikita");
+	}
+
+	@Benchmark
+	public String encode() {
+		return passwordEncoder.encode("Nikita");
+	}
+
+	@Benchmark
+	public boolean matches() {
+		return passwordEncoder.matches("Nikita", encodedPassword);
+	}
+}
@@ -0,0 +1,58 @@
+package com.capstone.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.capstone.security.InternalToken;
+import com.capstone.service.DepartmentCache;
+
+public class DepartmentCacheControllerTest {
+
+    @InjectMocks
+    private DepartmentCacheController departmentCacheController;
+
+    @Mock
+    private DepartmentCache departmentCache;
+
+    private InternalToken internalToken = new InternalToken();
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(internalToken, "secret", "cache-secret");
+        ReflectionTestUtils.setField(departmentCacheController, "internalToken", internalToken);
+    }
+
+    @Test
+    public void testEvictDepartment_WithToken() {
+        ResponseEntity<Void> response = departmentCacheController.evictDepartment("VG-001", "cache-secret");
+
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        verify(departmentCache).evict("VG-001");
+    }
+
+    @Test
+    public void testEvictDepartment_WithoutToken() {
+        assertEquals(HttpStatus.FORBIDDEN, departmentCacheController.evictDepartment("VG-001", null).getStatusCode());
+        assertEquals(HttpStatus.FORBIDDEN, departmentCacheController.evictDepartment("VG-001", "guess").getStatusCode());
+        verify(departmentCache, never()).evict("VG-001");
+    }
+
+    @Test
+    public void testEvictAllDepartments_NoSecretConfigured() {
+        ReflectionTestUtils.setField(internalToken, "secret", "");
+
+        assertEquals(HttpStatus.FORBIDDEN, departmentCacheController.evictAllDepartments("").getStatusCode());
+        verify(departmentCache, never()).evictAll();
+    }
+}
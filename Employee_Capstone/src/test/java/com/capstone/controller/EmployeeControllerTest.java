@@ -1,12 +1,19 @@
 package com.capstone.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,17 +21,28 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.modelmapper.ModelMapper;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.capstone.controller.EmployeeController;
 import com.capstone.dto.AllApiResponnseDto;
 import com.capstone.dto.ApiResponseDto;
 import com.capstone.dto.EmployeeDto;
+import com.capstone.dto.EmployeeFilterDto;
+import com.capstone.dto.EmployeePageDto;
+import com.capstone.dto.EmployeeSearchDto;
+import com.capstone.dto.ImportResultDto;
 import com.capstone.dto.PerformanceApiResponseDto;
 import com.capstone.dto.TaskApiResponseDto;
+import com.capstone.exception.VersionMismatch;
+import com.capstone.service.EmployeeExportService;
+import com.capstone.service.EmployeeImportService;
 import com.capstone.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @SpringJUnitConfig
 public class EmployeeControllerTest {
@@ -38,9 +56,16 @@ public class EmployeeControllerTest {
     @Mock
     private ModelMapper modelMapper;
 
+    @Mock
+    private EmployeeImportService importService;
+
+    @Mock
+    private EmployeeExportService exportService;
+
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(employeeController, "objectMapper", new ObjectMapper());
     }
 
     @Test
@@ -76,13 +101,55 @@ public class EmployeeControllerTest {
     @Test
     public void testUpdateEmployee() {
         EmployeeDto employeeDto = new EmployeeDto();
-        when(employeeServices.updateEmployee(eq(1L), any(EmployeeDto.class))).thenReturn(employeeDto);
+        when(employeeServices.updateEmployee(eq(1L), any(EmployeeDto.class), eq(null))).thenReturn(employeeDto);
 
-        ResponseEntity<EmployeeDto> response = employeeController.updateEmployee(1L, employeeDto);
+        ResponseEntity<EmployeeDto> response = employeeController.updateEmployee(1L, employeeDto, null);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(employeeDto, response.getBody());
     }
 
+    @Test
+    public void testPatchEmployee() {
+        EmployeeDto changes = new EmployeeDto();
+        changes.setJobRole("Lead");
+        when(employeeServices.patchEmployee(eq(1L), any(EmployeeDto.class), eq(3L))).thenReturn(4L);
+        when(employeeServices.patchEmployee(eq(2L), any(EmployeeDto.class), eq(null))).thenReturn(null);
+
+        ResponseEntity<Void> response = employeeController.patchEmployee(1L, changes, "\"3\"");
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        assertEquals("\"4\"", response.getHeaders().getETag());
+
+        // Without If-Match the new version is not known, so no ETag is sent
+        ResponseEntity<Void> untagged = employeeController.patchEmployee(2L, changes, null);
+        assertEquals(HttpStatus.NO_CONTENT, untagged.getStatusCode());
+        assertEquals(null, untagged.getHeaders().getETag());
+    }
+
+    @Test
+    public void testGetEmployeeById_ETag() {
+        EmployeeDto employeeDto = new EmployeeDto();
+        employeeDto.setVersion(3L);
+        when(employeeServices.getEmployeeById(1L)).thenReturn(employeeDto);
+
+        ResponseEntity<EmployeeDto> response = employeeController.getEmployeeById(1L);
+        assertEquals("\"3\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    public void testUpdateEmployee_IfMatch() {
+        EmployeeDto employeeDto = new EmployeeDto();
+        EmployeeDto updated = new EmployeeDto();
+        updated.setVersion(4L);
+        when(employeeServices.updateEmployee(eq(1L), any(EmployeeDto.class), eq(3L))).thenReturn(updated);
+
+        ResponseEntity<EmployeeDto> response = employeeController.updateEmployee(1L, employeeDto, "\"3\"");
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"4\"", response.getHeaders().getETag());
+
+        // A weak or malformed validator can never match the current version
+        assertThrows(VersionMismatch.class, () -> employeeController.updateEmployee(1L, employeeDto, "W/\"3\""));
+    }
+
     @Test
     public void testDeleteEmployee() {
         when(employeeServices.deleteEmployee(1L)).thenReturn("Employee deleted successfully");
@@ -92,6 +159,15 @@ public class EmployeeControllerTest {
         assertEquals("Employee deleted successfully", response.getBody());
     }
 
+    @Test
+    public void testDeleteEmployees() {
+        when(employeeServices.deleteEmployees(Arrays.asList(1L, 2L))).thenReturn("2 of 2 employees successfully deleted");
+
+        ResponseEntity<String> response = employeeController.deleteEmployees(Arrays.asList(1L, 2L));
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("2 of 2 employees successfully deleted", response.getBody());
+    }
+
     @Test
     public void testGetEmployeeByCode() {
         ApiResponseDto apiResponseDto = new ApiResponseDto();
@@ -131,4 +207,101 @@ public class EmployeeControllerTest {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(allApiResponnseDto, response.getBody());
     }
+
+    @Test
+    public void testGetAllServiceBatch() {
+        List<AllApiResponnseDto> allApiResponnseDtos = Arrays.asList(new AllApiResponnseDto(), new AllApiResponnseDto());
+        when(employeeServices.getAllServices(Arrays.asList(1L, 2L))).thenReturn(allApiResponnseDtos);
+
+        ResponseEntity<List<AllApiResponnseDto>> response = employeeController.getAllServiceBatch(Arrays.asList(1L, 2L));
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(allApiResponnseDtos, response.getBody());
+    }
+
+    @Test
+    public void testGetAllServicePage() {
+        List<AllApiResponnseDto> allApiResponnseDtos = Arrays.asList(new AllApiResponnseDto());
+        when(employeeServices.getAllServices(0, 50)).thenReturn(allApiResponnseDtos);
+
+        ResponseEntity<List<AllApiResponnseDto>> response = employeeController.getAllServicePage(0, 50);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(allApiResponnseDtos, response.getBody());
+    }
+
+    @Test
+    public void testGetEmployeesPage() {
+        EmployeePageDto employeePageDto = new EmployeePageDto(Arrays.asList(new EmployeeDto()), "Mg");
+        when(employeeServices.getEmployeesPage("MQ", 1)).thenReturn(employeePageDto);
+
+        ResponseEntity<EmployeePageDto> response = employeeController.getEmployeesPage("MQ", 1);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(employeePageDto, response.getBody());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testStreamAllEmployees() throws Exception {
+        EmployeeDto employeeDto = new EmployeeDto();
+        employeeDto.setName("pavan");
+        doAnswer(invocation -> {
+            Consumer<EmployeeDto> consumer = invocation.getArgument(0);
+            consumer.accept(employeeDto);
+            consumer.accept(employeeDto);
+            return null;
+        }).when(employeeServices).streamAllEmployees(any());
+
+        ResponseEntity<StreamingResponseBody> response = employeeController.streamAllEmployees();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        String[] lines = out.toString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("pavan", new ObjectMapper().readValue(lines[0], EmployeeDto.class).getName());
+    }
+
+    @Test
+    public void testImportEmployees() throws Exception {
+        InputStream body = new ByteArrayInputStream("name,phoneNumber,jobRole\npavan,9876543210,Support\n".getBytes());
+        ImportResultDto result = new ImportResultDto(1, 1, 0, List.of());
+        when(importService.importEmployees(body, "text/csv")).thenReturn(result);
+
+        ResponseEntity<ImportResultDto> response = employeeController.importEmployees("text/csv", body);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(result, response.getBody());
+    }
+
+    @Test
+    public void testExportEmployees() throws Exception {
+        ResponseEntity<StreamingResponseBody> response = employeeController.exportEmployees();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("application/gzip", response.getHeaders().getContentType().toString());
+        assertEquals("attachment; filename=\"employees.csv.gz\"", response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION));
+        verify(exportService).exportCsv(out);
+    }
+
+    @Test
+    public void testFilterEmployees() {
+        EmployeeFilterDto filter = new EmployeeFilterDto("Support", "VG-001", 1000.0, 20000.0, "pa");
+        EmployeePageDto employeePageDto = new EmployeePageDto(List.of(new EmployeeDto()), null);
+        when(employeeServices.filterEmployees(filter, null, 50)).thenReturn(employeePageDto);
+
+        ResponseEntity<EmployeePageDto> response = employeeController.filterEmployees(filter, null, 50);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(employeePageDto, response.getBody());
+    }
+
+    @Test
+    public void testSearchEmployees() {
+        List<EmployeeSearchDto> employees = List.of(new EmployeeSearchDto(1L, "pavan", "pavan@gmail.com"));
+        when(employeeServices.searchEmployees("pav", 10)).thenReturn(employees);
+
+        ResponseEntity<List<EmployeeSearchDto>> response = employeeController.searchEmployees("pav", 10);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(employees, response.getBody());
+    }
 }
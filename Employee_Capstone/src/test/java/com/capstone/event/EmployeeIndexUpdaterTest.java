@@ -0,0 +1,95 @@
+package com.capstone.event;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.capstone.entity.Employee;
+import com.capstone.service.EmployeeSearchIndex;
+
+@SpringJUnitConfig
+public class EmployeeIndexUpdaterTest {
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import(EmployeeIndexUpdater.class)
+    static class Config {
+
+        @Bean
+        public DataSource dataSource() {
+            return new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        }
+
+        @Bean
+        public PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+    }
+
+    @MockBean
+    private EmployeeSearchIndex searchIndex;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Employee employee = Employee.builder().id(1L).name("pavan").email("pavan@gmail.com").build();
+
+    @BeforeEach
+    public void setup() {
+        reset(searchIndex);
+    }
+
+    @Test
+    @DisplayName("Test for updating the search index once the transaction commits...")
+    public void givenCommittedTransaction_whenEmployeeChanged_thenUpdateIndexAfterCommit() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(EmployeeChangedEvent.saved(employee));
+            eventPublisher.publishEvent(EmployeeChangedEvent.deleted(List.of(2L, 3L)));
+            verify(searchIndex, never()).put(any(Employee.class));
+            verify(searchIndex, never()).remove(anyLong());
+        });
+
+        verify(searchIndex).put(employee);
+        verify(searchIndex).remove(2L);
+        verify(searchIndex).remove(3L);
+    }
+
+    @Test
+    @DisplayName("Test for leaving the search index alone when the transaction rolls back...")
+    public void givenRolledBackTransaction_whenEmployeeChanged_thenKeepIndex() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(EmployeeChangedEvent.saved(employee));
+            eventPublisher.publishEvent(EmployeeChangedEvent.deleted(List.of(2L)));
+            status.setRollbackOnly();
+        });
+
+        verify(searchIndex, never()).put(any(Employee.class));
+        verify(searchIndex, never()).remove(anyLong());
+    }
+}
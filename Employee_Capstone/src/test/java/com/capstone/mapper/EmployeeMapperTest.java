@@ -0,0 +1,37 @@
+package com.capstone.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.capstone.dto.EmployeeDto;
+import com.capstone.entity.Employee;
+
+public class EmployeeMapperTest {
+
+    private final EmployeeMapper mapper = new EmployeeMapperImpl();
+
+    @Test
+    @DisplayName("Test for mapping an Employee to its DTO and back...")
+    public void givenEmployee_whenToDtoAndToEntity_thenAllFieldsAreCopied() {
+        // Given
+        Employee employee = new Employee(1L, "pavan", "pavan2222@gmail.com", 5845947871L, "Support", 15000.0, "VG-001", 2L, 3L);
+
+        // When
+        EmployeeDto employeeDto = mapper.toDto(employee);
+
+        // Then
+        assertThat(employeeDto).usingRecursiveComparison().isEqualTo(employee);
+        assertThat(mapper.toEntity(employeeDto)).isEqualTo(employee);
+    }
+
+    @Test
+    @DisplayName("Test for mapping null and lists of Employees...")
+    public void givenEmployeeList_whenToDtoList_thenMapEachEmployee() {
+        assertThat(mapper.toDto(null)).isNull();
+        assertThat(mapper.toDtoList(List.of(new Employee(), new Employee()))).hasSize(2);
+    }
+}
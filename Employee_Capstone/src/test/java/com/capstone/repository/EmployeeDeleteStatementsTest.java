@@ -0,0 +1,110 @@
+package com.capstone.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.capstone.entity.Employee;
+
+// Counts the JDBC statements each delete path prepares, as Hibernate's statistics see them: the old
+// existsById + deleteById against the single DELETE of deleteRowById and deleteRowsByIdIn. The counts do not
+// depend on the machine, so they are asserted here rather than timed in a JMH benchmark.
+// application.properties pins the MySQL dialect, whose "delete e1_0 from employee e1_0" form H2 does not accept.
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true" })
+public class EmployeeDeleteStatementsTest {
+
+    @Autowired
+    private EmployeeRepo repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setup() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Test for deleting one Employee in one statement instead of three...")
+    public void givenEmployee_whenDelete_thenSingleDeleteUsesOneStatement() {
+        // Given
+        List<Long> ids = saveEmployees(2);
+
+        // When
+        long existsThenDelete = statementsFor(() -> {
+            if (repository.existsById(ids.get(0))) {
+                repository.deleteById(ids.get(0));
+            }
+            entityManager.flush();
+        });
+        long singleDelete = statementsFor(() -> repository.deleteRowById(ids.get(1)));
+
+        // Then - existence check, load, delete
+        assertThat(existsThenDelete).isEqualTo(3);
+        assertThat(singleDelete).isEqualTo(1);
+        assertThat(repository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test for deleting many Employees in one statement instead of one round of lookups per Employee...")
+    public void givenEmployees_whenDeleteByIds_thenBulkDeleteUsesOneStatement() {
+        // Given
+        List<Long> ids = saveEmployees(40);
+        List<Long> before = ids.subList(0, 20);
+        List<Long> after = ids.subList(20, 40);
+
+        // When
+        long existsThenDelete = statementsFor(() -> {
+            for (Long id : before) {
+                if (repository.existsById(id)) {
+                    repository.deleteById(id);
+                }
+            }
+            entityManager.flush();
+        });
+        long bulkDelete = statementsFor(() -> repository.deleteRowsByIdIn(after));
+
+        // Then - two lookups per employee, plus the deletes, which JDBC batching may fold into fewer statements
+        assertThat(existsThenDelete).isGreaterThan(2L * before.size());
+        assertThat(bulkDelete).isEqualTo(1);
+        assertThat(repository.count()).isZero();
+    }
+
+    private List<Long> saveEmployees(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(entityManager.persist(Employee.builder()
+                .name("employee" + i)
+                .email("employee" + i + "@gmail.com")
+                .jobRole("Support")
+                .salary(15000.0)
+                .departmentCode("VG-001")
+                .build()).getId());
+        }
+        // Nothing stays in the persistence context, so every lookup below has to go to the database
+        entityManager.flush();
+        entityManager.clear();
+        return ids;
+    }
+
+    private long statementsFor(Runnable deletes) {
+        long prepared = statistics.getPrepareStatementCount();
+        deletes.run();
+        return statistics.getPrepareStatementCount() - prepared;
+    }
+
+}
@@ -3,6 +3,7 @@ package com.capstone.repository;
 import static org.assertj.core.api.Assertions.assertThat
 ;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,7 +11,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import com.capstone.dto.EmployeeFilterDto;
 import com.capstone.entity.Employee;
 import com.capstone.repository.EmployeeRepo;
 
@@ -20,6 +25,9 @@ public class EmployeeRepositoryTest {
     @Autowired
     private EmployeeRepo repository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     @DisplayName("Test for Creating the Employee and saving it into DB...")
     public void givenEmployee_whenSave_thenReturnSavedEmployee() {
@@ -158,4 +166,103 @@ public class EmployeeRepositoryTest {
     }
     
     
+    @Test
+    @DisplayName("Test for fetching the next keyset page of Employees after a given Id...")
+    public void givenEmployees_whenFindByIdGreaterThan_thenReturnNextPageInIdOrder() {
+        // Given - setup for our test
+        for (String name : List.of("pavan", "salman", "soma")) {
+            repository.save(Employee.builder()
+                .name(name)
+                .email(name + "@gmail.com")
+                .phoneNumber(584594787L)
+                .jobRole("Support")
+                .salary(15000.0)
+                .departmentCode("VG-001")
+                .taskId(1L)
+                .performanceId(1L)
+                .build());
+        }
+        Long firstId = repository.findAll().get(0).getId();
+
+        // When
+        List<Employee> page = repository.findByIdGreaterThanOrderByIdAsc(firstId, Limit.of(1));
+
+        // Then
+        assertThat(page).hasSize(1);
+        assertThat(page.get(0).getName()).isEqualTo("salman");
+    }
+
+    @Test
+    @DisplayName("Test for looking employees up by their join keys through an index...")
+    public void givenJoinKeyLookups_whenExplain_thenUseIndex() {
+        // H2 prints the index it picks in the plan, or tableScan when there is none
+        assertThat(jdbcTemplate.queryForObject("EXPLAIN SELECT * FROM employee WHERE department_code = 'VG-001'", String.class))
+            .containsIgnoringCase("idx_employee_department_code")
+            .doesNotContain("tableScan");
+        assertThat(jdbcTemplate.queryForObject("EXPLAIN SELECT * FROM employee WHERE task_id = 1", String.class))
+            .containsIgnoringCase("idx_employee_task_id")
+            .doesNotContain("tableScan");
+        assertThat(jdbcTemplate.queryForObject("EXPLAIN SELECT * FROM employee WHERE performance_id = 1", String.class))
+            .containsIgnoringCase("idx_employee_performance_id")
+            .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("Test for filtering Employees by role, department, salary range and name prefix...")
+    public void givenEmployees_whenFindByFilter_thenReturnMatchingEmployeesOrderedById() {
+        // Given
+        repository.saveAll(List.of(
+            Employee.builder().name("pavan").jobRole("Support").salary(15000.0).departmentCode("VG-001").build(),
+            Employee.builder().name("paul").jobRole("Support").salary(40000.0).departmentCode("VG-001").build(),
+            Employee.builder().name("pa_tel").jobRole("Support").salary(20000.0).departmentCode("VG-001").build(),
+            Employee.builder().name("pavani").jobRole("Developer").salary(20000.0).departmentCode("VG-001").build(),
+            Employee.builder().name("pavan").jobRole("Support").salary(20000.0).departmentCode("BO-001").build()));
+        EmployeeFilterDto filter = new EmployeeFilterDto("Support", "VG-001", 10000.0, 30000.0, "pa");
+
+        // When
+        List<Employee> employees = repository.findBy(EmployeeSpecifications.matching(filter),
+            query -> query.sortBy(Sort.by("id")).all());
+        List<Employee> underscore = repository.findBy(EmployeeSpecifications.nameStartsWith("pa_"),
+            query -> query.sortBy(Sort.by("id")).all());
+
+        // Then
+        assertThat(employees).extracting(Employee::getName).containsExactly("pavan", "pa_tel");
+        assertThat(underscore).extracting(Employee::getName).containsExactly("pa_tel");
+    }
+
+    @Test
+    @DisplayName("Test for serving the filter queries from the composite indexes...")
+    public void givenFilterQueries_whenExplain_thenUseCompositeIndex() {
+        assertThat(jdbcTemplate.queryForObject(
+            "EXPLAIN SELECT * FROM employee WHERE department_code = 'VG-001' AND job_role = 'Support' AND salary BETWEEN 1000 AND 20000",
+            String.class))
+            .containsIgnoringCase("idx_employee_department_role_salary")
+            .doesNotContain("tableScan");
+        assertThat(jdbcTemplate.queryForObject(
+            "EXPLAIN SELECT * FROM employee WHERE job_role = 'Support' AND salary >= 1000", String.class))
+            .containsIgnoringCase("idx_employee_role_salary")
+            .doesNotContain("tableScan");
+        assertThat(jdbcTemplate.queryForObject("EXPLAIN SELECT * FROM employee WHERE name LIKE 'pav%'", String.class))
+            .containsIgnoringCase("idx_employee_name")
+            .doesNotContain("tableScan");
+    }
+
+    @Test
+    @DisplayName("Test for handing out ids from the pooled id_generator table on batch saves...")
+    public void givenManyEmployees_whenSaveAll_thenAssignDistinctIds() {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            employees.add(Employee.builder().name("employee" + i).jobRole("Support").build());
+        }
+
+        String nextValue = "SELECT next_val FROM id_generator WHERE sequence_name = 'employee'";
+        Long before = jdbcTemplate.queryForObject(nextValue, Long.class);
+
+        List<Employee> saved = repository.saveAll(employees);
+        repository.flush();
+
+        assertThat(saved).extracting(Employee::getId).doesNotContainNull().doesNotHaveDuplicates();
+        // pooled-lo reserves a block of 100 ids per id_generator round trip: 3 round trips for 250 rows
+        assertThat(jdbcTemplate.queryForObject(nextValue, Long.class) - before).isEqualTo(300L);
+    }
 }
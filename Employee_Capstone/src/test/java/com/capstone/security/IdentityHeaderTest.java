@@ -0,0 +1,87 @@
+package com.capstone.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class IdentityHeaderTest {
+
+    private IdentityHeader identityHeader;
+
+    private long expiresAt;
+
+    @BeforeEach
+    public void setup() {
+        identityHeader = newIdentityHeader("gateway-identity-test-key-0123456789");
+        expiresAt = System.currentTimeMillis() / 1000 + 600;
+    }
+
+    private IdentityHeader newIdentityHeader(String key) {
+        IdentityHeader header = new IdentityHeader();
+        ReflectionTestUtils.setField(header, "identitySecret", Base64.getEncoder().encodeToString(key.getBytes()));
+        header.init();
+        return header;
+    }
+
+    @Test
+    @DisplayName("Test for reading back an identity signed with the shared key...")
+    public void givenSignedIdentity_whenVerify_thenReturnIdentity() {
+        String value = identityHeader.sign("Nikita@gmail.com", List.of("ROLE_ADMIN"), expiresAt);
+
+        IdentityHeader.Identity identity = identityHeader.verify(value);
+
+        assertThat(identity).isNotNull();
+        assertThat(identity.username()).isEqualTo("Nikita@gmail.com");
+        assertThat(identity.authorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("Test for accepting the header format the API gateway signs...")
+    public void givenGatewaySignedIdentity_whenVerify_thenReturnIdentity() {
+        // Same key and value as JwtVerificationFilterTest in Api_Gateway_Capstone; keep the copies of IdentityHeader in step
+        String value = "TmlraXRhQGdtYWlsLmNvbQpST0xFX0FETUlOCjQxMDI0NDQ4MDA.-zvCHXruc6WevSiYFsOIT9zEqn7blmwHLx9FW011w_w";
+
+        IdentityHeader.Identity identity = identityHeader.verify(value);
+
+        assertThat(identity).isNotNull();
+        assertThat(identity.username()).isEqualTo("Nikita@gmail.com");
+        assertThat(identity.roles()).containsExactly("ROLE_ADMIN");
+        assertThat(identity.expiresAt()).isEqualTo(4102444800L);
+        assertThat(identityHeader.sign("Nikita@gmail.com", List.of("ROLE_ADMIN"), 4102444800L)).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("Test for rejecting an identity signed with another key...")
+    public void givenForeignSignature_whenVerify_thenReturnNull() {
+        String value = newIdentityHeader("some-other-key-0123456789").sign("Nikita@gmail.com", List.of("ROLE_ADMIN"), expiresAt);
+
+        assertThat(identityHeader.verify(value)).isNull();
+    }
+
+    @Test
+    @DisplayName("Test for rejecting an expired or malformed identity...")
+    public void givenExpiredOrMalformedIdentity_whenVerify_thenReturnNull() {
+        String expired = identityHeader.sign("Nikita@gmail.com", List.of("ROLE_ADMIN"), expiresAt - 1200);
+
+        assertThat(identityHeader.verify(expired)).isNull();
+        assertThat(identityHeader.verify("not-an-identity")).isNull();
+        assertThat(identityHeader.verify(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Test for ignoring the header when no key is configured...")
+    public void givenNoSecret_whenVerify_thenReturnNull() {
+        String value = identityHeader.sign("Nikita@gmail.com", List.of("ROLE_ADMIN"), expiresAt);
+        IdentityHeader disabled = new IdentityHeader();
+        disabled.init();
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.verify(value)).isNull();
+    }
+}
@@ -0,0 +1,66 @@
+package com.capstone.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+
+public class JwtHelperTest {
+
+    private JwtHelper jwtHelper;
+
+    private UserDetails userDetails;
+
+    @BeforeEach
+    public void setup() {
+        jwtHelper = new JwtHelper();
+        jwtHelper.init();
+        userDetails = User.withUsername("Nikita@gmail.com").password("Nikita").roles("ADMIN").build();
+    }
+
+    @Test
+    @DisplayName("Test for reading the subject back from a generated token...")
+    public void givenGeneratedToken_whenGetUsernameFromToken_thenReturnUsername() {
+        String token = jwtHelper.generateToken(userDetails);
+
+        assertThat(jwtHelper.getUsernameFromToken(token)).isEqualTo("Nikita@gmail.com");
+        assertThat(jwtHelper.validateToken(token, userDetails)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test for serving the claims of a repeated token from the cache...")
+    public void givenSameToken_whenGetAllClaimsFromToken_thenReturnCachedClaims() {
+        String token = jwtHelper.generateToken(userDetails);
+
+        Claims first = jwtHelper.getAllClaimsFromToken(token);
+        Claims second = jwtHelper.getAllClaimsFromToken(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(jwtHelper.validateToken(second, userDetails)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test for rejecting a token with a tampered signature...")
+    public void givenTamperedToken_whenGetAllClaimsFromToken_thenThrow() {
+        String token = jwtHelper.generateToken(userDetails);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtHelper.getAllClaimsFromToken(tampered));
+    }
+
+    @Test
+    @DisplayName("Test for rejecting claims issued for a different user...")
+    public void givenOtherUser_whenValidateToken_thenReturnFalse() {
+        Claims claims = jwtHelper.getAllClaimsFromToken(jwtHelper.generateToken(userDetails));
+        UserDetails other = User.withUsername("Rahul@gmail.com").password("Rahul").roles("USER").build();
+
+        assertThat(jwtHelper.validateToken(claims, other)).isFalse();
+    }
+}
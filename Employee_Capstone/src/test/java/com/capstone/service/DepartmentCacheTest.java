@@ -0,0 +1,136 @@
+package com.capstone.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.capstone.dto.DepartmentDto;
+
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class DepartmentCacheTest {
+
+    @Mock
+    private ApiClient apiClient;
+
+    @InjectMocks
+    private DepartmentCache departmentCache;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private DepartmentDto departmentDto;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        DownstreamGuard downstreamGuard = new DownstreamGuard();
+        ReflectionTestUtils.setField(downstreamGuard, "circuitBreakerRegistry", CircuitBreakerRegistry.ofDefaults());
+        ReflectionTestUtils.setField(downstreamGuard, "bulkheadRegistry", BulkheadRegistry.ofDefaults());
+        ReflectionTestUtils.setField(departmentCache, "downstreamGuard", downstreamGuard);
+        ReflectionTestUtils.setField(departmentCache, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(departmentCache, "maximumSize", 100L);
+        ReflectionTestUtils.setField(departmentCache, "ttlSeconds", 600L);
+        ReflectionTestUtils.setField(departmentCache, "negativeTtlSeconds", 60L);
+        departmentCache.init();
+        departmentDto = new DepartmentDto(1L, "Support", "Support Department", "VG-001");
+    }
+
+    @Test
+    @DisplayName("Test for serving a repeated department lookup from the cache...")
+    public void givenCachedDepartment_whenGetDepartmentByCode_thenCallDepartmentServiceOnce() {
+        when(apiClient.getDepartmentByCode("VG-001")).thenReturn(departmentDto);
+
+        assertThat(departmentCache.getDepartmentByCode("VG-001")).isEqualTo(departmentDto);
+        assertThat(departmentCache.getDepartmentByCode("VG-001")).isEqualTo(departmentDto);
+
+        verify(apiClient, times(1)).getDepartmentByCode("VG-001");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "departments").tag("result", "hit").functionCounter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Test for sharing one department lookup between concurrent callers...")
+    public void givenConcurrentLookups_whenGetDepartmentByCode_thenCallDepartmentServiceOnce() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(apiClient.getDepartmentByCode("VG-001")).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return departmentDto;
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        List<Future<DepartmentDto>> lookups = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            lookups.add(executor.submit(() -> departmentCache.getDepartmentByCode("VG-001")));
+        }
+        Thread.sleep(200);
+        release.countDown();
+
+        for (Future<DepartmentDto> lookup : lookups) {
+            assertThat(lookup.get(5, TimeUnit.SECONDS)).isEqualTo(departmentDto);
+        }
+        verify(apiClient, times(1)).getDepartmentByCode("VG-001");
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Test for remembering an unknown department code...")
+    public void givenUnknownCode_whenGetDepartmentByCode_thenCacheTheMiss() {
+        when(apiClient.getDepartmentByCode(anyString())).thenThrow(mock(FeignException.NotFound.class));
+
+        assertThat(departmentCache.getDepartmentByCode("XX-999")).isNull();
+        assertThat(departmentCache.getDepartmentByCode("XX-999")).isNull();
+
+        verify(apiClient, times(1)).getDepartmentByCode("XX-999");
+    }
+
+    @Test
+    @DisplayName("Test for loading only the missing codes of a bulk department lookup...")
+    public void givenPartiallyCachedCodes_whenGetDepartmentsByCodes_thenLoadOnlyMissingCodes() {
+        DepartmentDto other = new DepartmentDto(2L, "Finance", "Finance Department", "FN-001");
+        when(apiClient.getDepartmentByCode("VG-001")).thenReturn(departmentDto);
+        when(apiClient.getDepartmentsByCodes(List.of("FN-001", "XX-999"))).thenReturn(List.of(other));
+
+        departmentCache.getDepartmentByCode("VG-001");
+        List<DepartmentDto> result = departmentCache.getDepartmentsByCodes(List.of("VG-001", "FN-001", "XX-999"));
+
+        assertThat(result).containsExactlyInAnyOrder(departmentDto, other);
+        assertThat(departmentCache.getDepartmentByCode("XX-999")).isNull();
+        verify(apiClient, times(1)).getDepartmentsByCodes(List.of("FN-001", "XX-999"));
+        verify(apiClient, times(0)).getDepartmentByCode("XX-999");
+    }
+
+    @Test
+    @DisplayName("Test for reloading a department after it is evicted...")
+    public void givenEvictedDepartment_whenGetDepartmentByCode_thenReload() {
+        when(apiClient.getDepartmentByCode("VG-001")).thenReturn(departmentDto);
+
+        departmentCache.getDepartmentByCode("VG-001");
+        departmentCache.evict("VG-001");
+        departmentCache.getDepartmentByCode("VG-001");
+
+        verify(apiClient, times(2)).getDepartmentByCode("VG-001");
+    }
+}
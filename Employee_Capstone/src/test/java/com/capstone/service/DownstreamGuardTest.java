@@ -0,0 +1,98 @@
+package com.capstone.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import feign.FeignException;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+public class DownstreamGuardTest {
+
+    private DownstreamGuard downstreamGuard;
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @BeforeEach
+    public void setup() {
+        // Same recording rules as application.properties, with a window small enough to trip in a test
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .recordExceptions(RetryableException.class, FeignException.FeignServerException.class)
+                .ignoreExceptions(BulkheadFullException.class)
+                .build());
+        downstreamGuard = new DownstreamGuard();
+        ReflectionTestUtils.setField(downstreamGuard, "circuitBreakerRegistry", circuitBreakerRegistry);
+        ReflectionTestUtils.setField(downstreamGuard, "bulkheadRegistry",
+                BulkheadRegistry.of(BulkheadConfig.custom().maxConcurrentCalls(1).build()));
+    }
+
+    @Test
+    @DisplayName("Test for opening the circuit after repeated connection failures...")
+    public void givenFailingService_whenCall_thenOpenCircuitAndStopCallingIt() {
+        AtomicInteger calls = new AtomicInteger();
+        RetryableException failure = mock(RetryableException.class);
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> downstreamGuard.call(TaskApiClient.NAME, () -> {
+                calls.incrementAndGet();
+                throw failure;
+            })).isSameAs(failure);
+        }
+
+        assertThatThrownBy(() -> downstreamGuard.call(TaskApiClient.NAME, () -> calls.incrementAndGet()))
+            .isInstanceOf(CallNotPermittedException.class);
+        assertThat(calls.get()).isEqualTo(4);
+        assertThat(circuitBreakerRegistry.circuitBreaker(TaskApiClient.NAME).getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        // Each client has its own breaker
+        assertThat(downstreamGuard.call(PerformanceApiClient.NAME, () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("Test for keeping the circuit closed when the service answers 404...")
+    public void givenNotFoundAnswers_whenCall_thenKeepCircuitClosed() {
+        FeignException.NotFound notFound = mock(FeignException.NotFound.class);
+
+        for (int i = 0; i < 8; i++) {
+            assertThatThrownBy(() -> downstreamGuard.call(ApiClient.NAME, () -> {
+                throw notFound;
+            })).isSameAs(notFound);
+        }
+
+        assertThat(circuitBreakerRegistry.circuitBreaker(ApiClient.NAME).getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(DownstreamGuard.isUnavailable(notFound)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Test for rejecting calls beyond the bulkhead limit...")
+    public void givenCallInFlight_whenCallAgain_thenRejectWithBulkheadFull() {
+        Object nested = downstreamGuard.call(TaskApiClient.NAME, () -> {
+            try {
+                return downstreamGuard.call(TaskApiClient.NAME, () -> "second");
+            } catch (BulkheadFullException e) {
+                return e;
+            }
+        });
+
+        assertThat(nested).isInstanceOf(BulkheadFullException.class);
+        assertThat(DownstreamGuard.isUnavailable((Throwable) nested)).isTrue();
+        assertThat(DownstreamGuard.isUnavailable(mock(FeignException.ServiceUnavailable.class))).isTrue();
+    }
+
+}
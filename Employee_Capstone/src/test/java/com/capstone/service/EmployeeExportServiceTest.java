@@ -0,0 +1,64 @@
+package com.capstone.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.capstone.dto.EmployeeDto;
+
+public class EmployeeExportServiceTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @InjectMocks
+    private EmployeeExportService exportService;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(exportService, "bufferSize", 8192);
+    }
+
+    @Test
+    @DisplayName("Test for exporting every streamed employee as gzipped CSV...")
+    @SuppressWarnings("unchecked")
+    public void givenStreamedEmployees_whenExportCsv_thenWriteGzippedRows() throws Exception {
+        EmployeeDto plain = new EmployeeDto(1L, "pavan", "pavan@gmail.com", 9876543210L, "Support", 25000.0, "VG-001", 2L, 3L);
+        EmployeeDto quoted = new EmployeeDto(2L, "Kumar, \"KK\"", null, 9876543211L, "Lead", null, null, null, null);
+        doAnswer(invocation -> {
+            Consumer<EmployeeDto> consumer = invocation.getArgument(0);
+            consumer.accept(plain);
+            consumer.accept(quoted);
+            return null;
+        }).when(employeeService).streamAllEmployees(any());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportCsv(out);
+
+        String csv;
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            csv = new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String[] lines = csv.split("\n");
+        assertThat(lines).containsExactly(
+                "id,name,email,phoneNumber,jobRole,salary,departmentCode,taskId,performanceId",
+                "1,pavan,pavan@gmail.com,9876543210,Support,25000.0,VG-001,2,3",
+                "2,\"Kumar, \"\"KK\"\"\",,9876543211,Lead,,,,");
+        assertThat(BulkImporter.parseCsvLine(lines[2])[1]).isEqualTo("Kumar, \"KK\"");
+    }
+}
@@ -0,0 +1,166 @@
+package com.capstone.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.capstone.dto.EmployeeDto;
+import com.capstone.dto.ImportResultDto;
+import com.capstone.entity.Employee;
+import com.capstone.mapper.EmployeeMapper;
+import com.capstone.repository.EmployeeRepo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+
+public class EmployeeImportServiceTest {
+
+    @Mock
+    private EmployeeRepo repository;
+
+    @Mock
+    private EmployeeMapper mapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private EmployeeSearchIndex searchIndex;
+
+    private EmployeeImportService importService;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        importService = new EmployeeImportService(100, 1000);
+        ReflectionTestUtils.setField(importService, "repository", repository);
+        ReflectionTestUtils.setField(importService, "mapper", mapper);
+        ReflectionTestUtils.setField(importService, "searchIndex", searchIndex);
+        ReflectionTestUtils.setField(importService, "transactionManager", transactionManager);
+        ReflectionTestUtils.setField(importService, "validator", Validation.buildDefaultValidatorFactory().getValidator());
+        ReflectionTestUtils.setField(importService, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(importService, "entityManager", entityManager);
+        when(mapper.toEntity(any(EmployeeDto.class)))
+            .thenAnswer(invocation -> Employee.builder().name(((EmployeeDto) invocation.getArgument(0)).getName()).build());
+    }
+
+    private ByteArrayInputStream upload(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Test for importing a CSV upload and reporting the invalid row...")
+    public void givenCsvWithInvalidRow_whenImportEmployees_thenSaveValidRowsAndReportError() throws IOException {
+        String csv = "name,email,phoneNumber,jobRole,salary,departmentCode,taskId,performanceId\n"
+            + "pavan,pavan@gmail.com,9876543210,Support,15000,VG-001,1,1\n"
+            + "salman,salman@gmail.com,12345,Actor,20000,BO-001,1,1\n"
+            + "\"Rao, Nikita\",nikita@gmail.com,9876543211,\"Lead, Support\",25000,VG-001,,\n";
+
+        ImportResultDto result = importService.importEmployees(upload(csv), "text/csv");
+
+        assertThat(result.getReceived()).isEqualTo(3);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getErrors()).hasSize(1);
+        assertThat(result.getErrors().get(0).getRow()).isEqualTo(2);
+        assertThat(result.getErrors().get(0).getMessage()).startsWith("phoneNumber:");
+        verify(repository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Test for saving an NDJSON upload in batches...")
+    public void givenNdjson_whenImportEmployees_thenSaveInBatches() throws IOException {
+        ReflectionTestUtils.setField(importService, "batchSize", 2);
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 5; i++) {
+            ndjson.append("{\"name\":\"employee").append(i).append("\",\"phoneNumber\":987654321").append(i)
+                .append(",\"jobRole\":\"Support\"}\n");
+        }
+        ndjson.append("not json\n");
+
+        ImportResultDto result = importService.importEmployees(upload(ndjson.toString()), "application/x-ndjson");
+
+        assertThat(result.getImported()).isEqualTo(5);
+        assertThat(result.getErrors()).extracting("row").containsExactly(6L);
+        verify(repository, times(3)).saveAll(anyList());
+        verify(entityManager, times(3)).clear();
+        verify(searchIndex, times(5)).put(any(Employee.class));
+    }
+
+    @Test
+    @DisplayName("Test for retrying a failed batch row by row...")
+    public void givenRowRejectedByDatabase_whenImportEmployees_thenImportTheOtherRows() throws IOException {
+        doAnswer(invocation -> {
+            List<Employee> employees = invocation.getArgument(0);
+            if (employees.size() > 1 || employees.get(0).getName().equals("duplicate")) {
+                throw new DataIntegrityViolationException("Duplicate entry");
+            }
+            return employees;
+        }).when(repository).saveAll(anyList());
+        String ndjson = "{\"name\":\"pavan\",\"phoneNumber\":9876543210,\"jobRole\":\"Support\"}\n"
+            + "{\"name\":\"duplicate\",\"phoneNumber\":9876543211,\"jobRole\":\"Support\"}\n"
+            + "{\"name\":\"salman\",\"phoneNumber\":9876543212,\"jobRole\":\"Actor\"}\n";
+
+        ImportResultDto result = importService.importEmployees(upload(ndjson), "application/x-ndjson");
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getErrors().get(0).getRow()).isEqualTo(2);
+        assertThat(result.getErrors().get(0).getMessage()).contains("Duplicate entry");
+    }
+
+    @Test
+    @DisplayName("Test for importing an export whose values contain line breaks...")
+    @SuppressWarnings("unchecked")
+    public void givenExportWithMultiLineValue_whenImportEmployees_thenReadItBack() throws IOException {
+        EmployeeService employeeService = mock(EmployeeService.class);
+        EmployeeExportService exportService = new EmployeeExportService();
+        ReflectionTestUtils.setField(exportService, "service", employeeService);
+        ReflectionTestUtils.setField(exportService, "bufferSize", 8192);
+        doAnswer(invocation -> {
+            Consumer<EmployeeDto> consumer = invocation.getArgument(0);
+            consumer.accept(new EmployeeDto(1L, "Kumar, \"KK\"", "kk@gmail.com", 9876543210L, "Lead\r\nSupport", 25000.0, "VG-001", null, null));
+            consumer.accept(new EmployeeDto(2L, "pavan", null, 9876543211L, "Support\n", null, null, null, null));
+            return null;
+        }).when(employeeService).streamAllEmployees(any());
+        ByteArrayOutputStream export = new ByteArrayOutputStream();
+        exportService.exportCsv(export);
+
+        ImportResultDto result = importService.importEmployees(
+            new GZIPInputStream(new ByteArrayInputStream(export.toByteArray())), "text/csv");
+
+        assertThat(result.getReceived()).isEqualTo(2);
+        assertThat(result.getImported()).isEqualTo(2);
+        ArgumentCaptor<EmployeeDto> imported = ArgumentCaptor.forClass(EmployeeDto.class);
+        verify(mapper, times(2)).toEntity(imported.capture());
+        assertThat(imported.getAllValues()).extracting("name").containsExactly("Kumar, \"KK\"", "pavan");
+        assertThat(imported.getAllValues().get(0).getJobRole()).isEqualTo("Lead\r\nSupport");
+    }
+}
@@ -0,0 +1,63 @@
+package com.capstone.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.capstone.dto.EmployeeSearchDto;
+import com.capstone.entity.Employee;
+
+public class EmployeeSearchIndexTest {
+
+    private EmployeeSearchIndex searchIndex;
+
+    @BeforeEach
+    public void setup() {
+        searchIndex = new EmployeeSearchIndex();
+        ReflectionTestUtils.setField(searchIndex, "maxResults", 50);
+        ReflectionTestUtils.setField(searchIndex, "cachedPrefixLength", 3);
+        searchIndex.put(employee(1L, "Pavan Kumar", "pavan.kumar@gmail.com"));
+        searchIndex.put(employee(2L, "Pav", "pav@capstone.com"));
+        searchIndex.put(employee(3L, "Nikita Pavani", "nikita@gmail.com"));
+        searchIndex.put(employee(4L, "Salman", "pavlov.s@yahoo.com"));
+    }
+
+    private Employee employee(Long id, String name, String email) {
+        return Employee.builder().id(id).name(name).email(email).build();
+    }
+
+    @Test
+    @DisplayName("Test for ranking exact name, name prefix, later word and email matches...")
+    public void givenPrefix_whenSearch_thenReturnRankedMatches() {
+        assertThat(searchIndex.search("PAV", 10)).extracting(EmployeeSearchDto::getId).containsExactly(2L, 1L, 3L, 4L);
+        assertThat(searchIndex.search("pav", 2)).extracting(EmployeeSearchDto::getId).containsExactly(2L, 1L);
+        assertThat(searchIndex.search("nikita@g", 10)).extracting(EmployeeSearchDto::getId).containsExactly(3L);
+        assertThat(searchIndex.search("gmail", 10)).isEmpty();
+        assertThat(searchIndex.search("pavan k", 10)).extracting(EmployeeSearchDto::getId).containsExactly(1L);
+        assertThat(searchIndex.search("zz", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test for replacing the keys of an updated Employee and dropping a deleted one...")
+    public void givenUpdateAndDelete_whenSearch_thenReflectChanges() {
+        searchIndex.put(employee(1L, "Ravi Teja", "ravi@gmail.com"));
+        searchIndex.remove(3L);
+
+        assertThat(searchIndex.search("pav", 10)).extracting(EmployeeSearchDto::getId).containsExactly(2L, 4L);
+        assertThat(searchIndex.search("ravi", 10)).extracting(EmployeeSearchDto::getName).containsExactly("Ravi Teja");
+        assertThat(searchIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Test for rejecting a limit above the configured maximum...")
+    public void givenTooLargeLimit_whenSearch_thenThrowIllegalArgument() {
+        assertThat(searchIndex.search("  ", 10)).isEmpty();
+        assertThatThrownBy(() -> searchIndex.search("pav", 51))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Search limit must be between 1 and 50.");
+    }
+}
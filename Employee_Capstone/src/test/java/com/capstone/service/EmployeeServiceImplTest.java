@@ -4,12 +4,24 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,34 +29,53 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.capstone.dto.AllApiResponnseDto;
 import com.capstone.dto.ApiResponseDto;
 import com.capstone.dto.DepartmentDto;
 import com.capstone.dto.EmployeeDto;
+import com.capstone.dto.EmployeeFilterDto;
+import com.capstone.dto.EmployeePageDto;
 import com.capstone.dto.PerformanceApiResponseDto;
 import com.capstone.dto.PerformanceDto;
 import com.capstone.dto.TaskApiResponseDto;
 import com.capstone.dto.TaskDto;
 import com.capstone.entity.Employee;
+import com.capstone.event.EmployeeChangedEvent;
 import com.capstone.exception.IdNotFound;
+import com.capstone.exception.VersionMismatch;
+import com.capstone.mapper.EmployeeMapper;
 import com.capstone.repository.EmployeeRepo;
-import com.capstone.service.ApiClient;
+import com.capstone.service.DepartmentCache;
+import com.capstone.service.EmployeeSearchIndex;
 import com.capstone.service.EmployeeServiceImpl;
 import com.capstone.service.PerformanceApiClient;
 import com.capstone.service.TaskApiClient;
 
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+
 public class EmployeeServiceImplTest {
 
     @Mock
     private EmployeeRepo repository;
 
     @Mock
-    private ModelMapper mapper;
+    private EmployeeMapper mapper;
 
     @Mock
-    private ApiClient apiClient;
+    private DepartmentCache departmentCache;
 
     @Mock
     private TaskApiClient taskClient;
@@ -52,12 +83,35 @@ public class EmployeeServiceImplTest {
     @Mock
     private PerformanceApiClient performanceClient;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private EmployeeSearchIndex searchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private EmployeeServiceImpl service;
 
     @BeforeEach
     public void setup() {
         MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(service, "aggregationExecutor", Executors.newFixedThreadPool(3));
+        ReflectionTestUtils.setField(service, "aggregationTimeoutMs", 500L);
+        ReflectionTestUtils.setField(service, "maxBatchSize", 500);
+        ReflectionTestUtils.setField(service, "lookupChunkSize", 100);
+        ReflectionTestUtils.setField(service, "maxPageSize", 500);
+        ReflectionTestUtils.setField(service, "validator", Validation.buildDefaultValidatorFactory().getValidator());
+        DownstreamGuard downstreamGuard = new DownstreamGuard();
+        ReflectionTestUtils.setField(downstreamGuard, "circuitBreakerRegistry", CircuitBreakerRegistry.ofDefaults());
+        ReflectionTestUtils.setField(downstreamGuard, "bulkheadRegistry", BulkheadRegistry.ofDefaults());
+        ReflectionTestUtils.setField(service, "downstreamGuard", downstreamGuard);
+        SingleFlight singleFlight = new SingleFlight();
+        ReflectionTestUtils.setField(singleFlight, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(singleFlight, "maxWaitMs", 500L);
+        ReflectionTestUtils.setField(service, "singleFlight", singleFlight);
     }
 
     // Helper method to create a consistent Employee object
@@ -81,9 +135,9 @@ public class EmployeeServiceImplTest {
         Employee employee = createTestEmployee();
         EmployeeDto employeeDto = new EmployeeDto();
 
-        when(mapper.map(any(EmployeeDto.class), any())).thenReturn(employee);
+        when(mapper.toEntity(any(EmployeeDto.class))).thenReturn(employee);
         when(repository.save(any(Employee.class))).thenReturn(employee);
-        when(mapper.map(any(Employee.class), any())).thenReturn(employeeDto);
+        when(mapper.toDto(any(Employee.class))).thenReturn(employeeDto);
 
         // When
         EmployeeDto result = service.createEmployee(employeeDto);
@@ -101,17 +155,97 @@ public class EmployeeServiceImplTest {
         Employee updatedEmployee = createTestEmployee();
         EmployeeDto employeeDto = new EmployeeDto();
 
-        when(repository.existsById(anyLong())).thenReturn(true);
-        when(mapper.map(any(EmployeeDto.class), any())).thenReturn(existingEmployee);
-        when(repository.save(any(Employee.class))).thenReturn(updatedEmployee);
-        when(mapper.map(any(Employee.class), any())).thenReturn(employeeDto);
+        when(repository.findById(1L)).thenReturn(Optional.of(existingEmployee));
+        when(repository.saveAndFlush(any(Employee.class))).thenReturn(updatedEmployee);
+        when(mapper.toDto(any(Employee.class))).thenReturn(employeeDto);
 
         // When
-        EmployeeDto result = service.updateEmployee(1L, employeeDto);
+        EmployeeDto result = service.updateEmployee(1L, employeeDto, null);
 
         // Then
         assertThat(result).isEqualTo(employeeDto);
-        verify(repository, times(1)).save(existingEmployee);
+        verify(mapper, times(1)).updateEntity(employeeDto, existingEmployee);
+        verify(repository, times(1)).saveAndFlush(existingEmployee);
+    }
+
+    @Test
+    @DisplayName("Test for rejecting an update whose If-Match version is stale...")
+    public void givenStaleVersion_whenUpdateEmployee_thenThrowVersionMismatch() {
+        // Given
+        Employee existingEmployee = createTestEmployee();
+        existingEmployee.setVersion(3L);
+        when(repository.findById(1L)).thenReturn(Optional.of(existingEmployee));
+
+        // When / Then
+        assertThatThrownBy(() -> service.updateEmployee(1L, new EmployeeDto(), 2L))
+            .isInstanceOf(VersionMismatch.class);
+        verify(repository, never()).saveAndFlush(any(Employee.class));
+    }
+
+    @Test
+    @DisplayName("Test for patching only the fields sent, without reading the employee...")
+    public void givenJobRoleChange_whenPatchEmployee_thenUpdateOnlyThatField() {
+        // Given
+        EmployeeDto changes = new EmployeeDto();
+        changes.setJobRole("Lead");
+        when(repository.updateFields(1L, Map.of("jobRole", "Lead"), 3L)).thenReturn(1);
+
+        // When
+        Long version = service.patchEmployee(1L, changes, 3L);
+
+        // Then
+        assertThat(version).isEqualTo(4L);
+        verify(repository, never()).findById(anyLong());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Test for publishing the renamed employee for the search index when a patch renames an employee...")
+    public void givenNameChange_whenPatchEmployee_thenRefreshSearchIndex() {
+        // Given
+        Employee renamed = createTestEmployee();
+        renamed.setName("Pavan Kumar");
+        EmployeeDto changes = new EmployeeDto();
+        changes.setName("Pavan Kumar");
+        when(repository.updateFields(1L, Map.of("name", "Pavan Kumar"), null)).thenReturn(1);
+        when(repository.findById(1L)).thenReturn(Optional.of(renamed));
+
+        // When
+        Long version = service.patchEmployee(1L, changes, null);
+
+        // Then
+        assertThat(version).isNull();
+        // The index itself is only touched by EmployeeIndexUpdater once the transaction commits
+        verify(eventPublisher, times(1)).publishEvent(EmployeeChangedEvent.saved(renamed));
+        verify(searchIndex, never()).put(any(Employee.class));
+    }
+
+    @Test
+    @DisplayName("Test for telling a missing employee from a stale If-Match when a patch changes no row...")
+    public void givenNoRowUpdated_whenPatchEmployee_thenThrowNotFoundOrVersionMismatch() {
+        // Given
+        EmployeeDto changes = new EmployeeDto();
+        changes.setSalary(20000.0);
+        when(repository.updateFields(1L, Map.of("salary", 20000.0), null)).thenReturn(0);
+        when(repository.updateFields(2L, Map.of("salary", 20000.0), 3L)).thenReturn(0);
+        when(repository.existsById(2L)).thenReturn(true);
+
+        // When / Then
+        assertThatThrownBy(() -> service.patchEmployee(1L, changes, null)).isInstanceOf(IdNotFound.class);
+        assertThatThrownBy(() -> service.patchEmployee(2L, changes, 3L)).isInstanceOf(VersionMismatch.class);
+    }
+
+    @Test
+    @DisplayName("Test for rejecting invalid or empty patches before they reach the database...")
+    public void givenInvalidPatch_whenPatchEmployee_thenThrowIllegalArgument() {
+        // Given
+        EmployeeDto badEmail = new EmployeeDto();
+        badEmail.setEmail("not-an-email");
+
+        // When / Then
+        assertThatThrownBy(() -> service.patchEmployee(1L, badEmail, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.patchEmployee(1L, new EmployeeDto(), null)).isInstanceOf(IllegalArgumentException.class);
+        verify(repository, never()).updateFields(anyLong(), anyMap(), any());
     }
 
     @Test
@@ -122,7 +256,7 @@ public class EmployeeServiceImplTest {
         List<EmployeeDto> employeeDtos = List.of(new EmployeeDto());
 
         when(repository.findAll()).thenReturn(employees);
-        when(mapper.map(any(Employee.class), any())).thenReturn(employeeDtos.get(0));
+        when(mapper.toDtoList(employees)).thenReturn(employeeDtos);
 
         // When
         List<EmployeeDto> result = service.getAllEmployees();
@@ -140,7 +274,7 @@ public class EmployeeServiceImplTest {
         EmployeeDto employeeDto = new EmployeeDto();
 
         when(repository.findById(anyLong())).thenReturn(java.util.Optional.of(employee));
-        when(mapper.map(any(Employee.class), any())).thenReturn(employeeDto);
+        when(mapper.toDto(any(Employee.class))).thenReturn(employeeDto);
 
         // When
         EmployeeDto result = service.getEmployeeById(1L);
@@ -154,27 +288,59 @@ public class EmployeeServiceImplTest {
     @DisplayName("Test for deleting an Employee of given Id from DB...")
     public void givenEmployeeId_whenDeleteEmployee_thenSuccessMessage() {
         // Given
-        doNothing().when(repository).deleteById(anyLong());
-        when(repository.existsById(anyLong())).thenReturn(true);
+        when(repository.deleteRowById(1L)).thenReturn(1);
 
         // When
         String result = service.deleteEmployee(1L);
 
         // Then
         assertThat(result).isEqualTo("Employee is successfully deleted with the ID: 1");
-        verify(repository, times(1)).deleteById(1L);
+        verify(repository, never()).existsById(anyLong());
+        verify(repository, never()).deleteById(anyLong());
+        verify(eventPublisher, times(1)).publishEvent(EmployeeChangedEvent.deleted(List.of(1L)));
+        verify(searchIndex, never()).remove(anyLong());
     }
 
     @Test
     @DisplayName("Test for throwing exception when deleting a non-existent Employee in DB...")
     public void givenNonExistentEmployee_whenDeleteEmployee_thenThrowIdNotFound() {
         // Given
-        when(repository.existsById(anyLong())).thenReturn(false);
+        when(repository.deleteRowById(anyLong())).thenReturn(0);
 
         // When and Then
         assertThatThrownBy(() -> service.deleteEmployee(1L))
             .isInstanceOf(IdNotFound.class)
             .hasMessage("Employee with ID 1 not found.");
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Test for deleting several Employees in one statement...")
+    public void givenEmployeeIds_whenDeleteEmployees_thenDeleteInOneStatement() {
+        // Given
+        ReflectionTestUtils.setField(service, "maxDeleteIds", 500);
+        when(repository.deleteRowsByIdIn(Set.of(1L, 2L, 3L))).thenReturn(2);
+        when(repository.deleteRowsByIdIn(Set.of(4L))).thenReturn(0);
+
+        // When
+        String result = service.deleteEmployees(List.of(1L, 2L, 3L, 2L));
+
+        // Then
+        assertThat(result).isEqualTo("2 of 3 employees successfully deleted");
+        verify(eventPublisher, times(1)).publishEvent(EmployeeChangedEvent.deleted(new LinkedHashSet<>(List.of(1L, 2L, 3L))));
+        assertThatThrownBy(() -> service.deleteEmployees(List.of(4L))).isInstanceOf(IdNotFound.class);
+    }
+
+    @Test
+    @DisplayName("Test for rejecting an empty or oversized bulk delete...")
+    public void givenTooFewOrTooManyIds_whenDeleteEmployees_thenThrowIllegalArgument() {
+        // Given
+        ReflectionTestUtils.setField(service, "maxDeleteIds", 2);
+
+        // When and Then
+        assertThatThrownBy(() -> service.deleteEmployees(List.of())).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.deleteEmployees(List.of(1L, 2L, 3L))).isInstanceOf(IllegalArgumentException.class);
+        verify(repository, never()).deleteRowsByIdIn(any());
     }
 
     @Test
@@ -187,8 +353,8 @@ public class EmployeeServiceImplTest {
         ApiResponseDto apiResponseDto = new ApiResponseDto(employeeDto, departmentDto);
 
         when(repository.findById(anyLong())).thenReturn(java.util.Optional.of(employee));
-        when(apiClient.getDepartmentByCode("VG-001")).thenReturn(departmentDto);
-        when(mapper.map(any(Employee.class), any())).thenReturn(employeeDto);
+        when(departmentCache.getDepartmentByCode("VG-001")).thenReturn(departmentDto);
+        when(mapper.toDto(any(Employee.class))).thenReturn(employeeDto);
 
         // When
         ApiResponseDto result = service.getEmployeeByIdAndCode(1L);
@@ -196,7 +362,7 @@ public class EmployeeServiceImplTest {
         // Then
         assertThat(result).isEqualTo(apiResponseDto);
         verify(repository, times(1)).findById(1L);
-        verify(apiClient, times(1)).getDepartmentByCode("VG-001");
+        verify(departmentCache, times(1)).getDepartmentByCode("VG-001");
     }
 
     @Test
@@ -210,7 +376,7 @@ public class EmployeeServiceImplTest {
 
         when(repository.findById(anyLong())).thenReturn(java.util.Optional.of(employee));
         when(taskClient.getTaskById(anyLong())).thenReturn(taskDto);
-        when(mapper.map(any(Employee.class), any())).thenReturn(employeeDto);
+        when(mapper.toDto(any(Employee.class))).thenReturn(employeeDto);
 
         // When
         TaskApiResponseDto result = service.getTaskAndEmployee(1L);
@@ -232,7 +398,7 @@ public class EmployeeServiceImplTest {
 
         when(repository.findById(anyLong())).thenReturn(java.util.Optional.of(employee));
         when(performanceClient.getPerformanceById(anyLong())).thenReturn(performanceDto);
-        when(mapper.map(any(Employee.class), any())).thenReturn(employeeDto);
+        when(mapper.toDto(any(Employee.class))).thenReturn(employeeDto);
 
         // When
         PerformanceApiResponseDto result = service.getEmployeePerformance(1L);
@@ -255,10 +421,10 @@ public class EmployeeServiceImplTest {
         AllApiResponnseDto allApiResponseDto = new AllApiResponnseDto(employeeDto, departmentDto, taskDto, performanceDto);
 
         when(repository.findById(anyLong())).thenReturn(java.util.Optional.of(employee));
-        when(apiClient.getDepartmentByCode("VG-001")).thenReturn(departmentDto);
+        when(departmentCache.getDepartmentByCode("VG-001")).thenReturn(departmentDto);
         when(taskClient.getTaskById(anyLong())).thenReturn(taskDto);
         when(performanceClient.getPerformanceById(anyLong())).thenReturn(performanceDto);
-        when(mapper.map(any(Employee.class), any())).thenReturn(employeeDto);
+        when(mapper.toDto(any(Employee.class))).thenReturn(employeeDto);
 
         // When
         AllApiResponnseDto result = service.getAllServices(1L);
@@ -266,8 +432,271 @@ public class EmployeeServiceImplTest {
         // Then
         assertThat(result).isEqualTo(allApiResponseDto);
         verify(repository, times(1)).findById(1L);
-        verify(apiClient, times(1)).getDepartmentByCode("VG-001");
+        verify(departmentCache, times(1)).getDepartmentByCode("VG-001");
         verify(taskClient, times(1)).getTaskById(1L);
         verify(performanceClient, times(1)).getPerformanceById(1L);
     }
+
+    @Test
+    @DisplayName("Test for getting all the details of Employee when one dependency is too slow...")
+    public void givenSlowTaskService_whenGetAllServices_thenReturnPartialAllApiResponseDto() {
+        // Given
+        Employee employee = createTestEmployee();
+        DepartmentDto departmentDto = new DepartmentDto();
+        PerformanceDto performanceDto = new PerformanceDto();
+        EmployeeDto employeeDto = new EmployeeDto();
+
+        when(repository.findById(anyLong())).thenReturn(java.util.Optional.of(employee));
+        when(departmentCache.getDepartmentByCode("VG-001")).thenReturn(departmentDto);
+        when(taskClient.getTaskById(anyLong())).thenAnswer(invocation -> {
+            Thread.sleep(2000);
+            return new TaskDto();
+        });
+        when(performanceClient.getPerformanceById(anyLong())).thenReturn(performanceDto);
+        when(mapper.toDto(any(Employee.class))).thenReturn(employeeDto);
+
+        // When
+        AllApiResponnseDto result = service.getAllServices(1L);
+
+        // Then
+        assertThat(result.getDepartment()).isEqualTo(departmentDto);
+        assertThat(result.getTask()).isNull();
+        assertThat(result.getPerformance()).isEqualTo(performanceDto);
+        assertThat(result.isDegraded()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test for getting all the details of Employee while a dependency's circuit is open...")
+    public void givenOpenPerformanceCircuit_whenGetAllServices_thenReturnDegradedAllApiResponseDto() {
+        // Given
+        Employee employee = createTestEmployee();
+        DepartmentDto departmentDto = new DepartmentDto();
+        TaskDto taskDto = new TaskDto();
+
+        when(repository.findById(anyLong())).thenReturn(java.util.Optional.of(employee));
+        when(departmentCache.getDepartmentByCode("VG-001")).thenReturn(departmentDto);
+        when(taskClient.getTaskById(anyLong())).thenReturn(taskDto);
+        when(performanceClient.getPerformanceById(anyLong())).thenThrow(mock(CallNotPermittedException.class));
+        when(mapper.toDto(any(Employee.class))).thenReturn(new EmployeeDto());
+
+        // When
+        AllApiResponnseDto result = service.getAllServices(1L);
+
+        // Then
+        assertThat(result.getDepartment()).isEqualTo(departmentDto);
+        assertThat(result.getTask()).isEqualTo(taskDto);
+        assertThat(result.getPerformance()).isNull();
+        assertThat(result.isDegraded()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test for getting an Employee without its Task while the task service is unreachable...")
+    public void givenUnreachableTaskService_whenGetTaskAndEmployee_thenReturnDegradedTaskApiResponseDto() {
+        // Given
+        Employee employee = createTestEmployee();
+        EmployeeDto employeeDto = new EmployeeDto();
+
+        when(repository.findById(anyLong())).thenReturn(java.util.Optional.of(employee));
+        when(taskClient.getTaskById(anyLong())).thenThrow(mock(RetryableException.class));
+        when(mapper.toDto(any(Employee.class))).thenReturn(employeeDto);
+
+        // When
+        TaskApiResponseDto result = service.getTaskAndEmployee(1L);
+
+        // Then
+        assertThat(result.getEmployee()).isEqualTo(employeeDto);
+        assertThat(result.getTask()).isNull();
+        assertThat(result.isDegraded()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test for getting all the details of Employee while the aggregation pool is full...")
+    public void givenFullAggregationPool_whenGetAllServices_thenReturnDegradedAllApiResponseDto() {
+        // Given
+        Employee employee = createTestEmployee();
+        EmployeeDto employeeDto = new EmployeeDto();
+        ReflectionTestUtils.setField(service, "aggregationExecutor", (Executor) command -> {
+            throw new RejectedExecutionException("pool is full");
+        });
+
+        when(repository.findById(anyLong())).thenReturn(java.util.Optional.of(employee));
+        when(mapper.toDto(any(Employee.class))).thenReturn(employeeDto);
+
+        // When
+        AllApiResponnseDto result = service.getAllServices(1L);
+
+        // Then
+        assertThat(result.getEmployee()).isEqualTo(employeeDto);
+        assertThat(result.getDepartment()).isNull();
+        assertThat(result.getTask()).isNull();
+        assertThat(result.getPerformance()).isNull();
+        assertThat(result.isDegraded()).isTrue();
+        // Rejected calls are not run on the calling thread
+        verify(taskClient, never()).getTaskById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Test for propagating a failing dependency while getting all the details of Employee...")
+    public void givenFailingPerformanceService_whenGetAllServices_thenThrowOriginalException() {
+        // Given
+        Employee employee = createTestEmployee();
+
+        when(repository.findById(anyLong())).thenReturn(java.util.Optional.of(employee));
+        when(departmentCache.getDepartmentByCode("VG-001")).thenReturn(new DepartmentDto());
+        when(taskClient.getTaskById(anyLong())).thenReturn(new TaskDto());
+        when(performanceClient.getPerformanceById(anyLong())).thenThrow(new IdNotFound("Performance with ID 1 not found."));
+
+        // When and Then
+        assertThatThrownBy(() -> service.getAllServices(1L))
+            .isInstanceOf(IdNotFound.class)
+            .hasMessage("Performance with ID 1 not found.");
+    }
+
+    @Test
+    @DisplayName("Test for getting all the details of many Employees with one lookup per distinct key...")
+    public void givenEmployeeIds_whenGetAllServicesBatch_thenFetchEachDistinctKeyOnce() {
+        // Given
+        Employee first = createTestEmployee();
+        first.setId(1L);
+        Employee second = createTestEmployee();
+        second.setId(2L);
+        second.setTaskId(2L);
+        DepartmentDto departmentDto = new DepartmentDto(1L, "Support", "Support Department", "VG-001");
+        PerformanceDto performanceDto = new PerformanceDto(1L, "Good", "Met targets", 4.0);
+        TaskDto firstTask = new TaskDto(1L, "Task 1", "Description 1", "Pending");
+        TaskDto secondTask = new TaskDto(2L, "Task 2", "Description 2", "Completed");
+
+        when(repository.findAllById(List.of(2L, 1L, 99L))).thenReturn(List.of(first, second));
+        when(departmentCache.getDepartmentsByCodes(List.of("VG-001"))).thenReturn(List.of(departmentDto));
+        when(taskClient.getTasksByIds(List.of(2L, 1L))).thenReturn(List.of(firstTask, secondTask));
+        when(performanceClient.getPerformancesByIds(List.of(1L))).thenReturn(List.of(performanceDto));
+        when(mapper.toDto(any(Employee.class))).thenReturn(new EmployeeDto());
+
+        // When
+        List<AllApiResponnseDto> result = service.getAllServices(List.of(2L, 1L, 2L, 99L));
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(result).extracting(AllApiResponnseDto::getTask).containsExactly(secondTask, firstTask);
+        assertThat(result).extracting(AllApiResponnseDto::getDepartment).containsOnly(departmentDto);
+        verify(repository, times(1)).findAllById(List.of(2L, 1L, 99L));
+        verify(departmentCache, times(1)).getDepartmentsByCodes(List.of("VG-001"));
+        verify(taskClient, times(1)).getTasksByIds(List.of(2L, 1L));
+        verify(performanceClient, times(1)).getPerformancesByIds(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("Test for getting all the details of one page of Employees...")
+    public void givenPage_whenGetAllServicesPage_thenReturnAllApiResponseDtoList() {
+        // Given
+        Employee employee = createTestEmployee();
+
+        when(repository.findAllBy(any(Pageable.class))).thenReturn(new SliceImpl<>(List.of(employee)));
+        when(departmentCache.getDepartmentsByCodes(List.of("VG-001"))).thenReturn(List.of());
+        when(taskClient.getTasksByIds(List.of(1L))).thenReturn(List.of());
+        when(performanceClient.getPerformancesByIds(List.of(1L))).thenReturn(List.of());
+        when(mapper.toDto(any(Employee.class))).thenReturn(new EmployeeDto());
+
+        // When
+        List<AllApiResponnseDto> result = service.getAllServices(0, 50);
+
+        // Then
+        assertThat(result).hasSize(1);
+        verify(repository, times(1)).findAllBy(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Test for rejecting a batch larger than the configured maximum...")
+    public void givenTooLargeBatch_whenGetAllServicesPage_thenThrowIllegalArgument() {
+        assertThatThrownBy(() -> service.getAllServices(0, 501))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Batch size must be between 1 and 500.");
+    }
+
+    @Test
+    @DisplayName("Test for getting the first keyset page of Employees with a cursor to the next one...")
+    public void givenNoCursor_whenGetEmployeesPage_thenReturnPageAndNextCursor() {
+        // Given
+        Employee first = createTestEmployee();
+        first.setId(1L);
+        Employee second = createTestEmployee();
+        second.setId(2L);
+
+        when(repository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2))).thenReturn(List.of(first, second));
+        when(mapper.toDtoList(List.of(first))).thenReturn(List.of(new EmployeeDto()));
+
+        // When
+        EmployeePageDto result = service.getEmployeesPage(null, 1);
+
+        // Then
+        assertThat(result.getEmployees()).hasSize(1);
+        assertThat(result.getNext()).isNotNull();
+
+        // When - following the cursor reaches the last page
+        when(repository.findByIdGreaterThanOrderByIdAsc(1L, Limit.of(2))).thenReturn(List.of(second));
+        when(mapper.toDtoList(List.of(second))).thenReturn(List.of(new EmployeeDto()));
+        EmployeePageDto last = service.getEmployeesPage(result.getNext(), 1);
+
+        // Then
+        assertThat(last.getEmployees()).hasSize(1);
+        assertThat(last.getNext()).isNull();
+    }
+
+    @Test
+    @DisplayName("Test for rejecting a cursor that was not issued by the service...")
+    public void givenInvalidCursor_whenGetEmployeesPage_thenThrowIllegalArgument() {
+        assertThatThrownBy(() -> service.getEmployeesPage("not-a-cursor", 10))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid page cursor: not-a-cursor");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("Test for filtering Employees a page at a time...")
+    public void givenFilter_whenFilterEmployees_thenReturnPageWithCursor() {
+        // Given
+        Employee first = createTestEmployee();
+        first.setId(1L);
+        Employee second = createTestEmployee();
+        second.setId(2L);
+        EmployeeDto employeeDto = new EmployeeDto();
+        when(repository.findBy(any(Specification.class), any(Function.class))).thenReturn(List.of(first, second));
+        when(mapper.toDtoList(List.of(first))).thenReturn(List.of(employeeDto));
+
+        // When
+        EmployeePageDto result = service.filterEmployees(new EmployeeFilterDto("Support", "VG-001", null, null, null), null, 1);
+
+        // Then
+        assertThat(result.getEmployees()).containsExactly(employeeDto);
+        assertThat(result.getNext()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Test for rejecting a salary range whose minimum exceeds its maximum...")
+    public void givenInvertedSalaryRange_whenFilterEmployees_thenThrowIllegalArgument() {
+        EmployeeFilterDto filter = new EmployeeFilterDto(null, null, 50000.0, 10000.0, null);
+
+        assertThatThrownBy(() -> service.filterEmployees(filter, null, 10))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("minSalary must not be greater than maxSalary.");
+    }
+
+    @Test
+    @DisplayName("Test for streaming all Employees and detaching each one once written...")
+    public void whenStreamAllEmployees_thenConsumeEachEmployeeAndDetachIt() {
+        // Given
+        Employee employee = createTestEmployee();
+        EmployeeDto employeeDto = new EmployeeDto();
+
+        when(repository.streamAllBy()).thenReturn(Stream.of(employee));
+        when(mapper.toDto(employee)).thenReturn(employeeDto);
+
+        // When
+        List<EmployeeDto> written = new ArrayList<>();
+        service.streamAllEmployees(written::add);
+
+        // Then
+        assertThat(written).containsExactly(employeeDto);
+        verify(entityManager, times(1)).detach(employee);
+    }
 }
@@ -0,0 +1,150 @@
+package com.capstone.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.capstone.dto.TaskDto;
+import com.capstone.exception.IdNotFound;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class SingleFlightTest {
+
+    private SingleFlight singleFlight;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight();
+        ReflectionTestUtils.setField(singleFlight, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(singleFlight, "maxWaitMs", 2000L);
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Test for sharing one downstream call between concurrent lookups of the same key...")
+    public void givenConcurrentLookups_whenCall_thenMakeOneCallAndShareItsResult() throws Exception {
+        TaskDto taskDto = new TaskDto(1L, "Task 1", "Description 1", "Pending");
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<TaskDto> leader = CompletableFuture.supplyAsync(() -> singleFlight.call(TaskApiClient.NAME, 1L, () -> {
+            calls.incrementAndGet();
+            leaderStarted.countDown();
+            await(release);
+            return taskDto;
+        }), executor);
+        leaderStarted.await(5, TimeUnit.SECONDS);
+        CompletableFuture<TaskDto> follower = CompletableFuture.supplyAsync(() -> singleFlight.call(TaskApiClient.NAME, 1L, () -> {
+            calls.incrementAndGet();
+            return new TaskDto();
+        }), executor);
+        // A different key is not held up by the flight in progress
+        assertThat(singleFlight.call(TaskApiClient.NAME, 2L, () -> new TaskDto())).isNotNull();
+        waitForFollower();
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(taskDto);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(taskDto);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(count("coalesced")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Test for passing the leader's exception on to the callers that waited for it...")
+    public void givenFailingCall_whenCall_thenRethrowToEveryWaitingCaller() throws Exception {
+        IdNotFound notFound = new IdNotFound("Task with ID 1 not found.");
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<TaskDto> leader = CompletableFuture.supplyAsync(() -> singleFlight.<TaskDto>call(TaskApiClient.NAME, 1L, () -> {
+            leaderStarted.countDown();
+            await(release);
+            throw notFound;
+        }), executor);
+        leaderStarted.await(5, TimeUnit.SECONDS);
+        CompletableFuture<TaskDto> follower = CompletableFuture.supplyAsync(
+                () -> singleFlight.call(TaskApiClient.NAME, 1L, () -> new TaskDto()), executor);
+        waitForFollower();
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.join()).hasCause(notFound);
+        assertThatThrownBy(() -> follower.join()).hasCause(notFound);
+        // The failed flight is gone, so the next lookup tries again
+        assertThat(singleFlight.call(TaskApiClient.NAME, 1L, () -> new TaskDto())).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Test for making an own call once the wait for a stuck leader runs out...")
+    public void givenStuckLeader_whenWaitExpires_thenMakeOwnCall() throws Exception {
+        ReflectionTestUtils.setField(singleFlight, "maxWaitMs", 50L);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TaskDto own = new TaskDto();
+
+        CompletableFuture.supplyAsync(() -> singleFlight.call(TaskApiClient.NAME, 1L, () -> {
+            leaderStarted.countDown();
+            await(release);
+            return new TaskDto();
+        }), executor);
+        leaderStarted.await(5, TimeUnit.SECONDS);
+
+        assertThat(singleFlight.call(TaskApiClient.NAME, 1L, () -> own)).isSameAs(own);
+        assertThat(count("expired")).isEqualTo(1.0);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Test for refusing to start with a wait as long as the aggregation timeout...")
+    public void givenWaitNotBelowAggregationTimeout_whenInit_thenFail() {
+        ReflectionTestUtils.setField(singleFlight, "maxWaitMs", 3000L);
+        ReflectionTestUtils.setField(singleFlight, "aggregationTimeoutMs", 3000L);
+
+        assertThatThrownBy(() -> singleFlight.init()).isInstanceOf(IllegalStateException.class);
+
+        ReflectionTestUtils.setField(singleFlight, "maxWaitMs", 1000L);
+        singleFlight.init();
+    }
+
+    // Gives the follower time to find the flight in progress before the leader finishes
+    private void waitForFollower() throws InterruptedException {
+        Thread.sleep(200);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("downstream.single.flight.calls").tag("client", TaskApiClient.NAME).tag("result", result)
+                .counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
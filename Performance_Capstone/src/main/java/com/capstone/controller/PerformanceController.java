@@ -1,11 +1,18 @@
 package com.capstone.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import com.capstone.dto.ImportResultDto;
+import com.capstone.dto.PageResponseDto;
 import com.capstone.dto.PerformanceDto;
+import com.capstone.exception.VersionMismatch;
+import com.capstone.service.PerformanceImportService;
 import com.capstone.service.PerformanceService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,13 +23,16 @@ import jakarta.validation.Valid;
 @Tag(name=" CRUD REST APIs for Performance resourse",
 description=" CRUD REST APIs- Create performance,update performance,get performance,get all performance,delete performance")
 @RestController
-@CrossOrigin
+@CrossOrigin(exposedHeaders = HttpHeaders.ETAG)
 @RequestMapping("/api/performance")
 public class PerformanceController {
 
     @Autowired
     private PerformanceService performanceService;
 
+    @Autowired
+    private PerformanceImportService performanceImportService;
+
     @Operation(summary = "CREATE performance REST APIs",
     		description="create performance REST APIs used to save performance in a database")
     
@@ -32,7 +42,20 @@ public class PerformanceController {
     		)
     @PostMapping
     public ResponseEntity<PerformanceDto> createPerformance(@RequestBody @Valid PerformanceDto performanceDto) {
-        return new ResponseEntity<>(performanceService.createPerformance(performanceDto), HttpStatus.CREATED);
+        return withETag(performanceService.createPerformance(performanceDto), HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "IMPORT performance REST API",
+    		description="import performance REST APIs used to bulk load a CSV (header row of field names) or NDJSON upload; invalid rows are reported, not saved")
+    
+    @ApiResponse(
+    		responseCode="200",
+    		description="HTTP Status 200 SUCCESS"
+    		)
+    @PostMapping(value = "/import", consumes = { PerformanceImportService.CSV, PerformanceImportService.NDJSON })
+    public ResponseEntity<ImportResultDto> importPerformances(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+    		InputStream body) throws IOException {
+        return new ResponseEntity<>(performanceImportService.importPerformances(body, contentType), HttpStatus.OK);
     }
 
     @Operation(summary = "GET ALL performance REST APIs",
@@ -47,6 +70,21 @@ public class PerformanceController {
         return new ResponseEntity<>(performanceService.getAllPerformances(), HttpStatus.OK);
     }
 
+    @Operation(summary = "GET performance page REST API",
+    		description="get performance REST APIs used to get one sorted page of performances; count=false skips the total count")
+    
+    @ApiResponse(
+    		responseCode="200",
+    		description="HTTP Status 200 SUCCESS"
+    		)
+    @GetMapping("/page")
+    public ResponseEntity<PageResponseDto<PerformanceDto>> getPerformancesPage(@RequestParam(defaultValue = "0") int page,
+    		@RequestParam(defaultValue = "20") int size,
+    		@RequestParam(defaultValue = "id") String sort,
+    		@RequestParam(defaultValue = "false") boolean count) {
+        return new ResponseEntity<>(performanceService.getPerformancesPage(page, size, sort, count), HttpStatus.OK);
+    }
+
     @Operation(summary = "GET performance by id REST API",
     		description="get performance REST APIs used to get a specific performance from a database")
     
@@ -54,9 +92,25 @@ public class PerformanceController {
     		responseCode="200",
     		description="HTTP Status 200 SUCCESS"
     		)
+    @ApiResponse(
+    		responseCode="304",
+    		description="HTTP Status 304 NOT MODIFIED, If-None-Match holds the current ETag"
+    		)
     @GetMapping("/{id}")
     public ResponseEntity<PerformanceDto> getPerformanceById(@PathVariable("id") Long id) {
-        return new ResponseEntity<>(performanceService.getPerformanceById(id), HttpStatus.OK);
+        return withETag(performanceService.getPerformanceById(id), HttpStatus.OK);
+    }
+
+    @Operation(summary = "GET performances by ids REST API",
+    		description="get performance REST APIs used to get every performance matching a set of ids in one call")
+    
+    @ApiResponse(
+    		responseCode="200",
+    		description="HTTP Status 200 SUCCESS"
+    		)
+    @GetMapping("/batch")
+    public ResponseEntity<List<PerformanceDto>> getPerformancesByIds(@RequestParam("ids") List<Long> ids) {
+        return new ResponseEntity<>(performanceService.getPerformancesByIds(ids), HttpStatus.OK);
     }
 
     @Operation(summary = "UPDATE performance  REST API",
@@ -66,9 +120,36 @@ public class PerformanceController {
     		responseCode="200",
     		description="HTTP Status 200 SUCCESS"
     		)
+    @ApiResponse(
+    		responseCode="412",
+    		description="HTTP Status 412 PRECONDITION FAILED, If-Match does not hold the current ETag"
+    		)
     @PutMapping("/{id}")
-    public ResponseEntity<PerformanceDto> updatePerformance(@PathVariable("id") Long id, @RequestBody @Valid PerformanceDto performanceDto) {
-        return new ResponseEntity<>(performanceService.updatePerformance(id, performanceDto), HttpStatus.OK);
+    public ResponseEntity<PerformanceDto> updatePerformance(@PathVariable("id") Long id, @RequestBody @Valid PerformanceDto performanceDto,
+    		@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return withETag(performanceService.updatePerformance(id, performanceDto, version(ifMatch)), HttpStatus.OK);
+    }
+
+    @Operation(summary = "PATCH performance REST API",
+    		description="PATCH performance REST API is used to change only the fields sent, e.g. {\"rating\":4.5}, without reading the review first")
+    
+    @ApiResponse(
+    		responseCode="204",
+    		description="HTTP Status 204 NO CONTENT, with the new ETag when If-Match was sent"
+    		)
+    @ApiResponse(
+    		responseCode="412",
+    		description="HTTP Status 412 PRECONDITION FAILED, If-Match does not hold the current ETag"
+    		)
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patchPerformance(@PathVariable("id") Long id, @RequestBody PerformanceDto changes,
+    		@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long version = performanceService.patchPerformance(id, changes, version(ifMatch));
+        ResponseEntity.HeadersBuilder<?> response = ResponseEntity.noContent();
+        if (version != null) {
+            response.eTag("\"" + version + "\"");
+        }
+        return response.build();
     }
 
     @Operation(summary = "DELETE performance REST API",
@@ -82,4 +163,42 @@ public class PerformanceController {
     public ResponseEntity<String> deletePerformance(@PathVariable("id") Long id) {
         return new ResponseEntity<>(performanceService.deletePerformance(id), HttpStatus.OK);
     }
+
+    @Operation(summary = "DELETE performances by ids REST API",
+    		description="DELETE performance REST API is used to DELETE every performance matching a set of ids in one statement; 404 only when none matched")
+    
+    @ApiResponse(
+    		responseCode="200",
+    		description="HTTP Status 200 SUCCESS"
+    		)
+    @DeleteMapping
+    public ResponseEntity<String> deletePerformances(@RequestParam("ids") List<Long> ids) {
+        return new ResponseEntity<>(performanceService.deletePerformances(ids), HttpStatus.OK);
+    }
+
+    // The ETag is the quoted version, so a GET whose If-None-Match still holds it is answered 304 by Spring
+    // without serialising the body
+    private static ResponseEntity<PerformanceDto> withETag(PerformanceDto performanceDto, HttpStatus status) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(status);
+        if (performanceDto != null && performanceDto.getVersion() != null) {
+            response.eTag("\"" + performanceDto.getVersion() + "\"");
+        }
+        return response.body(performanceDto);
+    }
+
+    // Version named by If-Match; null when the header is absent or "*", which only asks for the performance to exist
+    private static Long version(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // Not one of our ETags
+            }
+        }
+        throw new VersionMismatch("If-Match " + ifMatch + " is not a current ETag of this performance.");
+    }
 }
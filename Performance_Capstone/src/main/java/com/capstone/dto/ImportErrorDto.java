@@ -0,0 +1,20 @@
+package com.capstone.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description="ImportErrorDTO Model Info")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportErrorDto {
+
+    @Schema(description = "Data row number in the uploaded file, starting at 1 (a CSV header is not counted)")
+    private long row;
+
+    @Schema(description = "Why the row was not imported")
+    private String message;
+
+}
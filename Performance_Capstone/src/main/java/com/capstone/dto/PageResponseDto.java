@@ -0,0 +1,54 @@
+package com.capstone.dto;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description="PageResponseDTO Model Info")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageResponseDto<T> {
+
+	@Schema(description = "Items of the requested page")
+	private List<T> content;
+
+	@Schema(description = "Zero based page index")
+	private int page;
+
+	@Schema(description = "Requested page size")
+	private int size;
+
+	@Schema(description = "Whether a further page exists")
+	private boolean hasNext;
+
+	@Schema(description = "Total number of items, only present when count=true")
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Long totalElements;
+
+	@Schema(description = "Total number of pages, only present when count=true")
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Integer totalPages;
+
+	// A plain Slice was read without COUNT(*), so the totals stay null
+	public static <T> PageResponseDto<T> of(Slice<T> slice) {
+		PageResponseDto<T> response = new PageResponseDto<>();
+		response.setContent(slice.getContent());
+		response.setPage(slice.getNumber());
+		response.setSize(slice.getSize());
+		response.setHasNext(slice.hasNext());
+		if (slice instanceof Page<T> page) {
+			response.setTotalElements(page.getTotalElements());
+			response.setTotalPages(page.getTotalPages());
+		}
+		return response;
+	}
+}
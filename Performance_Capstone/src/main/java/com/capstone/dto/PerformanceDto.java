@@ -1,5 +1,7 @@
 package com.capstone.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -31,5 +33,11 @@ public class PerformanceDto {
     @Schema(description = "Enter rating")
     private Double rating;
 
-  
+    @Schema(description = "Version of the performance, also sent as the ETag; send it back in If-Match to update", accessMode = Schema.AccessMode.READ_ONLY)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
+    public PerformanceDto(Long id, String title, String description, Double rating) {
+        this(id, title, description, rating, null);
+    }
 }
\ No newline at end of file
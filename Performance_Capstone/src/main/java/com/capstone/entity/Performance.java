@@ -1,9 +1,13 @@
 package com.capstone.entity;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,13 +16,18 @@ import lombok.NoArgsConstructor;
 
 @Builder
 @Entity
+// UPDATE statements list only the columns that changed, so a PUT that only changes the rating rewrites just that column
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Performance {
 
+    // Ids are handed out in blocks of 100 from id_generator (pooled-lo), so inserts can be JDBC-batched; IDENTITY cannot
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "performance_id")
+    @TableGenerator(name = "performance_id", table = "id_generator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "performance", allocationSize = 100)
     private Long id;
 
     @NotBlank(message = "Performance title cannot be empty")
@@ -29,5 +38,12 @@ public class Performance {
     private Double rating; //  rating system, e.g., 1 to 5
 
    // private Long employeeId; //need to link with employee id from MS Employee_Capstone
-    
+
+    // Incremented by Hibernate on every update and sent as the ETag; added by db/migration/V3__add_performance_version.sql
+    @Version
+    private Long version;
+
+    public Performance(Long id, String title, String description, Double rating) {
+        this(id, title, description, rating, null);
+    }
 }
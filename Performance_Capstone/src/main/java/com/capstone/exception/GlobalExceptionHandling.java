@@ -2,6 +2,7 @@ package com.capstone.exception;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -39,6 +40,25 @@ public class GlobalExceptionHandling {
 		return new ResponseEntity<ErrorMessage>(new ErrorMessage("ID not found",e.getMessage()),HttpStatus.NOT_FOUND);
 	}
     
+    @ExceptionHandler(VersionMismatch.class)
+	public ResponseEntity<ErrorMessage> handleVersionMismatchException(VersionMismatch e){
+		
+		return new ResponseEntity<ErrorMessage>(new ErrorMessage("Precondition failed",e.getMessage()),HttpStatus.PRECONDITION_FAILED);
+	}
+    
+    // Another update committed between reading the performance and writing it back
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+	public ResponseEntity<ErrorMessage> handleOptimisticLockingFailureException(ObjectOptimisticLockingFailureException e){
+		
+		return new ResponseEntity<ErrorMessage>(new ErrorMessage("Precondition failed","The record was changed by another request, reload it and try again."),HttpStatus.PRECONDITION_FAILED);
+	}
+    
+    @ExceptionHandler(IllegalArgumentException.class)
+	public ResponseEntity<ErrorMessage> handleIllegalArgumentException(IllegalArgumentException e){
+		
+		return new ResponseEntity<ErrorMessage>(new ErrorMessage("Bad request",e.getMessage()),HttpStatus.BAD_REQUEST);
+	}
+    
     @ExceptionHandler(Exception.class)
 	public ResponseEntity<ErrorMessage> handleGlobalException(Exception e){
 		
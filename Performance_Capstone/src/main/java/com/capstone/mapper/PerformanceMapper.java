@@ -0,0 +1,28 @@
+package com.capstone.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+import com.capstone.dto.PerformanceDto;
+import com.capstone.entity.Performance;
+
+// Implementation is generated by MapStruct at compile time: plain getter/setter calls, no reflection
+@Mapper(componentModel = "spring")
+public interface PerformanceMapper {
+
+	PerformanceDto toDto(Performance entity);
+
+	// The version is Hibernate's to set; a new performance starts without one
+	@Mapping(target = "version", ignore = true)
+	Performance toEntity(PerformanceDto dto);
+
+	// Copies the editable fields onto a loaded performance, leaving its id and version alone
+	@Mapping(target = "id", ignore = true)
+	@Mapping(target = "version", ignore = true)
+	void updateEntity(PerformanceDto dto, @MappingTarget Performance entity);
+
+	List<PerformanceDto> toDtoList(List<Performance> entities);
+}
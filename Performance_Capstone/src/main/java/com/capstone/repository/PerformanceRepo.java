@@ -1,7 +1,28 @@
 package com.capstone.repository;
 
+import java.util.Collection;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import com.capstone.entity.Performance;
 
-public interface PerformanceRepo extends JpaRepository<Performance, Long> {
+// PerformanceRepoCustom backs the PATCH endpoint's field-level updates
+public interface PerformanceRepo extends JpaRepository<Performance, Long>, PerformanceRepoCustom {
+
+    // Slice instead of Page: the list endpoint skips the COUNT(*) unless the caller asks for totals
+    Slice<Performance> findAllBy(Pageable pageable);
+
+    // One DELETE ... WHERE id = ?; unlike deleteById it does not load the review first, and the count tells if it existed
+    @Modifying
+    @Query("delete from Performance p where p.id = :id")
+    int deleteRowById(@Param("id") Long id);
+
+    // One DELETE ... WHERE id IN (...) for the bulk delete endpoint
+    @Modifying
+    @Query("delete from Performance p where p.id in :ids")
+    int deleteRowsByIdIn(@Param("ids") Collection<Long> ids);
 }
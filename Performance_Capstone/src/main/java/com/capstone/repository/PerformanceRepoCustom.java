@@ -0,0 +1,9 @@
+package com.capstone.repository;
+
+import java.util.Map;
+
+public interface PerformanceRepoCustom {
+
+    // One UPDATE ... SET <fields>, version = version + 1 WHERE id = ? [AND version = ?]; returns the rows changed
+    int updateFields(Long id, Map<String, Object> fields, Long expectedVersion);
+}
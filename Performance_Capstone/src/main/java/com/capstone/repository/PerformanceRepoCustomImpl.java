@@ -0,0 +1,36 @@
+package com.capstone.repository;
+
+import java.util.Map;
+
+import com.capstone.entity.Performance;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+// Writes only the given columns without loading the performance review first. The bulk update bypasses the
+// persistence context, so callers must not hold a loaded copy of the same review in the transaction.
+public class PerformanceRepoCustomImpl implements PerformanceRepoCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int updateFields(Long id, Map<String, Object> fields, Long expectedVersion) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Performance> update = cb.createCriteriaUpdate(Performance.class);
+        Root<Performance> performance = update.from(Performance.class);
+        fields.forEach((field, value) -> update.set(performance.<Object>get(field), value));
+        // Bumped here because a bulk update does not go through Hibernate's @Version handling
+        update.set(performance.<Long>get("version"), cb.sum(performance.<Long>get("version"), 1L));
+        Predicate where = cb.equal(performance.get("id"), id);
+        if (expectedVersion != null) {
+            where = cb.and(where, cb.equal(performance.get("version"), expectedVersion));
+        }
+        update.where(where);
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
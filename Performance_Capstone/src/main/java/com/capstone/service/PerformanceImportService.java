@@ -0,0 +1,52 @@
+package com.capstone.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+
+import com.capstone.dto.PerformanceDto;
+import com.capstone.dto.ImportResultDto;
+import com.capstone.entity.Performance;
+import com.capstone.mapper.PerformanceMapper;
+import com.capstone.repository.PerformanceRepo;
+
+// Bulk load of performances, validated like POST /api/performance and saved in chunks of performance.import.batch-size
+@Service
+public class PerformanceImportService extends BulkImporter<PerformanceDto, Performance> {
+
+    @Autowired
+    private PerformanceRepo repository;
+
+    @Autowired
+    private PerformanceMapper mapper;
+
+    public PerformanceImportService(@Value("${performance.import.batch-size:100}") int batchSize,
+            @Value("${performance.import.max-errors:1000}") int maxErrors) {
+        super(PerformanceDto.class, batchSize, maxErrors);
+    }
+
+    public ImportResultDto importPerformances(InputStream input, String contentType) throws IOException {
+        return importRows(input, contentType);
+    }
+
+    @Override
+    protected JpaRepository<Performance, Long> repository() {
+        return repository;
+    }
+
+    @Override
+    protected Performance toEntity(PerformanceDto performanceDto) {
+        return mapper.toEntity(performanceDto);
+    }
+
+    @Override
+    protected void asNew(Performance performance) {
+        performance.setId(null);
+        performance.setVersion(null);
+    }
+
+}
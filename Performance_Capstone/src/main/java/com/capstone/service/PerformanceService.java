@@ -1,6 +1,7 @@
 package com.capstone.service;
 
 import java.util.List;
+import com.capstone.dto.PageResponseDto;
 import com.capstone.dto.PerformanceDto;
 
 public interface PerformanceService {
@@ -9,9 +10,19 @@ public interface PerformanceService {
 
     List<PerformanceDto> getAllPerformances();
 
+    PageResponseDto<PerformanceDto> getPerformancesPage(int page, int size, String sort, boolean count);
+
     PerformanceDto getPerformanceById(Long id);
 
-    PerformanceDto updatePerformance(Long id, PerformanceDto performanceDto);
+    List<PerformanceDto> getPerformancesByIds(List<Long> ids);
+
+    // expectedVersion comes from If-Match; null updates whatever version is current
+    PerformanceDto updatePerformance(Long id, PerformanceDto performanceDto, Long expectedVersion);
+
+    // Changes only the non-null fields of changes; returns the new version when expectedVersion was given, else null
+    Long patchPerformance(Long id, PerformanceDto changes, Long expectedVersion);
 
     String deletePerformance(Long id);
+
+    String deletePerformances(List<Long> ids);
 }
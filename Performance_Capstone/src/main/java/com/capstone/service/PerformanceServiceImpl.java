@@ -1,15 +1,27 @@
 package com.capstone.service;
 
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
-import org.modelmapper.ModelMapper;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import com.capstone.dto.PageResponseDto;
 import com.capstone.dto.PerformanceDto;
 import com.capstone.entity.Performance;
 import com.capstone.exception.IdNotFound;
+import com.capstone.exception.VersionMismatch;
+import com.capstone.mapper.PerformanceMapper;
 import com.capstone.repository.PerformanceRepo;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 
 @Service
 @Transactional
@@ -19,47 +31,127 @@ public class PerformanceServiceImpl implements PerformanceService {
     private PerformanceRepo repository;
 
     @Autowired
-    private ModelMapper mapper;
+    private PerformanceMapper mapper;
+
+    @Autowired
+    private Validator validator;
+
+    private static final List<String> SORTABLE_FIELDS = List.of("id", "title", "rating");
+
+    // Fields a PATCH may change; id and version are never taken from the body
+    private static final List<String> PATCHABLE_FIELDS = List.of("title", "description", "rating");
+
+    @Value("${performance.page.max-size:500}")
+    private int maxPageSize;
+
+    @Value("${performance.delete.max-ids:500}")
+    private int maxDeleteIds;
+
+    @Value("${performance.batch.max-ids:500}")
+    private int maxBatchIds;
 
     @Override
     public PerformanceDto createPerformance(PerformanceDto performanceDto) {
-        Performance performance = mapper.map(performanceDto, Performance.class);
+        Performance performance = mapper.toEntity(performanceDto);
         Performance savedPerformance = repository.save(performance);
-        return mapper.map(savedPerformance, PerformanceDto.class);
+        return mapper.toDto(savedPerformance);
     }
 
     @Override
     public List<PerformanceDto> getAllPerformances() {
         List<Performance> performances = repository.findAll();
-        return performances.stream()
-                           .map(performance -> mapper.map(performance, PerformanceDto.class))
-                           .collect(Collectors.toList());
+        return mapper.toDtoList(performances);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponseDto<PerformanceDto> getPerformancesPage(int page, int size, String sort, boolean count) {
+        Pageable pageable = PageRequests.of(page, size, sort, maxPageSize, SORTABLE_FIELDS);
+        Slice<Performance> performances = count ? repository.findAll(pageable) : repository.findAllBy(pageable);
+        return PageResponseDto.of(performances.map(mapper::toDto));
     }
 
     @Override
     public PerformanceDto getPerformanceById(Long id) {
         Performance performance = repository.findById(id)
             .orElseThrow(() -> new IdNotFound("Performance with ID " + id + " not found."));
-        return mapper.map(performance, PerformanceDto.class);
+        return mapper.toDto(performance);
     }
 
     @Override
-    public PerformanceDto updatePerformance(Long id, PerformanceDto performanceDto) {
-        if (!repository.existsById(id)) {
+    public List<PerformanceDto> getPerformancesByIds(List<Long> ids) {
+        if (new LinkedHashSet<>(ids).size() > maxBatchIds) {
+            throw new IllegalArgumentException("At most " + maxBatchIds + " performance IDs can be fetched at once.");
+        }
+        List<Performance> performances = repository.findAllById(ids);
+        return mapper.toDtoList(performances);
+    }
+
+    @Override
+    public PerformanceDto updatePerformance(Long id, PerformanceDto performanceDto, Long expectedVersion) {
+        Performance performance = repository.findById(id)
+            .orElseThrow(() -> new IdNotFound("Performance with ID " + id + " not found."));
+        if (expectedVersion != null && !expectedVersion.equals(performance.getVersion())) {
+            throw new VersionMismatch("Performance with ID " + id + " is at version " + performance.getVersion()
+                    + ", not " + expectedVersion + ".");
+        }
+        mapper.updateEntity(performanceDto, performance);
+        // Flushed now so the version returned, and the ETag made from it, already count this update
+        Performance updatedPerformance = repository.saveAndFlush(performance);
+        return mapper.toDto(updatedPerformance);
+    }
+
+    @Override
+    public Long patchPerformance(Long id, PerformanceDto changes, Long expectedVersion) {
+        if (repository.updateFields(id, changedFields(changes), expectedVersion) == 0) {
+            // Nothing matched: only now is it worth a second query to tell a missing review from a stale If-Match
+            if (expectedVersion != null && repository.existsById(id)) {
+                throw new VersionMismatch("Performance with ID " + id + " is not at version " + expectedVersion + ".");
+            }
             throw new IdNotFound("Performance with ID " + id + " not found.");
         }
-        Performance performance = mapper.map(performanceDto, Performance.class);
-        performance.setId(id);
-        Performance updatedPerformance = repository.save(performance);
-        return mapper.map(updatedPerformance, PerformanceDto.class);
+        return expectedVersion != null ? expectedVersion + 1 : null;
+    }
+
+    // Non-null fields of the patch, each checked against the constraints it carries on PerformanceDto
+    private Map<String, Object> changedFields(PerformanceDto changes) {
+        BeanWrapper dto = new BeanWrapperImpl(changes);
+        Map<String, Object> fields = new LinkedHashMap<>();
+        for (String field : PATCHABLE_FIELDS) {
+            Object value = dto.getPropertyValue(field);
+            if (value == null) {
+                continue;
+            }
+            Set<ConstraintViolation<PerformanceDto>> violations = validator.validateProperty(changes, field);
+            if (!violations.isEmpty()) {
+                throw new IllegalArgumentException(violations.iterator().next().getMessage());
+            }
+            fields.put(field, value);
+        }
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("The patch changes no fields. Patchable fields are " + PATCHABLE_FIELDS + ".");
+        }
+        return fields;
     }
 
     @Override
     public String deletePerformance(Long id) {
-        if (!repository.existsById(id)) {
+        if (repository.deleteRowById(id) == 0) {
             throw new IdNotFound("Performance with ID " + id + " not found.");
         }
-        repository.deleteById(id);
         return "Performance successfully deleted with ID " + id;
     }
+
+    @Override
+    public String deletePerformances(List<Long> ids) {
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        if (distinctIds.isEmpty() || distinctIds.size() > maxDeleteIds) {
+            throw new IllegalArgumentException("Between 1 and " + maxDeleteIds + " performance IDs can be deleted at once.");
+        }
+        int deleted = repository.deleteRowsByIdIn(distinctIds);
+        if (deleted == 0) {
+            throw new IdNotFound("None of the performances with IDs " + distinctIds + " were found.");
+        }
+        return deleted + " of " + distinctIds.size() + " performances successfully deleted";
+    }
 }
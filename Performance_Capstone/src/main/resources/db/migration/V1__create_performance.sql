@@ -0,0 +1,8 @@
+-- Schema as previously generated by ddl-auto=update; existing databases are baselined at this version
+CREATE TABLE performance (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    title VARCHAR(255),
+    description VARCHAR(255),
+    rating DOUBLE,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,2 @@
+-- Optimistic locking column behind the ETag and If-Match support of /api/performance/{id}
+ALTER TABLE performance ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
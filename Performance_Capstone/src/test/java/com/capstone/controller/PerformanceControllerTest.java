@@ -3,9 +3,12 @@ package com.capstone.controller;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.*;
 
+import java.io.InputStream;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,10 +18,16 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.capstone.dto.ImportResultDto;
+import com.capstone.dto.PageResponseDto;
 import com.capstone.dto.PerformanceDto;
+import com.capstone.exception.IdNotFound;
+import com.capstone.exception.VersionMismatch;
+import com.capstone.service.PerformanceImportService;
 import com.capstone.service.PerformanceService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -31,6 +40,9 @@ public class PerformanceControllerTest {
     @MockBean
     private PerformanceService performanceService;
 
+    @MockBean
+    private PerformanceImportService performanceImportService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -74,7 +86,7 @@ public class PerformanceControllerTest {
 
     @Test
     public void testUpdatePerformance() throws Exception {
-        when(performanceService.updatePerformance(eq(1L), any(PerformanceDto.class))).thenReturn(performanceDto);
+        when(performanceService.updatePerformance(eq(1L), any(PerformanceDto.class), isNull())).thenReturn(performanceDto);
 
         mockMvc.perform(put("/api/performance/1")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -83,6 +95,62 @@ public class PerformanceControllerTest {
                 .andExpect(jsonPath("$.title").value("Excellent Performance"));
     }
 
+    @Test
+    public void testGetPerformanceById_NotModified() throws Exception {
+        performanceDto.setVersion(3L);
+        when(performanceService.getPerformanceById(1L)).thenReturn(performanceDto);
+
+        mockMvc.perform(get("/api/performance/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+
+        mockMvc.perform(get("/api/performance/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void testUpdatePerformance_IfMatch() throws Exception {
+        PerformanceDto updated = new PerformanceDto(1L, "Excellent Performance", "Achieved all targets", 4.5);
+        updated.setVersion(4L);
+        when(performanceService.updatePerformance(eq(1L), any(PerformanceDto.class), eq(3L))).thenReturn(updated);
+        when(performanceService.updatePerformance(eq(1L), any(PerformanceDto.class), eq(2L)))
+                .thenThrow(new VersionMismatch("Performance with ID 1 is at version 3, not 2."));
+
+        mockMvc.perform(put("/api/performance/1")
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(performanceDto)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+
+        mockMvc.perform(put("/api/performance/1")
+                .header(HttpHeaders.IF_MATCH, "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(performanceDto)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    public void testPatchPerformance() throws Exception {
+        when(performanceService.patchPerformance(eq(1L), any(PerformanceDto.class), eq(3L))).thenReturn(4L);
+        when(performanceService.patchPerformance(eq(2L), any(PerformanceDto.class), isNull()))
+                .thenThrow(new IdNotFound("Performance with ID 2 not found."));
+
+        mockMvc.perform(patch("/api/performance/1")
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"rating\":4.5}"))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+
+        mockMvc.perform(patch("/api/performance/2")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"rating\":4.5}"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     public void testDeletePerformance() throws Exception {
         when(performanceService.deletePerformance(1L)).thenReturn("Performance successfully deleted with ID 1");
@@ -92,4 +160,58 @@ public class PerformanceControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().string("Performance successfully deleted with ID 1"));
     }
+
+    @Test
+    public void testDeletePerformances() throws Exception {
+        when(performanceService.deletePerformances(Arrays.asList(1L, 2L))).thenReturn("2 of 2 performances successfully deleted");
+
+        mockMvc.perform(delete("/api/performance").param("ids", "1", "2"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("2 of 2 performances successfully deleted"));
+    }
+
+    @Test
+    public void testGetPerformancesByIds() throws Exception {
+        when(performanceService.getPerformancesByIds(Arrays.asList(1L, 2L))).thenReturn(Arrays.asList(performanceDto));
+
+        mockMvc.perform(get("/api/performance/batch?ids=1,2")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Excellent Performance"));
+    }
+
+    @Test
+    public void testGetPerformancesPage() throws Exception {
+        PageResponseDto<PerformanceDto> page = new PageResponseDto<>(Arrays.asList(performanceDto), 0, 20, false, null, null);
+        when(performanceService.getPerformancesPage(0, 20, "rating,desc", false)).thenReturn(page);
+
+        mockMvc.perform(get("/api/performance/page?sort=rating,desc")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Excellent Performance"))
+                .andExpect(jsonPath("$.totalPages").doesNotExist());
+    }
+
+    @Test
+    public void testGetPerformancesPage_BadSort() throws Exception {
+        when(performanceService.getPerformancesPage(0, 20, "description", false))
+            .thenThrow(new IllegalArgumentException("Cannot sort by 'description'."));
+
+        mockMvc.perform(get("/api/performance/page?sort=description")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testImportPerformances() throws Exception {
+        when(performanceImportService.importPerformances(any(InputStream.class), startsWith("application/x-ndjson")))
+            .thenReturn(new ImportResultDto(1, 1, 0, List.of()));
+
+        mockMvc.perform(post("/api/performance/import")
+                .contentType("application/x-ndjson")
+                .content("{\"title\":\"Excellent Performance\",\"rating\":4.5}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.failed").value(0));
+    }
 }
@@ -0,0 +1,31 @@
+package com.capstone.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.capstone.dto.PerformanceDto;
+import com.capstone.entity.Performance;
+
+public class PerformanceMapperTest {
+
+    private final PerformanceMapper performanceMapper = new PerformanceMapperImpl();
+
+    @Test
+    public void testToDtoAndBack() {
+        Performance performance = new Performance(1L, "Excellent Performance", "Achieved all targets", 4.5);
+
+        PerformanceDto performanceDto = performanceMapper.toDto(performance);
+
+        assertThat(performanceDto).isEqualTo(new PerformanceDto(1L, "Excellent Performance", "Achieved all targets", 4.5));
+        assertThat(performanceMapper.toEntity(performanceDto)).isEqualTo(performance);
+    }
+
+    @Test
+    public void testNullAndList() {
+        assertThat(performanceMapper.toDto(null)).isNull();
+        assertThat(performanceMapper.toDtoList(List.of(new Performance(), new Performance()))).hasSize(2);
+    }
+}
@@ -0,0 +1,67 @@
+package com.capstone.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.capstone.dto.ImportResultDto;
+import com.capstone.entity.Performance;
+import com.capstone.mapper.PerformanceMapperImpl;
+import com.capstone.repository.PerformanceRepo;
+
+// Runs this module's copy of BulkImporter against H2 with the real mapper, id generator and chunk transactions.
+// Not wrapped in a test transaction: the import commits its own chunks, so the rows are removed afterwards.
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration({ ValidationAutoConfiguration.class, JacksonAutoConfiguration.class })
+@Import({ PerformanceImportService.class, PerformanceMapperImpl.class })
+public class PerformanceImportServiceTest {
+
+    @Autowired
+    private PerformanceImportService performanceImportService;
+
+    @Autowired
+    private PerformanceRepo performanceRepo;
+
+    @AfterEach
+    public void cleanup() {
+        performanceRepo.deleteAll();
+    }
+
+    @Test
+    public void testImportPerformances_CsvWithBadRowsAndMultiLineField() throws IOException {
+        String csv = "title,description,rating\r\n"
+            + "Q1 review,\"Met every target\r\nand mentored two hires\",4.5\r\n"
+            + "Q2 review,Out of range,6\r\n"
+            + "Q3 review," + "x".repeat(300) + ",3\r\n"
+            + "\"Q4 review, final\",Steady quarter,4\r\n";
+
+        ImportResultDto result = performanceImportService.importPerformances(
+            new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), "text/csv");
+
+        assertThat(result.getReceived()).isEqualTo(4);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(2);
+        // Row 3 passes validation but not the 255 character column, so its chunk is retried row by row
+        assertThat(result.getErrors()).extracting("row").containsExactly(2L, 3L);
+        List<Performance> saved = performanceRepo.findAll(Sort.by("id"));
+        assertThat(saved).extracting("title").containsExactly("Q1 review", "Q4 review, final");
+        assertThat(saved.get(0).getDescription()).isEqualTo("Met every target\r\nand mentored two hires");
+        assertThat(saved).allSatisfy(performance -> assertThat(performance.getVersion()).isZero());
+    }
+}
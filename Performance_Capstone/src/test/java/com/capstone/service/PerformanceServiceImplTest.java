@@ -3,10 +3,14 @@ package com.capstone.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,14 +18,26 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import com.capstone.dto.PageResponseDto;
 import com.capstone.dto.PerformanceDto;
 import com.capstone.entity.Performance;
 import com.capstone.exception.IdNotFound;
+import com.capstone.exception.VersionMismatch;
+import com.capstone.mapper.PerformanceMapper;
 import com.capstone.repository.PerformanceRepo;
 
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
 @ExtendWith(MockitoExtension.class)
 public class PerformanceServiceImplTest {
 
@@ -29,7 +45,10 @@ public class PerformanceServiceImplTest {
     private PerformanceRepo performanceRepo;
 
     @Mock
-    private ModelMapper modelMapper;
+    private PerformanceMapper performanceMapper;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
 
     @InjectMocks
     private PerformanceServiceImpl performanceService;
@@ -45,9 +64,9 @@ public class PerformanceServiceImplTest {
 
     @Test
     public void testCreatePerformance() {
-        when(modelMapper.map(performanceDto, Performance.class)).thenReturn(performance);
+        when(performanceMapper.toEntity(performanceDto)).thenReturn(performance);
         when(performanceRepo.save(performance)).thenReturn(performance);
-        when(modelMapper.map(performance, PerformanceDto.class)).thenReturn(performanceDto);
+        when(performanceMapper.toDto(performance)).thenReturn(performanceDto);
 
         PerformanceDto savedPerformance = performanceService.createPerformance(performanceDto);
 
@@ -61,9 +80,8 @@ public class PerformanceServiceImplTest {
         Performance performance2 = new Performance(2L, "Good Performance", "Met most of the targets", 3.8);
         List<Performance> performances = Arrays.asList(performance, performance2);
         when(performanceRepo.findAll()).thenReturn(performances);
-        when(modelMapper.map(performance, PerformanceDto.class)).thenReturn(performanceDto);
-        when(modelMapper.map(performance2, PerformanceDto.class))
-            .thenReturn(new PerformanceDto(2L, "Good Performance", "Met most of the targets", 3.8));
+        when(performanceMapper.toDtoList(performances))
+            .thenReturn(Arrays.asList(performanceDto, new PerformanceDto(2L, "Good Performance", "Met most of the targets", 3.8)));
 
         List<PerformanceDto> performanceDtoList = performanceService.getAllPerformances();
 
@@ -74,7 +92,7 @@ public class PerformanceServiceImplTest {
     @Test
     public void testGetPerformanceById_Success() {
         when(performanceRepo.findById(1L)).thenReturn(Optional.of(performance));
-        when(modelMapper.map(performance, PerformanceDto.class)).thenReturn(performanceDto);
+        when(performanceMapper.toDto(performance)).thenReturn(performanceDto);
 
         PerformanceDto foundPerformance = performanceService.getPerformanceById(1L);
 
@@ -91,39 +109,158 @@ public class PerformanceServiceImplTest {
 
     @Test
     public void testUpdatePerformance_Success() {
-        when(performanceRepo.existsById(1L)).thenReturn(true);
-        when(modelMapper.map(performanceDto, Performance.class)).thenReturn(performance);
-        when(performanceRepo.save(performance)).thenReturn(performance);
-        when(modelMapper.map(performance, PerformanceDto.class)).thenReturn(performanceDto);
+        when(performanceRepo.findById(1L)).thenReturn(Optional.of(performance));
+        when(performanceRepo.saveAndFlush(performance)).thenReturn(performance);
+        when(performanceMapper.toDto(performance)).thenReturn(performanceDto);
 
-        PerformanceDto updatedPerformance = performanceService.updatePerformance(1L, performanceDto);
+        PerformanceDto updatedPerformance = performanceService.updatePerformance(1L, performanceDto, null);
 
         assertThat(updatedPerformance).isNotNull();
         assertThat(updatedPerformance.getId()).isEqualTo(performance.getId());
-        verify(performanceRepo, times(1)).save(performance);
+        verify(performanceMapper, times(1)).updateEntity(performanceDto, performance);
+        verify(performanceRepo, times(1)).saveAndFlush(performance);
+    }
+
+    @Test
+    public void testUpdatePerformance_VersionMismatch() {
+        performance.setVersion(3L);
+        when(performanceRepo.findById(1L)).thenReturn(Optional.of(performance));
+
+        assertThrows(VersionMismatch.class, () -> performanceService.updatePerformance(1L, performanceDto, 2L));
+        verify(performanceRepo, never()).saveAndFlush(any(Performance.class));
+    }
+
+    @Test
+    public void testPatchPerformance() {
+        PerformanceDto changes = new PerformanceDto();
+        changes.setRating(4.5);
+        when(performanceRepo.updateFields(1L, Map.of("rating", 4.5), 3L)).thenReturn(1);
+
+        Long version = performanceService.patchPerformance(1L, changes, 3L);
+
+        assertThat(version).isEqualTo(4L);
+        verify(performanceRepo, never()).findById(anyLong());
+        verify(performanceRepo, never()).existsById(anyLong());
+    }
+
+    @Test
+    public void testPatchPerformance_NoRowUpdated() {
+        PerformanceDto changes = new PerformanceDto();
+        changes.setRating(4.5);
+        when(performanceRepo.updateFields(1L, Map.of("rating", 4.5), null)).thenReturn(0);
+        when(performanceRepo.updateFields(2L, Map.of("rating", 4.5), 3L)).thenReturn(0);
+        when(performanceRepo.existsById(2L)).thenReturn(true);
+
+        assertThrows(IdNotFound.class, () -> performanceService.patchPerformance(1L, changes, null));
+        assertThrows(VersionMismatch.class, () -> performanceService.patchPerformance(2L, changes, 3L));
+    }
+
+    @Test
+    public void testPatchPerformance_Invalid() {
+        PerformanceDto outOfRange = new PerformanceDto();
+        outOfRange.setRating(6.0);
+
+        assertThrows(IllegalArgumentException.class, () -> performanceService.patchPerformance(1L, outOfRange, null));
+        assertThrows(IllegalArgumentException.class, () -> performanceService.patchPerformance(1L, new PerformanceDto(), null));
+        verify(performanceRepo, never()).updateFields(anyLong(), anyMap(), any());
     }
 
     @Test
     public void testUpdatePerformance_IdNotFound() {
-        when(performanceRepo.existsById(2L)).thenReturn(false);
+        when(performanceRepo.findById(2L)).thenReturn(Optional.empty());
 
-        assertThrows(IdNotFound.class, () -> performanceService.updatePerformance(2L, performanceDto));
+        assertThrows(IdNotFound.class, () -> performanceService.updatePerformance(2L, performanceDto, null));
     }
 
     @Test
     public void testDeletePerformance_Success() {
-        when(performanceRepo.existsById(1L)).thenReturn(true);
+        when(performanceRepo.deleteRowById(1L)).thenReturn(1);
 
         String result = performanceService.deletePerformance(1L);
 
         assertThat(result).isEqualTo("Performance successfully deleted with ID 1");
-        verify(performanceRepo, times(1)).deleteById(1L);
+        verify(performanceRepo, never()).existsById(anyLong());
+        verify(performanceRepo, never()).deleteById(anyLong());
     }
 
     @Test
     public void testDeletePerformance_IdNotFound() {
-        when(performanceRepo.existsById(2L)).thenReturn(false);
+        when(performanceRepo.deleteRowById(2L)).thenReturn(0);
 
         assertThrows(IdNotFound.class, () -> performanceService.deletePerformance(2L));
     }
+
+    @Test
+    public void testDeletePerformances() {
+        ReflectionTestUtils.setField(performanceService, "maxDeleteIds", 500);
+        when(performanceRepo.deleteRowsByIdIn(Set.of(1L, 2L, 3L))).thenReturn(2);
+        when(performanceRepo.deleteRowsByIdIn(Set.of(4L))).thenReturn(0);
+
+        assertThat(performanceService.deletePerformances(List.of(1L, 2L, 3L, 2L))).isEqualTo("2 of 3 performances successfully deleted");
+        assertThrows(IdNotFound.class, () -> performanceService.deletePerformances(List.of(4L)));
+    }
+
+    @Test
+    public void testDeletePerformances_InvalidSize() {
+        ReflectionTestUtils.setField(performanceService, "maxDeleteIds", 2);
+
+        assertThrows(IllegalArgumentException.class, () -> performanceService.deletePerformances(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> performanceService.deletePerformances(List.of(1L, 2L, 3L)));
+        verify(performanceRepo, never()).deleteRowsByIdIn(any());
+    }
+
+    @Test
+    public void testGetPerformancesByIds() {
+        ReflectionTestUtils.setField(performanceService, "maxBatchIds", 500);
+        List<Long> ids = Arrays.asList(1L, 2L);
+        when(performanceRepo.findAllById(ids)).thenReturn(Arrays.asList(performance));
+        when(performanceMapper.toDtoList(Arrays.asList(performance))).thenReturn(Arrays.asList(performanceDto));
+
+        List<PerformanceDto> performanceDtoList = performanceService.getPerformancesByIds(ids);
+
+        assertThat(performanceDtoList).containsExactly(performanceDto);
+        verify(performanceRepo, times(1)).findAllById(ids);
+    }
+
+    @Test
+    public void testGetPerformancesByIds_TooMany() {
+        ReflectionTestUtils.setField(performanceService, "maxBatchIds", 2);
+
+        assertThrows(IllegalArgumentException.class, () -> performanceService.getPerformancesByIds(List.of(1L, 2L, 3L)));
+        verify(performanceRepo, never()).findAllById(any());
+    }
+
+    @Test
+    public void testGetPerformancesPage_SliceMode() {
+        ReflectionTestUtils.setField(performanceService, "maxPageSize", 500);
+        Pageable pageable = PageRequest.of(0, 50, Sort.by(Sort.Direction.DESC, "rating").and(Sort.by("id")));
+        when(performanceRepo.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(performance), pageable, false));
+        when(performanceMapper.toDto(performance)).thenReturn(performanceDto);
+
+        PageResponseDto<PerformanceDto> result = performanceService.getPerformancesPage(0, 50, "rating,desc", false);
+
+        assertThat(result.getContent()).containsExactly(performanceDto);
+        assertThat(result.getTotalElements()).isNull();
+        verify(performanceRepo, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    public void testGetPerformancesPage_CountMode() {
+        ReflectionTestUtils.setField(performanceService, "maxPageSize", 500);
+        Pageable pageable = PageRequest.of(0, 50, Sort.by("id"));
+        when(performanceRepo.findAll(pageable)).thenReturn(new PageImpl<>(List.of(performance), pageable, 1));
+        when(performanceMapper.toDto(performance)).thenReturn(performanceDto);
+
+        PageResponseDto<PerformanceDto> result = performanceService.getPerformancesPage(0, 50, "id", true);
+
+        assertThat(result.getTotalElements()).isEqualTo(1L);
+        assertThat(result.getTotalPages()).isEqualTo(1);
+    }
+
+    @Test
+    public void testGetPerformancesPage_UnknownSortField() {
+        ReflectionTestUtils.setField(performanceService, "maxPageSize", 500);
+
+        assertThrows(IllegalArgumentException.class, () -> performanceService.getPerformancesPage(0, 50, "description", false));
+    }
 }
@@ -1,13 +1,20 @@
 package com.capstone.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.capstone.dto.ImportResultDto;
+import com.capstone.dto.PageResponseDto;
 import com.capstone.dto.TaskDto;
+import com.capstone.exception.VersionMismatch;
+import com.capstone.service.TaskImportService;
 import com.capstone.service.TaskService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -18,13 +25,16 @@ import jakarta.validation.Valid;
 @Tag(name=" CRUD REST APIs for Task resourse",
 description=" CRUD REST APIs- Create Task,update Task,get Task,get all Task,delete Task")
 @RestController
-@CrossOrigin
+@CrossOrigin(exposedHeaders = HttpHeaders.ETAG)
 @RequestMapping("/tasks")
 public class TaskController {
 
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private TaskImportService taskImportService;
+
     @Operation(summary = "CREATE task REST APIs",
     		description="create task REST APIs used to save task in a database")
     
@@ -34,7 +44,20 @@ public class TaskController {
     		)
     @PostMapping
     public ResponseEntity<TaskDto> createTask(@RequestBody @Valid TaskDto taskDto) {
-        return new ResponseEntity<>(taskService.createTask(taskDto), HttpStatus.CREATED);
+        return withETag(taskService.createTask(taskDto), HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "IMPORT task REST API",
+    		description="import task REST APIs used to bulk load a CSV (header row of field names) or NDJSON upload; invalid rows are reported, not saved")
+    
+    @ApiResponse(
+    		responseCode="200",
+    		description="HTTP Status 200 SUCCESS"
+    		)
+    @PostMapping(value = "/import", consumes = { TaskImportService.CSV, TaskImportService.NDJSON })
+    public ResponseEntity<ImportResultDto> importTasks(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+    		InputStream body) throws IOException {
+        return new ResponseEntity<>(taskImportService.importTasks(body, contentType), HttpStatus.OK);
     }
 
     @Operation(summary = "GET ALL task REST APIs",
@@ -49,6 +72,21 @@ public class TaskController {
         return new ResponseEntity<>(taskService.getAllTasks(), HttpStatus.OK);
     }
 
+    @Operation(summary = "GET task page REST API",
+    		description="get task REST APIs used to get one sorted page of tasks; count=false skips the total count")
+    
+    @ApiResponse(
+    		responseCode="200",
+    		description="HTTP Status 200 SUCCESS"
+    		)
+    @GetMapping("/page")
+    public ResponseEntity<PageResponseDto<TaskDto>> getTasksPage(@RequestParam(defaultValue = "0") int page,
+    		@RequestParam(defaultValue = "20") int size,
+    		@RequestParam(defaultValue = "id") String sort,
+    		@RequestParam(defaultValue = "false") boolean count) {
+        return new ResponseEntity<>(taskService.getTasksPage(page, size, sort, count), HttpStatus.OK);
+    }
+
 //    @GetMapping("/{id}")
 //    public ResponseEntity<TaskDto> getTaskById(@PathVariable Long id) {
 //        return new ResponseEntity<>(taskService.getTaskById(id), HttpStatus.OK);
@@ -61,9 +99,25 @@ public class TaskController {
     		responseCode="200",
     		description="HTTP Status 200 SUCCESS"
     		)
+    @ApiResponse(
+    		responseCode="304",
+    		description="HTTP Status 304 NOT MODIFIED, If-None-Match holds the current ETag"
+    		)
     @GetMapping("/{id}")
-    public TaskDto getTaskById(@PathVariable("id") Long id) {
-        return taskService.getTaskById(id);
+    public ResponseEntity<TaskDto> getTaskById(@PathVariable("id") Long id) {
+        return withETag(taskService.getTaskById(id), HttpStatus.OK);
+    }
+
+    @Operation(summary = "GET tasks by ids REST API",
+    		description="get tasks REST APIs used to get every task matching a set of ids in one call")
+    
+    @ApiResponse(
+    		responseCode="200",
+    		description="HTTP Status 200 SUCCESS"
+    		)
+    @GetMapping("/batch")
+    public ResponseEntity<List<TaskDto>> getTasksByIds(@RequestParam("ids") List<Long> ids) {
+        return new ResponseEntity<>(taskService.getTasksByIds(ids), HttpStatus.OK);
     }
     
     @Operation(summary = "UPDATE task  REST API",
@@ -73,9 +127,36 @@ public class TaskController {
     		responseCode="200",
     		description="HTTP Status 200 SUCCESS"
     		)
+    @ApiResponse(
+    		responseCode="412",
+    		description="HTTP Status 412 PRECONDITION FAILED, If-Match does not hold the current ETag"
+    		)
     @PutMapping("/{id}")
-    public ResponseEntity<TaskDto> updateTask(@PathVariable Long id, @RequestBody @Valid TaskDto taskDto) {
-        return new ResponseEntity<>(taskService.updateTask(id, taskDto), HttpStatus.OK);
+    public ResponseEntity<TaskDto> updateTask(@PathVariable Long id, @RequestBody @Valid TaskDto taskDto,
+    		@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return withETag(taskService.updateTask(id, taskDto, version(ifMatch)), HttpStatus.OK);
+    }
+
+    @Operation(summary = "PATCH task REST API",
+    		description="PATCH task REST API is used to change only the fields sent, e.g. {\"status\":\"Completed\"}, without reading the task first")
+    
+    @ApiResponse(
+    		responseCode="204",
+    		description="HTTP Status 204 NO CONTENT, with the new ETag when If-Match was sent"
+    		)
+    @ApiResponse(
+    		responseCode="412",
+    		description="HTTP Status 412 PRECONDITION FAILED, If-Match does not hold the current ETag"
+    		)
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patchTask(@PathVariable Long id, @RequestBody TaskDto changes,
+    		@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long version = taskService.patchTask(id, changes, version(ifMatch));
+        ResponseEntity.HeadersBuilder<?> response = ResponseEntity.noContent();
+        if (version != null) {
+            response.eTag("\"" + version + "\"");
+        }
+        return response.build();
     }
 
     @Operation(summary = "DELETE task REST API",
@@ -89,4 +170,42 @@ public class TaskController {
     public ResponseEntity<String> deleteTask(@PathVariable Long id) {
         return new ResponseEntity<>(taskService.deleteTask(id), HttpStatus.OK);
     }
+
+    @Operation(summary = "DELETE tasks by ids REST API",
+    		description="DELETE tasks REST API is used to DELETE every task matching a set of ids in one statement; 404 only when none matched")
+    
+    @ApiResponse(
+    		responseCode="200",
+    		description="HTTP Status 200 SUCCESS"
+    		)
+    @DeleteMapping
+    public ResponseEntity<String> deleteTasks(@RequestParam("ids") List<Long> ids) {
+        return new ResponseEntity<>(taskService.deleteTasks(ids), HttpStatus.OK);
+    }
+
+    // The ETag is the quoted version, so a GET whose If-None-Match still holds it is answered 304 by Spring
+    // without serialising the body
+    private static ResponseEntity<TaskDto> withETag(TaskDto taskDto, HttpStatus status) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(status);
+        if (taskDto != null && taskDto.getVersion() != null) {
+            response.eTag("\"" + taskDto.getVersion() + "\"");
+        }
+        return response.body(taskDto);
+    }
+
+    // Version named by If-Match; null when the header is absent or "*", which only asks for the task to exist
+    private static Long version(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // Not one of our ETags
+            }
+        }
+        throw new VersionMismatch("If-Match " + ifMatch + " is not a current ETag of this task.");
+    }
 }
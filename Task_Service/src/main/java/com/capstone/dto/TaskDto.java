@@ -1,5 +1,7 @@
 package com.capstone.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.AllArgsConstructor;
@@ -26,4 +28,12 @@ public class TaskDto {
     @NotEmpty(message = "Task description cannot be empty.")
     @Schema(description = "Enter status")
     private String status; // e.g., "Pending", "In Progress", "Completed"
+
+    @Schema(description = "Version of the task, also sent as the ETag; send it back in If-Match to update", accessMode = Schema.AccessMode.READ_ONLY)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
+    public TaskDto(Long id, String title, String description, String status) {
+        this(id, title, description, status, null);
+    }
 }
\ No newline at end of file
@@ -1,9 +1,13 @@
 package com.capstone.entity;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,14 +15,19 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
+// UPDATE statements list only the columns that changed, so a PUT that flips the status rewrites just that column
+@DynamicUpdate
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
 
+    // Ids are handed out in blocks of 100 from id_generator (pooled-lo), so inserts can be JDBC-batched; IDENTITY cannot
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "task_id")
+    @TableGenerator(name = "task_id", table = "id_generator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "task", allocationSize = 100)
     private Long id;
 
     @NotEmpty(message = "Task title cannot be empty.")
@@ -28,4 +37,12 @@ public class Task {
     private String description;
 
     private String status; // e.g., "Pending", "In Progress", "Completed"
+
+    // Incremented by Hibernate on every update and sent as the ETag; added by db/migration/V3__add_task_version.sql
+    @Version
+    private Long version;
+
+    public Task(Long id, String title, String description, String status) {
+        this(id, title, description, status, null);
+    }
 }
@@ -0,0 +1,28 @@
+package com.capstone.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+import com.capstone.dto.TaskDto;
+import com.capstone.entity.Task;
+
+// Implementation is generated by MapStruct at compile time: plain getter/setter calls, no reflection
+@Mapper(componentModel = "spring")
+public interface TaskMapper {
+
+	TaskDto toDto(Task entity);
+
+	// The version is Hibernate's to set; a new task starts without one
+	@Mapping(target = "version", ignore = true)
+	Task toEntity(TaskDto dto);
+
+	// Copies the editable fields onto a loaded task, leaving its id and version alone
+	@Mapping(target = "id", ignore = true)
+	@Mapping(target = "version", ignore = true)
+	void updateEntity(TaskDto dto, @MappingTarget Task entity);
+
+	List<TaskDto> toDtoList(List<Task> entities);
+}
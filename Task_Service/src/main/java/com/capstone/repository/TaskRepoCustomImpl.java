@@ -0,0 +1,36 @@
+package com.capstone.repository;
+
+import java.util.Map;
+
+import com.capstone.entity.Task;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+// Writes only the given columns without loading the task first. The bulk update bypasses the persistence
+// context, so callers must not hold a loaded copy of the same task in the transaction.
+public class TaskRepoCustomImpl implements TaskRepoCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int updateFields(Long id, Map<String, Object> fields, Long expectedVersion) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+        Root<Task> task = update.from(Task.class);
+        fields.forEach((field, value) -> update.set(task.<Object>get(field), value));
+        // Bumped here because a bulk update does not go through Hibernate's @Version handling
+        update.set(task.<Long>get("version"), cb.sum(task.<Long>get("version"), 1L));
+        Predicate where = cb.equal(task.get("id"), id);
+        if (expectedVersion != null) {
+            where = cb.and(where, cb.equal(task.get("version"), expectedVersion));
+        }
+        update.where(where);
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
@@ -0,0 +1,242 @@
+package com.capstone.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.capstone.dto.ImportErrorDto;
+import com.capstone.dto.ImportResultDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+// Bulk load from a CSV (with a header row naming the DTO fields) or NDJSON upload. Rows are validated
+// like the matching POST endpoint and saved in chunks of batchSize, one transaction and one JDBC batch
+// per chunk. Bad rows are reported and skipped instead of failing the load. Subclasses supply the
+// repository and the DTO to entity mapping.
+//
+// The same class lives in Employee_Capstone, Task_Service and Performance_Capstone, which are separate
+// Maven builds with nothing shared between them; a change here belongs in all three copies.
+public abstract class BulkImporter<D, E> {
+
+    public static final String CSV = "text/csv";
+    public static final String NDJSON = "application/x-ndjson";
+
+    private Logger logger = LoggerFactory.getLogger(getClass());
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Class<D> dtoType;
+
+    private int batchSize;
+
+    private int maxErrors;
+
+    protected BulkImporter(Class<D> dtoType, int batchSize, int maxErrors) {
+        this.dtoType = dtoType;
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+    }
+
+    protected abstract JpaRepository<E, Long> repository();
+
+    protected abstract E toEntity(D dto);
+
+    // Clears the id and version so the entity is inserted as a new row
+    protected abstract void asNew(E entity);
+
+    // Called for every row once its chunk has committed
+    protected void imported(E entity) {
+    }
+
+    protected ImportResultDto importRows(InputStream input, String contentType) throws IOException {
+        boolean csv = contentType != null && contentType.toLowerCase().startsWith(CSV);
+        Import result = new Import();
+        List<Row<E>> chunk = new ArrayList<>(batchSize);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String[] header = null;
+        String line;
+        while ((line = csv ? readCsvRecord(reader) : reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            if (csv && header == null) {
+                header = parseCsvLine(line);
+                continue;
+            }
+            long rowNumber = ++result.received;
+            D dto;
+            try {
+                dto = csv ? fromCsv(header, line) : objectMapper.readValue(line, dtoType);
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                result.reject(rowNumber, "Unreadable row: " + e.getMessage());
+                continue;
+            }
+            Set<ConstraintViolation<D>> violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                result.reject(rowNumber, violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                continue;
+            }
+            E entity = toEntity(dto);
+            asNew(entity);
+            chunk.add(new Row<>(rowNumber, entity));
+            if (chunk.size() >= batchSize) {
+                save(chunk, result);
+                chunk.clear();
+            }
+        }
+        save(chunk, result);
+        logger.info("Import finished: {} received, {} imported, {} failed", result.received, result.imported, result.failed);
+        return new ImportResultDto(result.received, result.imported, result.failed, result.errors);
+    }
+
+    // A failed chunk is retried row by row so one bad row only costs itself
+    private void save(List<Row<E>> chunk, Import result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        try {
+            transaction.executeWithoutResult(status -> persist(chunk));
+            result.imported += chunk.size();
+            chunk.forEach(row -> imported(row.entity()));
+        } catch (DataAccessException e) {
+            for (Row<E> row : chunk) {
+                // The failed attempt may have assigned an id and version; a second try must insert the row again
+                asNew(row.entity());
+                try {
+                    transaction.executeWithoutResult(status -> persist(List.of(row)));
+                    result.imported++;
+                    imported(row.entity());
+                } catch (DataAccessException rowFailure) {
+                    result.reject(row.number(), "Could not be saved: " + rowFailure.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    private void persist(List<Row<E>> rows) {
+        repository().saveAll(rows.stream().map(Row::entity).collect(Collectors.toList()));
+        repository().flush();
+        // Saved rows are not needed again; keep the persistence context from growing with the upload
+        entityManager.clear();
+    }
+
+    private D fromCsv(String[] header, String line) {
+        String[] values = parseCsvLine(line);
+        if (values.length > header.length) {
+            throw new IllegalArgumentException("expected " + header.length + " columns but found " + values.length);
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            if (!values[i].isBlank()) {
+                fields.put(header[i].trim(), values[i].trim());
+            }
+        }
+        return objectMapper.convertValue(fields, dtoType);
+    }
+
+    // One CSV record, up to a line break outside quotes; a quoted field keeps its line breaks, as the export writes them.
+    // Returns null at the end of the input.
+    static String readCsvRecord(BufferedReader reader) throws IOException {
+        StringBuilder record = new StringBuilder();
+        boolean quoted = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (!quoted && (c == '\n' || c == '\r')) {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                return record.toString();
+            }
+            record.append((char) c);
+        }
+        return record.length() == 0 ? null : record.toString();
+    }
+
+    // Comma separated values; a field may be quoted to contain commas or line breaks, with "" standing for a quote
+    static String[] parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values.toArray(new String[0]);
+    }
+
+    private record Row<E>(long number, E entity) {
+    }
+
+    private class Import {
+
+        private long received;
+        private long imported;
+        private long failed;
+        private final List<ImportErrorDto> errors = new ArrayList<>();
+
+        private void reject(long row, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new ImportErrorDto(row, message));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.capstone.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+
+import com.capstone.dto.TaskDto;
+import com.capstone.dto.ImportResultDto;
+import com.capstone.entity.Task;
+import com.capstone.mapper.TaskMapper;
+import com.capstone.repository.TaskRepo;
+
+// Bulk load of tasks, validated like POST /tasks and saved in chunks of task.import.batch-size
+@Service
+public class TaskImportService extends BulkImporter<TaskDto, Task> {
+
+    @Autowired
+    private TaskRepo repository;
+
+    @Autowired
+    private TaskMapper mapper;
+
+    public TaskImportService(@Value("${task.import.batch-size:100}") int batchSize,
+            @Value("${task.import.max-errors:1000}") int maxErrors) {
+        super(TaskDto.class, batchSize, maxErrors);
+    }
+
+    public ImportResultDto importTasks(InputStream input, String contentType) throws IOException {
+        return importRows(input, contentType);
+    }
+
+    @Override
+    protected JpaRepository<Task, Long> repository() {
+        return repository;
+    }
+
+    @Override
+    protected Task toEntity(TaskDto taskDto) {
+        return mapper.toEntity(taskDto);
+    }
+
+    @Override
+    protected void asNew(Task task) {
+        task.setId(null);
+        task.setVersion(null);
+    }
+
+}
@@ -2,6 +2,7 @@ package com.capstone.service;
 
 import java.util.List;
 
+import com.capstone.dto.PageResponseDto;
 import com.capstone.dto.TaskDto;
 
 public interface TaskService {
@@ -10,9 +11,19 @@ public interface TaskService {
 
     List<TaskDto> getAllTasks();
 
+    PageResponseDto<TaskDto> getTasksPage(int page, int size, String sort, boolean count);
+
     TaskDto getTaskById(Long id);
 
-    TaskDto updateTask(Long id, TaskDto taskDto);
+    List<TaskDto> getTasksByIds(List<Long> ids);
+
+    // expectedVersion comes from If-Match; null updates whatever version is current
+    TaskDto updateTask(Long id, TaskDto taskDto, Long expectedVersion);
+
+    // Changes only the non-null fields of changes; returns the new version when expectedVersion was given, else null
+    Long patchTask(Long id, TaskDto changes, Long expectedVersion);
 
     String deleteTask(Long id);
+
+    String deleteTasks(List<Long> ids);
 }
@@ -1,18 +1,31 @@
 package com.capstone.service;
 
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
-import org.modelmapper.ModelMapper;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.capstone.dto.PageResponseDto;
 import com.capstone.dto.TaskDto;
 import com.capstone.entity.Task;
 import com.capstone.exception.IdNotFound;
+import com.capstone.exception.VersionMismatch;
+import com.capstone.mapper.TaskMapper;
 import com.capstone.repository.TaskRepo;
 
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
 @Service
 @Transactional
 public class TaskServiceImpl implements TaskService {
@@ -21,49 +34,129 @@ public class TaskServiceImpl implements TaskService {
     private TaskRepo repository;
 
     @Autowired
-    private ModelMapper mapper;
+    private TaskMapper mapper;
+
+    @Autowired
+    private Validator validator;
+
+    private static final List<String> SORTABLE_FIELDS = List.of("id", "title", "status");
+
+    // Fields a PATCH may change; id and version are never taken from the body
+    private static final List<String> PATCHABLE_FIELDS = List.of("title", "description", "status");
+
+    @Value("${task.page.max-size:500}")
+    private int maxPageSize;
+
+    @Value("${task.delete.max-ids:500}")
+    private int maxDeleteIds;
+
+    @Value("${task.batch.max-ids:500}")
+    private int maxBatchIds;
 
     @Override
     public TaskDto createTask(TaskDto taskDto) {
-        Task task = mapper.map(taskDto, Task.class);
+        Task task = mapper.toEntity(taskDto);
         Task savedTask = repository.save(task);
-        return mapper.map(savedTask, TaskDto.class);
+        return mapper.toDto(savedTask);
     }
 
     @Override
     public List<TaskDto> getAllTasks() {
         List<Task> tasks = repository.findAll();
-        return tasks.stream()
-                    .map(task -> mapper.map(task, TaskDto.class))
-                    .collect(Collectors.toList());
+        return mapper.toDtoList(tasks);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponseDto<TaskDto> getTasksPage(int page, int size, String sort, boolean count) {
+        Pageable pageable = PageRequests.of(page, size, sort, maxPageSize, SORTABLE_FIELDS);
+        Slice<Task> tasks = count ? repository.findAll(pageable) : repository.findAllBy(pageable);
+        return PageResponseDto.of(tasks.map(mapper::toDto));
     }
 
     @Override
     public TaskDto getTaskById(Long id) {
         Task task = repository.findById(id)
             .orElseThrow(() -> new IdNotFound("Task with ID " + id + " not found."));
-        return mapper.map(task, TaskDto.class);
+        return mapper.toDto(task);
+    }
+
+    @Override
+    public List<TaskDto> getTasksByIds(List<Long> ids) {
+        if (new LinkedHashSet<>(ids).size() > maxBatchIds) {
+            throw new IllegalArgumentException("At most " + maxBatchIds + " task IDs can be fetched at once.");
+        }
+        List<Task> tasks = repository.findAllById(ids);
+        return mapper.toDtoList(tasks);
+    }
+
+    @Override
+    public TaskDto updateTask(Long id, TaskDto taskDto, Long expectedVersion) {
+        Task task = repository.findById(id)
+            .orElseThrow(() -> new IdNotFound("Task with ID " + id + " not found."));
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new VersionMismatch("Task with ID " + id + " is at version " + task.getVersion()
+                    + ", not " + expectedVersion + ".");
+        }
+        mapper.updateEntity(taskDto, task);
+        // Flushed now so the version returned, and the ETag made from it, already count this update
+        Task updatedTask = repository.saveAndFlush(task);
+        return mapper.toDto(updatedTask);
     }
 
     @Override
-    public TaskDto updateTask(Long id, TaskDto taskDto) {
-        if (!repository.existsById(id)) {
+    public Long patchTask(Long id, TaskDto changes, Long expectedVersion) {
+        if (repository.updateFields(id, changedFields(changes), expectedVersion) == 0) {
+            // Nothing matched: only now is it worth a second query to tell a missing task from a stale If-Match
+            if (expectedVersion != null && repository.existsById(id)) {
+                throw new VersionMismatch("Task with ID " + id + " is not at version " + expectedVersion + ".");
+            }
             throw new IdNotFound("Task with ID " + id + " not found.");
         }
-        Task task = mapper.map(taskDto, Task.class);
-        task.setId(id);
-        Task updatedTask = repository.save(task);
-        return mapper.map(updatedTask, TaskDto.class);
+        return expectedVersion != null ? expectedVersion + 1 : null;
+    }
+
+    // Non-null fields of the patch, each checked against the constraints it carries on TaskDto
+    private Map<String, Object> changedFields(TaskDto changes) {
+        BeanWrapper dto = new BeanWrapperImpl(changes);
+        Map<String, Object> fields = new LinkedHashMap<>();
+        for (String field : PATCHABLE_FIELDS) {
+            Object value = dto.getPropertyValue(field);
+            if (value == null) {
+                continue;
+            }
+            Set<ConstraintViolation<TaskDto>> violations = validator.validateProperty(changes, field);
+            if (!violations.isEmpty()) {
+                throw new IllegalArgumentException(violations.iterator().next().getMessage());
+            }
+            fields.put(field, value);
+        }
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("The patch changes no fields. Patchable fields are " + PATCHABLE_FIELDS + ".");
+        }
+        return fields;
     }
 
     @Override
     public String deleteTask(Long id) {
-        if (!repository.existsById(id)) {
+        if (repository.deleteRowById(id) == 0) {
             throw new IdNotFound("Task with ID " + id + " not found.");
         }
-        repository.deleteById(id);
         return "Task successfully deleted with ID " + id;
     }
+
+    @Override
+    public String deleteTasks(List<Long> ids) {
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        if (distinctIds.isEmpty() || distinctIds.size() > maxDeleteIds) {
+            throw new IllegalArgumentException("Between 1 and " + maxDeleteIds + " task IDs can be deleted at once.");
+        }
+        int deleted = repository.deleteRowsByIdIn(distinctIds);
+        if (deleted == 0) {
+            throw new IdNotFound("None of the tasks with IDs " + distinctIds + " were found.");
+        }
+        return deleted + " of " + distinctIds.size() + " tasks successfully deleted";
+    }
 }
 
 
@@ -0,0 +1,10 @@
+-- Block allocation of task ids (pooled-lo table generator) so inserts can be JDBC-batched.
+-- Seeded past the ids already handed out by AUTO_INCREMENT.
+CREATE TABLE id_generator (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val BIGINT,
+    PRIMARY KEY (sequence_name)
+);
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'task', COALESCE(MAX(id), 0) + 1 FROM task;
@@ -0,0 +1,2 @@
+-- Optimistic locking column behind the ETag and If-Match support of /tasks/{id}
+ALTER TABLE task ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
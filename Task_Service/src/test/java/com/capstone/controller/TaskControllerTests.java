@@ -2,14 +2,20 @@ package com.capstone.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.List;
 
@@ -20,11 +26,18 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.capstone.controller.TaskController;
+import com.capstone.dto.ImportErrorDto;
+import com.capstone.dto.ImportResultDto;
+import com.capstone.dto.PageResponseDto;
 import com.capstone.dto.TaskDto;
+import com.capstone.exception.IdNotFound;
+import com.capstone.exception.VersionMismatch;
+import com.capstone.service.TaskImportService;
 import com.capstone.service.TaskService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -37,6 +50,9 @@ public class TaskControllerTests {
     @MockBean
     private TaskService taskService;
 
+    @MockBean
+    private TaskImportService taskImportService;
+
     private TaskDto taskDto;
 
     @BeforeEach
@@ -81,7 +97,7 @@ public class TaskControllerTests {
     @Test
     @DisplayName("Juit testing for update task operation")
     void updateTaskTest() throws Exception {
-        Mockito.when(taskService.updateTask(anyLong(), any(TaskDto.class))).thenReturn(taskDto);
+        Mockito.when(taskService.updateTask(anyLong(), any(TaskDto.class), isNull())).thenReturn(taskDto);
 
         mockMvc.perform(put("/tasks/1")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -90,6 +106,64 @@ public class TaskControllerTests {
                 .andExpect(jsonPath("$.title").value("Title"));
     }
 
+    @Test
+    @DisplayName("Junit testing for get task by id with a current If-None-Match")
+    void getTaskByIdNotModifiedTest() throws Exception {
+        taskDto.setVersion(3L);
+        Mockito.when(taskService.getTaskById(1L)).thenReturn(taskDto);
+
+        mockMvc.perform(get("/tasks/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+
+        mockMvc.perform(get("/tasks/1").header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Junit testing for update task with If-Match")
+    void updateTaskIfMatchTest() throws Exception {
+        TaskDto updated = new TaskDto(1L, "Title", "Description", "Pending");
+        updated.setVersion(4L);
+        Mockito.when(taskService.updateTask(eq(1L), any(TaskDto.class), eq(3L))).thenReturn(updated);
+        Mockito.when(taskService.updateTask(eq(1L), any(TaskDto.class), eq(2L)))
+                .thenThrow(new VersionMismatch("Task with ID 1 is at version 3, not 2."));
+
+        mockMvc.perform(put("/tasks/1")
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(new ObjectMapper().writeValueAsString(taskDto)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+
+        mockMvc.perform(put("/tasks/1")
+                .header(HttpHeaders.IF_MATCH, "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(new ObjectMapper().writeValueAsString(taskDto)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @DisplayName("Junit testing for patch task operation")
+    void patchTaskTest() throws Exception {
+        Mockito.when(taskService.patchTask(eq(1L), any(TaskDto.class), eq(3L))).thenReturn(4L);
+        Mockito.when(taskService.patchTask(eq(2L), any(TaskDto.class), isNull()))
+                .thenThrow(new IdNotFound("Task with ID 2 not found."));
+
+        mockMvc.perform(patch("/tasks/1")
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"Completed\"}"))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+
+        mockMvc.perform(patch("/tasks/2")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"Completed\"}"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("Junit testing for delete task operation")
     void deleteTaskTest() throws Exception {
@@ -99,4 +173,63 @@ public class TaskControllerTests {
                 .andExpect(status().isOk())
                 .andExpect(content().string("Task successfully deleted with ID 1"));
     }
+
+    @Test
+    @DisplayName("Junit testing for delete tasks by ids")
+    void deleteTasksTest() throws Exception {
+        Mockito.when(taskService.deleteTasks(Arrays.asList(1L, 2L))).thenReturn("2 of 2 tasks successfully deleted");
+
+        mockMvc.perform(delete("/tasks").param("ids", "1", "2"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("2 of 2 tasks successfully deleted"));
+    }
+
+    @Test
+    @DisplayName("Junit testing for get tasks by ids")
+    void getTasksByIdsTest() throws Exception {
+        Mockito.when(taskService.getTasksByIds(Arrays.asList(1L, 2L))).thenReturn(Arrays.asList(taskDto));
+
+        mockMvc.perform(get("/tasks/batch").param("ids", "1", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(1))
+                .andExpect(jsonPath("$[0].title").value("Title"));
+    }
+
+    @Test
+    @DisplayName("Junit testing for get tasks page")
+    void getTasksPageTest() throws Exception {
+        PageResponseDto<TaskDto> page = new PageResponseDto<>(Arrays.asList(taskDto), 0, 20, true, 40L, 2);
+        Mockito.when(taskService.getTasksPage(0, 20, "title,desc", true)).thenReturn(page);
+
+        mockMvc.perform(get("/tasks/page").param("sort", "title,desc").param("count", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Title"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").value(40));
+    }
+
+    @Test
+    @DisplayName("Junit testing for get tasks page with an unknown sort field")
+    void getTasksPageBadSortTest() throws Exception {
+        Mockito.when(taskService.getTasksPage(0, 20, "description", false))
+                .thenThrow(new IllegalArgumentException("Cannot sort by 'description'."));
+
+        mockMvc.perform(get("/tasks/page").param("sort", "description"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Bad request"));
+    }
+
+    @Test
+    @DisplayName("Junit testing for bulk task import")
+    void importTasksTest() throws Exception {
+        ImportResultDto result = new ImportResultDto(2, 1, 1, List.of(new ImportErrorDto(2, "description: Task description cannot be empty.")));
+        Mockito.when(taskImportService.importTasks(any(InputStream.class), startsWith("text/csv"))).thenReturn(result);
+
+        mockMvc.perform(post("/tasks/import")
+                .contentType("text/csv")
+                .content("title,description,status\nTitle,Description,Pending\nReview,,Pending\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.errors[0].row").value(2));
+    }
 }
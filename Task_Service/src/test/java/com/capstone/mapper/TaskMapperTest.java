@@ -0,0 +1,34 @@
+package com.capstone.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.capstone.dto.TaskDto;
+import com.capstone.entity.Task;
+
+public class TaskMapperTest {
+
+    private final TaskMapper taskMapper = new TaskMapperImpl();
+
+    @Test
+    @DisplayName("Junit testing for mapping a task to its dto and back")
+    void toDtoAndBackTest() {
+        Task task = new Task(1L, "Title", "Description", "Pending");
+
+        TaskDto taskDto = taskMapper.toDto(task);
+
+        assertThat(taskDto).isEqualTo(new TaskDto(1L, "Title", "Description", "Pending"));
+        assertThat(taskMapper.toEntity(taskDto)).isEqualTo(task);
+    }
+
+    @Test
+    @DisplayName("Junit testing for mapping null and task lists")
+    void nullAndListTest() {
+        assertThat(taskMapper.toDto(null)).isNull();
+        assertThat(taskMapper.toDtoList(List.of(new Task(), new Task()))).hasSize(2);
+    }
+}
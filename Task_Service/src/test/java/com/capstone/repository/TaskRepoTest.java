@@ -6,18 +6,24 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
 import com.capstone.entity.Task;
 import com.capstone.repository.TaskRepo;
 
 import java.util.List;
+import java.util.Map;
 
-@DataJpaTest
+// application.properties pins the MySQL dialect, whose "delete t1_0 from task t1_0" form H2 does not accept
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
 public class TaskRepoTest {
 
     @Autowired
     private TaskRepo repository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     @DisplayName("JUnit test for saving the task operation")
     public void givenTaskObject_whenSave_thenReturnSavedTaskObject() {
@@ -85,4 +91,52 @@ public class TaskRepoTest {
         assertThat(tasks).hasSize(2);
         assertThat(tasks).extracting(Task::getTitle).containsExactlyInAnyOrder("Task 1", "Task 2");
     }
+
+    @Test
+    @DisplayName("JUnit test for updating only the given fields of a task")
+    public void givenSavedTask_whenUpdateFields_thenChangeOnlyThoseFieldsAndBumpVersion() {
+        // given
+        Task task = repository.saveAndFlush(Task.builder()
+                        .title("Review pull request")
+                        .description("Review the open pull request")
+                        .status("Pending")
+                        .build());
+        entityManager.clear();
+
+        // when
+        int stale = repository.updateFields(task.getId(), Map.of("status", "Completed"), task.getVersion() + 1);
+        int updated = repository.updateFields(task.getId(), Map.of("status", "Completed"), task.getVersion());
+        int missing = repository.updateFields(task.getId() + 1000, Map.of("status", "Completed"), null);
+
+        // then
+        assertThat(stale).isZero();
+        assertThat(updated).isEqualTo(1);
+        assertThat(missing).isZero();
+        Task foundTask = repository.findById(task.getId()).orElseThrow();
+        assertThat(foundTask.getStatus()).isEqualTo("Completed");
+        assertThat(foundTask.getTitle()).isEqualTo("Review pull request");
+        assertThat(foundTask.getVersion()).isEqualTo(task.getVersion() + 1);
+    }
+
+    @Test
+    @DisplayName("JUnit test for deleting tasks by ID without loading them")
+    public void givenSavedTasks_whenDeleteRows_thenReturnRowsRemoved() {
+        // given
+        Task task1 = repository.save(Task.builder().title("Task 1").description("Description 1").status("Pending").build());
+        Task task2 = repository.save(Task.builder().title("Task 2").description("Description 2").status("Pending").build());
+        Task task3 = repository.save(Task.builder().title("Task 3").description("Description 3").status("Pending").build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        int deleted = repository.deleteRowById(task1.getId());
+        int deletedAgain = repository.deleteRowById(task1.getId());
+        int bulkDeleted = repository.deleteRowsByIdIn(List.of(task2.getId(), task3.getId(), task3.getId() + 1000));
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(deletedAgain).isZero();
+        assertThat(bulkDeleted).isEqualTo(2);
+        assertThat(repository.count()).isZero();
+    }
 }
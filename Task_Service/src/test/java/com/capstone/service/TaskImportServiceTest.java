@@ -0,0 +1,67 @@
+package com.capstone.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.capstone.dto.ImportResultDto;
+import com.capstone.entity.Task;
+import com.capstone.mapper.TaskMapperImpl;
+import com.capstone.repository.TaskRepo;
+
+// Runs this module's copy of BulkImporter against H2 with the real mapper, id generator and chunk transactions.
+// Not wrapped in a test transaction: the import commits its own chunks, so the rows are removed afterwards.
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration({ ValidationAutoConfiguration.class, JacksonAutoConfiguration.class })
+@Import({ TaskImportService.class, TaskMapperImpl.class })
+public class TaskImportServiceTest {
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Autowired
+    private TaskRepo taskRepo;
+
+    @AfterEach
+    public void cleanup() {
+        taskRepo.deleteAll();
+    }
+
+    @Test
+    public void testImportTasks_CsvWithBadRowsAndMultiLineField() throws IOException {
+        String csv = "title,description,status\r\n"
+            + "Push code,\"Build the release\r\nthen push it\",Pending\r\n"
+            + "Review,,Pending\r\n"
+            + "Too long," + "x".repeat(300) + ",Pending\r\n"
+            + "\"Docs, part 2\",Write and review the documentation,In Progress\r\n";
+
+        ImportResultDto result = taskImportService.importTasks(
+            new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), "text/csv");
+
+        assertThat(result.getReceived()).isEqualTo(4);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(2);
+        // Row 3 passes validation but not the 255 character column, so its chunk is retried row by row
+        assertThat(result.getErrors()).extracting("row").containsExactly(2L, 3L);
+        List<Task> saved = taskRepo.findAll(Sort.by("id"));
+        assertThat(saved).extracting("title").containsExactly("Push code", "Docs, part 2");
+        assertThat(saved.get(0).getDescription()).isEqualTo("Build the release\r\nthen push it");
+        assertThat(saved).allSatisfy(task -> assertThat(task.getVersion()).isZero());
+    }
+}
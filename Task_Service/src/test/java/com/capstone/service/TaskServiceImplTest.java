@@ -3,13 +3,17 @@ package com.capstone.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -18,15 +22,27 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import com.capstone.dto.PageResponseDto;
 import com.capstone.dto.TaskDto;
 import com.capstone.entity.Task;
 import com.capstone.exception.IdNotFound;
+import com.capstone.exception.VersionMismatch;
+import com.capstone.mapper.TaskMapper;
 import com.capstone.repository.TaskRepo;
 import com.capstone.service.TaskServiceImpl;
 
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
 @ExtendWith(MockitoExtension.class)
 public class TaskServiceImplTest {
 
@@ -34,7 +50,10 @@ public class TaskServiceImplTest {
     private TaskRepo taskRepo;
 
     @Mock
-    private ModelMapper modelMapper;
+    private TaskMapper taskMapper;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
 
     @InjectMocks
     private TaskServiceImpl taskService;
@@ -51,9 +70,9 @@ public class TaskServiceImplTest {
     @Test
     @DisplayName("junit testing for createTask")
     void testCreateTask() {
-        when(modelMapper.map(any(TaskDto.class), eq(Task.class))).thenReturn(task);
+        when(taskMapper.toEntity(any(TaskDto.class))).thenReturn(task);
         when(taskRepo.save(any(Task.class))).thenReturn(task);
-        when(modelMapper.map(any(Task.class), eq(TaskDto.class))).thenReturn(taskDto);
+        when(taskMapper.toDto(any(Task.class))).thenReturn(taskDto);
 
         TaskDto result = taskService.createTask(taskDto);
 
@@ -67,7 +86,7 @@ public class TaskServiceImplTest {
         List<Task> tasks = new ArrayList<>();
         tasks.add(task);
         when(taskRepo.findAll()).thenReturn(tasks);
-        when(modelMapper.map(any(Task.class), eq(TaskDto.class))).thenReturn(taskDto);
+        when(taskMapper.toDtoList(tasks)).thenReturn(List.of(taskDto));
 
         List<TaskDto> result = taskService.getAllTasks();
 
@@ -80,7 +99,7 @@ public class TaskServiceImplTest {
     @DisplayName("junit tetsing for get task by id")
     void testGetTaskById() {
         when(taskRepo.findById(1L)).thenReturn(Optional.of(task));
-        when(modelMapper.map(any(Task.class), eq(TaskDto.class))).thenReturn(taskDto);
+        when(taskMapper.toDto(any(Task.class))).thenReturn(taskDto);
 
         TaskDto result = taskService.getTaskById(1L);
 
@@ -100,41 +119,173 @@ public class TaskServiceImplTest {
     @Test
     @DisplayName("junit testing for update task")
     void testUpdateTask() {
-        when(taskRepo.existsById(1L)).thenReturn(true);
-        when(taskRepo.save(any(Task.class))).thenReturn(task);
-        when(modelMapper.map(any(TaskDto.class), eq(Task.class))).thenReturn(task);
-        when(modelMapper.map(any(Task.class), eq(TaskDto.class))).thenReturn(taskDto);
+        when(taskRepo.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepo.saveAndFlush(any(Task.class))).thenReturn(task);
+        when(taskMapper.toDto(any(Task.class))).thenReturn(taskDto);
 
-        TaskDto result = taskService.updateTask(1L, taskDto);
+        TaskDto result = taskService.updateTask(1L, taskDto, null);
 
         assertThat(result.getTitle()).isEqualTo("Test Task");
-        verify(taskRepo, times(1)).save(any(Task.class));
+        verify(taskMapper, times(1)).updateEntity(taskDto, task);
+        verify(taskRepo, times(1)).saveAndFlush(any(Task.class));
+    }
+
+    @Test
+    @DisplayName("junit testing for update task with a stale If-Match version")
+    void testUpdateTask_VersionMismatch() {
+        task.setVersion(3L);
+        when(taskRepo.findById(1L)).thenReturn(Optional.of(task));
+
+        assertThrows(VersionMismatch.class, () -> taskService.updateTask(1L, taskDto, 2L));
+        verify(taskRepo, never()).saveAndFlush(any(Task.class));
+    }
+
+    @Test
+    @DisplayName("junit testing for patch task writing only the fields sent")
+    void testPatchTask() {
+        TaskDto changes = new TaskDto();
+        changes.setStatus("Completed");
+        when(taskRepo.updateFields(1L, Map.of("status", "Completed"), 3L)).thenReturn(1);
+
+        Long version = taskService.patchTask(1L, changes, 3L);
+
+        assertThat(version).isEqualTo(4L);
+        verify(taskRepo, never()).findById(anyLong());
+        verify(taskRepo, never()).existsById(anyLong());
+    }
+
+    @Test
+    @DisplayName("junit testing for patch task telling a missing task from a stale If-Match version")
+    void testPatchTask_NoRowUpdated() {
+        TaskDto changes = new TaskDto();
+        changes.setStatus("Completed");
+        when(taskRepo.updateFields(1L, Map.of("status", "Completed"), null)).thenReturn(0);
+        when(taskRepo.updateFields(2L, Map.of("status", "Completed"), 3L)).thenReturn(0);
+        when(taskRepo.existsById(2L)).thenReturn(true);
+
+        assertThrows(IdNotFound.class, () -> taskService.patchTask(1L, changes, null));
+        assertThrows(VersionMismatch.class, () -> taskService.patchTask(2L, changes, 3L));
+    }
+
+    @Test
+    @DisplayName("junit testing for patch task rejecting blank or empty patches")
+    void testPatchTask_Invalid() {
+        TaskDto blankTitle = new TaskDto();
+        blankTitle.setTitle("");
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.patchTask(1L, blankTitle, null));
+        assertThrows(IllegalArgumentException.class, () -> taskService.patchTask(1L, new TaskDto(), null));
+        verify(taskRepo, never()).updateFields(anyLong(), anyMap(), any());
     }
 
     @Test
     @DisplayName("junit testing for updated task not found")
     void testUpdateTask_NotFound() {
-        when(taskRepo.existsById(1L)).thenReturn(false);
+        when(taskRepo.findById(1L)).thenReturn(Optional.empty());
 
-        assertThrows(IdNotFound.class, () -> taskService.updateTask(1L, taskDto));
+        assertThrows(IdNotFound.class, () -> taskService.updateTask(1L, taskDto, null));
     }
 
     @Test
     @DisplayName("junit testing for delete task operation")
     void testDeleteTask() {
-        when(taskRepo.existsById(1L)).thenReturn(true);
+        when(taskRepo.deleteRowById(1L)).thenReturn(1);
 
         String result = taskService.deleteTask(1L);
 
         assertThat(result).isEqualTo("Task successfully deleted with ID 1");
-        verify(taskRepo, times(1)).deleteById(1L);
+        verify(taskRepo, never()).existsById(anyLong());
+        verify(taskRepo, never()).deleteById(anyLong());
     }
 
     @Test
     @DisplayName("junit test for task not found by id while delete operation")
     void testDeleteTask_NotFound() {
-        when(taskRepo.existsById(1L)).thenReturn(false);
+        when(taskRepo.deleteRowById(1L)).thenReturn(0);
 
         assertThrows(IdNotFound.class, () -> taskService.deleteTask(1L));
     }
+
+    @Test
+    @DisplayName("junit testing for deleting several tasks in one statement")
+    void testDeleteTasks() {
+        ReflectionTestUtils.setField(taskService, "maxDeleteIds", 500);
+        when(taskRepo.deleteRowsByIdIn(Set.of(1L, 2L, 3L))).thenReturn(2);
+        when(taskRepo.deleteRowsByIdIn(Set.of(4L))).thenReturn(0);
+
+        assertThat(taskService.deleteTasks(List.of(1L, 2L, 3L, 2L))).isEqualTo("2 of 3 tasks successfully deleted");
+        assertThrows(IdNotFound.class, () -> taskService.deleteTasks(List.of(4L)));
+    }
+
+    @Test
+    @DisplayName("junit testing for rejecting an empty or oversized bulk delete")
+    void testDeleteTasks_InvalidSize() {
+        ReflectionTestUtils.setField(taskService, "maxDeleteIds", 2);
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.deleteTasks(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> taskService.deleteTasks(List.of(1L, 2L, 3L)));
+        verify(taskRepo, never()).deleteRowsByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("Junit testing for get tasks by ids")
+    void getTasksByIdsTest() {
+        ReflectionTestUtils.setField(taskService, "maxBatchIds", 500);
+        List<Long> ids = List.of(1L, 2L);
+        when(taskRepo.findAllById(ids)).thenReturn(List.of(task));
+        when(taskMapper.toDtoList(List.of(task))).thenReturn(List.of(taskDto));
+
+        List<TaskDto> result = taskService.getTasksByIds(ids);
+
+        assertThat(result).containsExactly(taskDto);
+        verify(taskRepo, times(1)).findAllById(ids);
+    }
+
+    @Test
+    @DisplayName("Junit testing for get tasks by too many ids")
+    void getTasksByIdsTooManyTest() {
+        ReflectionTestUtils.setField(taskService, "maxBatchIds", 2);
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.getTasksByIds(List.of(1L, 2L, 3L)));
+        verify(taskRepo, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("Junit testing for get tasks page without a count query")
+    void getTasksPageSliceTest() {
+        ReflectionTestUtils.setField(taskService, "maxPageSize", 500);
+        Pageable pageable = PageRequest.of(1, 10, Sort.by(Sort.Direction.ASC, "status").and(Sort.by("id")));
+        when(taskRepo.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(task), pageable, false));
+        when(taskMapper.toDto(task)).thenReturn(taskDto);
+
+        PageResponseDto<TaskDto> result = taskService.getTasksPage(1, 10, "status", false);
+
+        assertThat(result.getContent()).containsExactly(taskDto);
+        assertThat(result.getPage()).isEqualTo(1);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getTotalElements()).isNull();
+    }
+
+    @Test
+    @DisplayName("Junit testing for get tasks page with totals")
+    void getTasksPageCountTest() {
+        ReflectionTestUtils.setField(taskService, "maxPageSize", 500);
+        Pageable pageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "id"));
+        when(taskRepo.findAll(pageable)).thenReturn(new PageImpl<>(List.of(task), pageable, 3));
+        when(taskMapper.toDto(task)).thenReturn(taskDto);
+
+        PageResponseDto<TaskDto> result = taskService.getTasksPage(0, 1, "id,desc", true);
+
+        assertThat(result.getTotalElements()).isEqualTo(3L);
+        assertThat(result.getTotalPages()).isEqualTo(3);
+        assertThat(result.isHasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Junit testing for get tasks page with an oversized page")
+    void getTasksPageTooLargeTest() {
+        ReflectionTestUtils.setField(taskService, "maxPageSize", 500);
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.getTasksPage(0, 501, "id", false));
+    }
 }